@@ -0,0 +1,122 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.CommentGeneratorConfiguration;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.JDBCConnectionConfiguration;
+import org.mybatis.generator.config.JavaClientGeneratorConfiguration;
+import org.mybatis.generator.config.JavaModelGeneratorConfiguration;
+import org.mybatis.generator.config.ModelType;
+import org.mybatis.generator.config.SqlMapGeneratorConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+/**
+ * Builds generator configurations for the tables created by {@link BenchmarkDatabase}.
+ */
+final class BenchmarkConfigurations {
+
+    private BenchmarkConfigurations() {
+        super();
+    }
+
+    /**
+     * Creates a configuration with one context that generates all the tables of a benchmark database.
+     *
+     * @param url
+     *            the JDBC URL of the database
+     * @param targetRuntime
+     *            the target runtime of the context
+     * @param tables
+     *            the number of tables in the database
+     * @return the configuration
+     */
+    static Configuration create(String url, String targetRuntime, int tables) {
+        Context context = new Context(ModelType.CONDITIONAL);
+        context.setId("benchmark"); //$NON-NLS-1$
+        context.setTargetRuntime(targetRuntime);
+
+        CommentGeneratorConfiguration commentGeneratorConfiguration = new CommentGeneratorConfiguration();
+        commentGeneratorConfiguration.addProperty("suppressDate", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+        context.setCommentGeneratorConfiguration(commentGeneratorConfiguration);
+
+        JDBCConnectionConfiguration jdbcConnectionConfiguration = new JDBCConnectionConfiguration();
+        jdbcConnectionConfiguration.setDriverClass(BenchmarkDatabase.DRIVER_CLASS);
+        jdbcConnectionConfiguration.setConnectionURL(url);
+        jdbcConnectionConfiguration.setUserId(BenchmarkDatabase.USER_ID);
+        context.setJdbcConnectionConfiguration(jdbcConnectionConfiguration);
+
+        JavaModelGeneratorConfiguration javaModelGeneratorConfiguration = new JavaModelGeneratorConfiguration();
+        javaModelGeneratorConfiguration.setTargetPackage("benchmark.model"); //$NON-NLS-1$
+        javaModelGeneratorConfiguration.setTargetProject("target"); //$NON-NLS-1$
+        context.setJavaModelGeneratorConfiguration(javaModelGeneratorConfiguration);
+
+        if (!"MyBatis3DynamicSql".equals(targetRuntime)) { //$NON-NLS-1$
+            SqlMapGeneratorConfiguration sqlMapGeneratorConfiguration = new SqlMapGeneratorConfiguration();
+            sqlMapGeneratorConfiguration.setTargetPackage("benchmark.mapper"); //$NON-NLS-1$
+            sqlMapGeneratorConfiguration.setTargetProject("target"); //$NON-NLS-1$
+            context.setSqlMapGeneratorConfiguration(sqlMapGeneratorConfiguration);
+        }
+
+        JavaClientGeneratorConfiguration javaClientGeneratorConfiguration = new JavaClientGeneratorConfiguration();
+        javaClientGeneratorConfiguration.setTargetPackage("benchmark.mapper"); //$NON-NLS-1$
+        javaClientGeneratorConfiguration.setTargetProject("target"); //$NON-NLS-1$
+        if ("MyBatis3DynamicSql".equals(targetRuntime)) { //$NON-NLS-1$
+            javaClientGeneratorConfiguration.setConfigurationType("ANNOTATEDMAPPER"); //$NON-NLS-1$
+        } else {
+            javaClientGeneratorConfiguration.setConfigurationType("XMLMAPPER"); //$NON-NLS-1$
+        }
+        context.setJavaClientGeneratorConfiguration(javaClientGeneratorConfiguration);
+
+        for (int table = 0; table < tables; table++) {
+            TableConfiguration tableConfiguration = new TableConfiguration(context);
+            tableConfiguration.setTableName(BenchmarkDatabase.getTableName(table));
+            context.addTableConfiguration(tableConfiguration);
+        }
+
+        Configuration configuration = new Configuration();
+        configuration.addContext(context);
+        return configuration;
+    }
+
+    /**
+     * Runs the generator without writing any files. The generated files can be retrieved
+     * from the returned generator.
+     *
+     * @param configuration
+     *            the configuration
+     * @return the generator
+     * @throws Exception
+     *             if generation fails
+     */
+    static MyBatisGenerator generate(Configuration configuration) throws Exception {
+        List<String> warnings = new ArrayList<>();
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(configuration,
+                new DefaultShellCallback(true), warnings);
+        myBatisGenerator.generate(null, null, null, false);
+        if (myBatisGenerator.getGeneratedJavaFiles().isEmpty()) {
+            throw new SQLException("No files were generated: " + warnings); //$NON-NLS-1$
+        }
+        return myBatisGenerator;
+    }
+}
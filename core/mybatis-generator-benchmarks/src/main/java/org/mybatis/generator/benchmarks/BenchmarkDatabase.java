@@ -0,0 +1,92 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Creates in-memory HSQLDB databases with synthetic tables. Every table has an integer primary
+ * key and the requested number of other columns, which cycle through the common JDBC types -
+ * including a LONGVARCHAR column that the generator treats as a BLOB.
+ */
+final class BenchmarkDatabase {
+
+    static final String DRIVER_CLASS = "org.hsqldb.jdbcDriver"; //$NON-NLS-1$
+    static final String USER_ID = "sa"; //$NON-NLS-1$
+
+    private static final String[] COLUMN_TYPES = {
+        "VARCHAR(50)", //$NON-NLS-1$
+        "INTEGER", //$NON-NLS-1$
+        "DECIMAL(10,2)", //$NON-NLS-1$
+        "TIMESTAMP", //$NON-NLS-1$
+        "BIGINT", //$NON-NLS-1$
+        "CHAR(1)", //$NON-NLS-1$
+        "DATE", //$NON-NLS-1$
+        "LONGVARCHAR" //$NON-NLS-1$
+    };
+
+    private BenchmarkDatabase() {
+        super();
+    }
+
+    /**
+     * Creates (or replaces) the tables BENCH_TABLE_0 to BENCH_TABLE_(tables - 1).
+     *
+     * @param name
+     *            the database name
+     * @param tables
+     *            the number of tables
+     * @param columns
+     *            the number of columns in each table, in addition to the primary key
+     * @return the JDBC URL of the database
+     * @throws SQLException
+     *             if the tables cannot be created
+     */
+    static String create(String name, int tables, int columns) throws SQLException {
+        String url = "jdbc:hsqldb:mem:" + name; //$NON-NLS-1$
+        try (Connection connection = DriverManager.getConnection(url, USER_ID, ""); //$NON-NLS-1$
+                Statement statement = connection.createStatement()) {
+            for (int table = 0; table < tables; table++) {
+                statement.execute("drop table " + getTableName(table) + " if exists"); //$NON-NLS-1$ //$NON-NLS-2$
+                statement.execute(getCreateTableStatement(table, columns));
+            }
+        }
+
+        return url;
+    }
+
+    static String getTableName(int table) {
+        return "BENCH_TABLE_" + table; //$NON-NLS-1$
+    }
+
+    private static String getCreateTableStatement(int table, int columns) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("create table "); //$NON-NLS-1$
+        sb.append(getTableName(table));
+        sb.append(" (ID INTEGER not null primary key"); //$NON-NLS-1$
+        for (int column = 0; column < columns; column++) {
+            sb.append(", COLUMN_"); //$NON-NLS-1$
+            sb.append(column);
+            sb.append(' ');
+            sb.append(COLUMN_TYPES[column % COLUMN_TYPES.length]);
+        }
+        sb.append(')');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs the benchmarks with the JMH command line. Unless the command line specifies a result
+ * format, results are written as JSON to <code>target/jmh-result-(version).json</code>, so that
+ * runs of different releases can be compared with each other (or loaded in a JMH visualizer).
+ *
+ * <p>Unless the command line specifies a profiler, the GC profiler is enabled so that the results
+ * include the bytes allocated per operation (gc.alloc.rate.norm).
+ */
+public class BenchmarkMain {
+
+    /**
+     * Utility class. No instances allowed.
+     */
+    private BenchmarkMain() {
+        super();
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-rf")) { //$NON-NLS-1$
+            arguments.add(0, "-rf"); //$NON-NLS-1$
+            arguments.add(1, "json"); //$NON-NLS-1$
+            if (!arguments.contains("-rff")) { //$NON-NLS-1$
+                arguments.add(2, "-rff"); //$NON-NLS-1$
+                arguments.add(3, "target/jmh-result-" + getVersion() + ".json"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+
+        if (!arguments.contains("-prof")) { //$NON-NLS-1$
+            arguments.add("-prof"); //$NON-NLS-1$
+            arguments.add("gc"); //$NON-NLS-1$
+        }
+
+        Main.main(arguments.toArray(new String[arguments.size()]));
+    }
+
+    private static String getVersion() {
+        String version = BenchmarkMain.class.getPackage().getImplementationVersion();
+        return version == null ? "dev" : version; //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures DefaultJavaFormatter and DefaultXmlFormatter on the files generated for one wide table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatterBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int columns;
+
+    private List<GeneratedJavaFile> generatedJavaFiles;
+
+    private List<GeneratedXmlFile> generatedXmlFiles;
+
+    @Setup
+    public void setup() throws Exception {
+        String url = BenchmarkDatabase.create("format_" + columns, 1, columns); //$NON-NLS-1$
+        MyBatisGenerator myBatisGenerator = BenchmarkConfigurations.generate(
+                BenchmarkConfigurations.create(url, "MyBatis3", 1)); //$NON-NLS-1$
+        generatedJavaFiles = myBatisGenerator.getGeneratedJavaFiles();
+        generatedXmlFiles = myBatisGenerator.getGeneratedXmlFiles();
+    }
+
+    @Benchmark
+    public void formatJava(Blackhole blackhole) {
+        for (GeneratedJavaFile generatedJavaFile : generatedJavaFiles) {
+            blackhole.consume(generatedJavaFile.getFormattedContent());
+        }
+    }
+
+    @Benchmark
+    public void formatXml(Blackhole blackhole) {
+        for (GeneratedXmlFile generatedXmlFile : generatedXmlFiles) {
+            blackhole.consume(generatedXmlFile.getFormattedContent());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing of type specifications, and lookup of the shared immutable instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FullyQualifiedJavaTypeBenchmark {
+
+    @Param({
+        "int",
+        "java.lang.String",
+        "java.util.List<com.example.Customer>",
+        "java.util.Map<java.lang.String, java.util.List<? extends com.example.Customer>>"
+    })
+    private String specification;
+
+    @Benchmark
+    public String parse() {
+        FullyQualifiedJavaType type = new FullyQualifiedJavaType(specification);
+        return type.getShortName();
+    }
+
+    @Benchmark
+    public String sharedInstance() {
+        FullyQualifiedJavaType type = FullyQualifiedJavaType.getSharedInstance(specification);
+        return type.getShortName();
+    }
+}
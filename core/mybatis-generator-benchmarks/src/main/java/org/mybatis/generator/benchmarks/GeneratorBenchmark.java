@@ -0,0 +1,78 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures a complete generator run - introspection of an in-memory HSQLDB database, code
+ * generation, and rendering of every generated file. Files are not written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    @Param({"MyBatis3", "MyBatis3Simple", "MyBatis3DynamicSql"})
+    private String targetRuntime;
+
+    @Param({"20"})
+    private int tables;
+
+    @Param({"10", "100"})
+    private int columns;
+
+    private Configuration configuration;
+
+    @Setup
+    public void setup() throws Exception {
+        String url = BenchmarkDatabase.create("generate_" + tables + '_' + columns, tables, columns); //$NON-NLS-1$
+        configuration = BenchmarkConfigurations.create(url, targetRuntime, tables);
+    }
+
+    @Benchmark
+    public void generate(Blackhole blackhole) throws Exception {
+        MyBatisGenerator myBatisGenerator = BenchmarkConfigurations.generate(configuration);
+
+        for (GeneratedJavaFile generatedJavaFile : myBatisGenerator.getGeneratedJavaFiles()) {
+            blackhole.consume(generatedJavaFile.getFormattedContent());
+        }
+
+        for (GeneratedXmlFile generatedXmlFile : myBatisGenerator.getGeneratedXmlFiles()) {
+            blackhole.consume(generatedXmlFile.getFormattedContent());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.Plugin;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.Field;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.internal.PluginAggregator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the plugin hook calls made while generating one table, with per-hook dispatch and
+ * with every plugin called for every hook. Each configured plugin overrides a single hook, as
+ * most plugins do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PluginDispatchBenchmark {
+
+    /** The number of columns in the simulated table. */
+    private static final int COLUMNS = 20;
+
+    @Param({"true", "false"})
+    private boolean dispatchByHook;
+
+    @Param({"20"})
+    private int plugins;
+
+    private PluginAggregator pluginAggregator;
+
+    @Setup
+    public void setup() {
+        pluginAggregator = new PluginAggregator(dispatchByHook);
+        for (int i = 0; i < plugins; i++) {
+            pluginAggregator.addPlugin(createPlugin(i));
+        }
+    }
+
+    @Benchmark
+    public boolean generateTable() {
+        boolean rc = true;
+
+        for (int i = 0; i < COLUMNS; i++) {
+            rc &= pluginAggregator.modelFieldGenerated(null, null, null, null, null);
+            rc &= pluginAggregator.modelGetterMethodGenerated(null, null, null, null, null);
+            rc &= pluginAggregator.modelSetterMethodGenerated(null, null, null, null, null);
+        }
+
+        rc &= pluginAggregator.modelBaseRecordClassGenerated(null, null);
+        rc &= pluginAggregator.modelExampleClassGenerated(null, null);
+        rc &= pluginAggregator.modelPrimaryKeyClassGenerated(null, null);
+        rc &= pluginAggregator.clientGenerated(null, null);
+        rc &= pluginAggregator.clientInsertMethodGenerated(null, null, null);
+        rc &= pluginAggregator.clientInsertSelectiveMethodGenerated(null, null, null);
+        rc &= pluginAggregator.clientDeleteByPrimaryKeyMethodGenerated(null, null, null);
+        rc &= pluginAggregator.clientSelectByPrimaryKeyMethodGenerated(null, null, null);
+        rc &= pluginAggregator.clientUpdateByPrimaryKeySelectiveMethodGenerated(null, null, null);
+        rc &= pluginAggregator.sqlMapResultMapWithoutBLOBsElementGenerated(null, null);
+        rc &= pluginAggregator.sqlMapBaseColumnListElementGenerated(null, null);
+        rc &= pluginAggregator.sqlMapInsertElementGenerated(null, null);
+        rc &= pluginAggregator.sqlMapInsertSelectiveElementGenerated(null, null);
+        rc &= pluginAggregator.sqlMapDeleteByPrimaryKeyElementGenerated(null, null);
+        rc &= pluginAggregator.sqlMapSelectByPrimaryKeyElementGenerated(null, null);
+        rc &= pluginAggregator.sqlMapUpdateByPrimaryKeySelectiveElementGenerated(null, null);
+        rc &= pluginAggregator.sqlMapDocumentGenerated(null, null);
+
+        return rc;
+    }
+
+    private static Plugin createPlugin(int index) {
+        switch (index % 4) {
+        case 0:
+            return new FieldPlugin();
+        case 1:
+            return new ModelClassPlugin();
+        case 2:
+            return new ClientPlugin();
+        default:
+            return new SqlMapPlugin();
+        }
+    }
+
+    private abstract static class BenchmarkPlugin extends PluginAdapter {
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+    }
+
+    private static class FieldPlugin extends BenchmarkPlugin {
+        @Override
+        public boolean modelFieldGenerated(Field field, TopLevelClass topLevelClass,
+                IntrospectedColumn introspectedColumn,
+                IntrospectedTable introspectedTable, ModelClassType modelClassType) {
+            return field == null;
+        }
+    }
+
+    private static class ModelClassPlugin extends BenchmarkPlugin {
+        @Override
+        public boolean modelBaseRecordClassGenerated(TopLevelClass topLevelClass,
+                IntrospectedTable introspectedTable) {
+            return topLevelClass == null;
+        }
+    }
+
+    private static class ClientPlugin extends BenchmarkPlugin {
+        @Override
+        public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
+            return interfaze == null;
+        }
+
+        @Override
+        public boolean clientInsertMethodGenerated(Method method, Interface interfaze,
+                IntrospectedTable introspectedTable) {
+            return method == null;
+        }
+    }
+
+    private static class SqlMapPlugin extends BenchmarkPlugin {
+        @Override
+        public boolean sqlMapInsertElementGenerated(XmlElement element,
+                IntrospectedTable introspectedTable) {
+            return element == null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.internal.XmlFileMergerJaxp;
+import org.mybatis.generator.internal.XmlFileMergerStax;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures merging a generated mapper file into an existing file that contains one
+ * user written element, with the DOM merger and with the streaming merger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlMergeBenchmark {
+
+    private static final String CUSTOM_ELEMENT =
+            "  <select id=\"selectCustom\" resultType=\"java.lang.Integer\">\n" //$NON-NLS-1$
+            + "    select count(*) from CUSTOM\n" //$NON-NLS-1$
+            + "  </select>\n"; //$NON-NLS-1$
+
+    @Param({"10", "100", "500"})
+    private int columns;
+
+    private GeneratedXmlFile generatedXmlFile;
+
+    private File existingFile;
+
+    @Setup
+    public void setup() throws Exception {
+        String url = BenchmarkDatabase.create("merge_" + columns, 1, columns); //$NON-NLS-1$
+        MyBatisGenerator myBatisGenerator = BenchmarkConfigurations.generate(
+                BenchmarkConfigurations.create(url, "MyBatis3", 1)); //$NON-NLS-1$
+        generatedXmlFile = myBatisGenerator.getGeneratedXmlFiles().get(0);
+
+        String content = generatedXmlFile.getFormattedContent();
+        int index = content.lastIndexOf("</mapper>"); //$NON-NLS-1$
+        String existingContent = content.substring(0, index) + CUSTOM_ELEMENT + content.substring(index);
+
+        existingFile = File.createTempFile("mapper", ".xml"); //$NON-NLS-1$ //$NON-NLS-2$
+        Files.write(existingFile.toPath(), existingContent.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown
+    public void tearDown() {
+        existingFile.delete();
+    }
+
+    @Benchmark
+    public String domMerge() throws Exception {
+        return XmlFileMergerJaxp.getMergedSource(generatedXmlFile, existingFile);
+    }
+
+    @Benchmark
+    public String streamingMerge() throws Exception {
+        return XmlFileMergerStax.getMergedSource(generatedXmlFile, existingFile);
+    }
+}
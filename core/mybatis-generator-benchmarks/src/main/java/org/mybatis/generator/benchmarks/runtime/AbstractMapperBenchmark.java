@@ -0,0 +1,153 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks.runtime;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mbg.test.common.util.TestUtilities;
+
+/**
+ * Base class for benchmarks of the generated mappers. It creates the system test schema in an
+ * in-memory HSQLDB database and fills the PKFields table with {@value #ROWS} rows.
+ *
+ * <p>The local session cache is limited to single statements, so repeated selects always go
+ * to the database.
+ *
+ * @param <T>
+ *            the type of mapper operations the benchmark needs
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractMapperBenchmark<T extends MapperOperations> {
+
+    protected static final int ROWS = 1000;
+
+    private static final int FIRST_INSERTED_ID = 1_000_000;
+    private static final String[] LAST_NAMES = {
+        "Smith", //$NON-NLS-1$
+        "Jones", //$NON-NLS-1$
+        "Johnson", //$NON-NLS-1$
+        "Brown" //$NON-NLS-1$
+    };
+
+    protected T operations;
+
+    private final Class<T> operationsType;
+
+    private SqlSession sqlSession;
+
+    private int row;
+
+    private int nextInsertedId = FIRST_INSERTED_ID;
+
+    protected AbstractMapperBenchmark(Class<T> operationsType) {
+        this.operationsType = operationsType;
+    }
+
+    /**
+     * Returns the mapper type to benchmark: xml, annotated, mixed, simple, or dsql.
+     */
+    protected abstract String getMapperType();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        TestUtilities.createDatabase();
+
+        PooledDataSource dataSource = new PooledDataSource("org.hsqldb.jdbcDriver", //$NON-NLS-1$
+                "jdbc:hsqldb:mem:aname", "sa", ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        Configuration configuration = new Configuration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource)); //$NON-NLS-1$
+        configuration.setLocalCacheScope(LocalCacheScope.STATEMENT);
+        sqlSession = new SqlSessionFactoryBuilder().build(configuration).openSession(true);
+        operations = operationsType.cast(createOperations(getMapperType(), sqlSession));
+
+        for (int i = 0; i < ROWS; i++) {
+            operations.insertSelective(i, i % 10, "Fred", LAST_NAMES[i % LAST_NAMES.length]); //$NON-NLS-1$
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedRows() throws SQLException {
+        try (Statement statement = sqlSession.getConnection().createStatement()) {
+            statement.executeUpdate("delete from PKFields where id1 >= " + FIRST_INSERTED_ID); //$NON-NLS-1$
+        }
+        nextInsertedId = FIRST_INSERTED_ID;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sqlSession.close();
+    }
+
+    /**
+     * Returns the ID1 of the next seeded row, cycling through all of them. The ID2 of a seeded
+     * row is its ID1 modulo 10.
+     */
+    protected int nextRow() {
+        row = (row + 1) % ROWS;
+        return row;
+    }
+
+    /**
+     * Returns an ID1 that is not used yet. Rows inserted with these IDs are deleted after every
+     * iteration, so the table does not grow during a run.
+     */
+    protected int nextInsertedId() {
+        return nextInsertedId++;
+    }
+
+    private static MapperOperations createOperations(String mapperType, SqlSession sqlSession) {
+        switch (mapperType) {
+        case "xml": //$NON-NLS-1$
+            return new XmlMapperOperations(sqlSession);
+        case "annotated": //$NON-NLS-1$
+            return new AnnotatedMapperOperations(sqlSession);
+        case "mixed": //$NON-NLS-1$
+            return new MixedMapperOperations(sqlSession);
+        case "simple": //$NON-NLS-1$
+            return new SimpleMapperOperations(sqlSession);
+        case "dsql": //$NON-NLS-1$
+            return new DynamicSqlMapperOperations(sqlSession);
+        default:
+            throw new IllegalArgumentException("Unknown mapper type: " + mapperType); //$NON-NLS-1$
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks.runtime;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures selects and updates with several criteria. MyBatis3Simple does not generate
+ * example based statements, so it is not part of this benchmark.
+ */
+public class ExampleBenchmark extends AbstractMapperBenchmark<ExampleMapperOperations> {
+
+    @Param({"xml", "annotated", "mixed", "dsql"})
+    private String mapperType;
+
+    public ExampleBenchmark() {
+        super(ExampleMapperOperations.class);
+    }
+
+    @Override
+    protected String getMapperType() {
+        return mapperType;
+    }
+
+    @Benchmark
+    public List<?> selectByExample() {
+        int fromId1 = nextRow();
+        return operations.selectByExample("J%", fromId1, fromId1 + 20); //$NON-NLS-1$
+    }
+
+    @Benchmark
+    public int updateByExampleSelective() {
+        int fromId1 = nextRow();
+        return operations.updateByExampleSelective("Wilma", "J%", fromId1, fromId1 + 10); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks.runtime;
+
+import java.util.List;
+
+/**
+ * The example based mapper operations. Only the runtimes that generate example classes or a
+ * dynamic where clause implement this interface.
+ */
+public interface ExampleMapperOperations extends MapperOperations {
+
+    /**
+     * Selects the rows with a last name matching the pattern, an ID1 in the range, and a first name.
+     */
+    List<?> selectByExample(String lastNamePattern, int fromId1, int toId1);
+
+    /**
+     * Sets the first name of the rows with a last name matching the pattern and an ID1 in the range.
+     */
+    int updateByExampleSelective(String firstName, String lastNamePattern, int fromId1, int toId1);
+}
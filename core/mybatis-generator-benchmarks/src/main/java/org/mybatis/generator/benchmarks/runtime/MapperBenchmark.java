@@ -0,0 +1,49 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks.runtime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the operations that every runtime generates. MyBatis3Simple does not generate
+ * selective inserts, so its insert benchmark uses the plain insert statement.
+ */
+public class MapperBenchmark extends AbstractMapperBenchmark<MapperOperations> {
+
+    @Param({"xml", "annotated", "mixed", "simple", "dsql"})
+    private String mapperType;
+
+    public MapperBenchmark() {
+        super(MapperOperations.class);
+    }
+
+    @Override
+    protected String getMapperType() {
+        return mapperType;
+    }
+
+    @Benchmark
+    public Object selectByPrimaryKey() {
+        int id1 = nextRow();
+        return operations.selectByPrimaryKey(id1, id1 % 10);
+    }
+
+    @Benchmark
+    public int insertSelective() {
+        return operations.insertSelective(nextInsertedId(), 0, "Barney", "Rubble"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
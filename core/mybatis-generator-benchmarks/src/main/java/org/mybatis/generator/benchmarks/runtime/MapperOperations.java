@@ -0,0 +1,29 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks.runtime;
+
+/**
+ * The mapper operations that are compared across runtimes. Every generated mapper has a different
+ * type, so each runtime has an implementation that calls its own generated mapper.
+ *
+ * @see ExampleMapperOperations
+ */
+public interface MapperOperations {
+
+    Object selectByPrimaryKey(int id1, int id2);
+
+    int insertSelective(int id1, int id2, String firstName, String lastName);
+}
@@ -0,0 +1,72 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks.runtime;
+
+import java.util.List;
+
+import org.apache.ibatis.session.SqlSession;
+import org.mybatis.generator.benchmarks.runtime.generated.mixed.Pkfields;
+import org.mybatis.generator.benchmarks.runtime.generated.mixed.PkfieldsExample;
+import org.mybatis.generator.benchmarks.runtime.generated.mixed.PkfieldsMapper;
+
+/**
+ * Mapper operations for MyBatis3 with a mixed (annotations and XML) mapper.
+ */
+public class MixedMapperOperations implements ExampleMapperOperations {
+
+    private final PkfieldsMapper mapper;
+
+    public MixedMapperOperations(SqlSession sqlSession) {
+        sqlSession.getConfiguration().addMapper(PkfieldsMapper.class);
+        mapper = sqlSession.getMapper(PkfieldsMapper.class);
+    }
+
+    @Override
+    public Object selectByPrimaryKey(int id1, int id2) {
+        return mapper.selectByPrimaryKey(id2, id1);
+    }
+
+    @Override
+    public List<?> selectByExample(String lastNamePattern, int fromId1, int toId1) {
+        PkfieldsExample example = new PkfieldsExample();
+        example.createCriteria()
+                .andLastnameLike(lastNamePattern)
+                .andId1Between(fromId1, toId1)
+                .andFirstnameIsNotNull();
+        return mapper.selectByExample(example);
+    }
+
+    @Override
+    public int insertSelective(int id1, int id2, String firstName, String lastName) {
+        Pkfields record = new Pkfields();
+        record.setId1(id1);
+        record.setId2(id2);
+        record.setFirstname(firstName);
+        record.setLastname(lastName);
+        return mapper.insertSelective(record);
+    }
+
+    @Override
+    public int updateByExampleSelective(String firstName, String lastNamePattern, int fromId1, int toId1) {
+        Pkfields record = new Pkfields();
+        record.setFirstname(firstName);
+        PkfieldsExample example = new PkfieldsExample();
+        example.createCriteria()
+                .andLastnameLike(lastNamePattern)
+                .andId1Between(fromId1, toId1);
+        return mapper.updateByExampleSelective(record, example);
+    }
+}
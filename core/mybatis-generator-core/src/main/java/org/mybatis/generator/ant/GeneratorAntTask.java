@@ -33,8 +33,6 @@ import org.apache.tools.ant.Project;
 import org.apache.tools.ant.Task;
 import org.apache.tools.ant.types.PropertySet;
 import org.mybatis.generator.api.MyBatisGenerator;
-import org.mybatis.generator.config.Configuration;
-import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.XMLParserException;
 import org.mybatis.generator.internal.DefaultShellCallback;
@@ -67,6 +65,10 @@ import org.mybatis.generator.internal.DefaultShellCallback;
  * <li>"overwrite" - if true, then existing Java files will be overwritten. if
  * false (default), then existing Java files will be untouched and the generator
  * will write new Java files with a unique name</li>
+ * <li>"archive" - if specified, then all generated files are written into this
+ * zip or jar file instead of the target projects</li>
+ * <li>"metrics" - if specified, then the time and memory used by each phase,
+ * table, generator and plugin hook are written to this file as JSON</li>
  * <li>"verbose" - if true, then the generator will log progress messages to the
  * Ant log. Default is false</li>
  * <li>"contextIds" - a comma delimited list of contaxtIds to use for this run</li>
@@ -81,6 +83,8 @@ public class GeneratorAntTask extends Task {
 
     private String configfile;
     private boolean overwrite;
+    private String archive;
+    private String metrics;
     private PropertySet propertyset;
     private boolean verbose;
     private String contextIds;
@@ -136,15 +140,12 @@ public class GeneratorAntTask extends Task {
             Properties p = propertyset == null ? null : propertyset
                     .getProperties();
 
-            ConfigurationParser cp = new ConfigurationParser(p, warnings);
-            Configuration config = cp.parseConfiguration(configurationFile);
-
             DefaultShellCallback callback = new DefaultShellCallback(overwrite);
 
-            MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, callback, warnings);
-
-            myBatisGenerator.generate(new AntProgressCallback(this, verbose), contexts,
-                    fullyqualifiedTables);
+            MyBatisGenerator.run(configurationFile, p, warnings, callback,
+                    new AntProgressCallback(this, verbose), contexts, fullyqualifiedTables,
+                    stringHasValue(archive) ? new File(archive) : null,
+                    stringHasValue(metrics) ? new File(metrics) : null);
 
         } catch (XMLParserException e) {
             for (String error : e.getErrors()) {
@@ -190,6 +191,22 @@ public class GeneratorAntTask extends Task {
         this.overwrite = overwrite;
     }
 
+    public String getArchive() {
+        return archive;
+    }
+
+    public void setArchive(String archive) {
+        this.archive = archive;
+    }
+
+    public String getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(String metrics) {
+        this.metrics = metrics;
+    }
+
     public PropertySet createPropertyset() {
         if (propertyset == null) {
             propertyset = new PropertySet();
@@ -0,0 +1,143 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * This class holds the raw information about a column as returned from
+ * database metadata, before any configuration is applied. Instances are
+ * immutable so that they can be cached and shared between table
+ * configurations.
+ */
+public class ColumnMetadata {
+
+    private final ActualTableName actualTableName;
+    private final String columnName;
+    private final int jdbcType;
+    private final int length;
+    private final int scale;
+    private final boolean nullable;
+    private final String remarks;
+    private final String defaultValue;
+    private final boolean autoIncrement;
+    private final boolean generatedColumn;
+
+    public ColumnMetadata(ActualTableName actualTableName, String columnName, int jdbcType,
+            int length, int scale, boolean nullable, String remarks, String defaultValue,
+            boolean autoIncrement, boolean generatedColumn) {
+        super();
+        this.actualTableName = actualTableName;
+        this.columnName = columnName;
+        this.jdbcType = jdbcType;
+        this.length = length;
+        this.scale = scale;
+        this.nullable = nullable;
+        this.remarks = remarks;
+        this.defaultValue = defaultValue;
+        this.autoIncrement = autoIncrement;
+        this.generatedColumn = generatedColumn;
+    }
+
+    public ActualTableName getActualTableName() {
+        return actualTableName;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public int getJdbcType() {
+        return jdbcType;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public String getRemarks() {
+        return remarks;
+    }
+
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+
+    public boolean isAutoIncrement() {
+        return autoIncrement;
+    }
+
+    public boolean isGeneratedColumn() {
+        return generatedColumn;
+    }
+
+    /**
+     * Reads all rows of a result set returned from
+     * {@link DatabaseMetaData#getColumns(String, String, String, String)}.
+     *
+     * @param rs
+     *            the result set. The result set is not closed by this method
+     * @param consumer
+     *            called for each row
+     * @throws SQLException
+     *             if the result set cannot be read
+     */
+    public static void readAll(ResultSet rs, Consumer<ColumnMetadata> consumer)
+            throws SQLException {
+        boolean supportsIsAutoIncrement = false;
+        boolean supportsIsGeneratedColumn = false;
+        ResultSetMetaData rsmd = rs.getMetaData();
+        int colCount = rsmd.getColumnCount();
+        for (int i = 1; i <= colCount; i++) {
+            if ("IS_AUTOINCREMENT".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
+                supportsIsAutoIncrement = true;
+            }
+            if ("IS_GENERATEDCOLUMN".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
+                supportsIsGeneratedColumn = true;
+            }
+        }
+
+        while (rs.next()) {
+            ActualTableName atn = new ActualTableName(
+                    rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                    rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                    rs.getString("TABLE_NAME")); //$NON-NLS-1$
+
+            consumer.accept(new ColumnMetadata(atn,
+                    rs.getString("COLUMN_NAME"), //$NON-NLS-1$
+                    rs.getInt("DATA_TYPE"), //$NON-NLS-1$
+                    rs.getInt("COLUMN_SIZE"), //$NON-NLS-1$
+                    rs.getInt("DECIMAL_DIGITS"), //$NON-NLS-1$
+                    rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable, //$NON-NLS-1$
+                    rs.getString("REMARKS"), //$NON-NLS-1$
+                    rs.getString("COLUMN_DEF"), //$NON-NLS-1$
+                    supportsIsAutoIncrement && "YES".equals(rs.getString("IS_AUTOINCREMENT")), //$NON-NLS-1$ //$NON-NLS-2$
+                    supportsIsGeneratedColumn && "YES".equals(rs.getString("IS_GENERATEDCOLUMN")))); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+}
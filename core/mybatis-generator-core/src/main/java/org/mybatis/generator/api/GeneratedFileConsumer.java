@@ -0,0 +1,56 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.io.IOException;
+
+/**
+ * This interface can be implemented to receive generated files as soon as they are
+ * generated, instead of collecting all the files of a run in memory. It is used by
+ * the streaming generate methods of {@link MyBatisGenerator}.
+ *
+ * <p>All the files of a table are passed to the consumer right after the table is
+ * generated, and the generator does not keep a reference to them afterwards. Java
+ * files and XML files are each passed in the same order as a non-streaming run
+ * generates them. The methods are always called on the thread that called the
+ * generate method, so implementations do not need to be thread safe.
+ */
+public interface GeneratedFileConsumer {
+
+    /**
+     * Called for every generated Java file.
+     *
+     * @param generatedJavaFile
+     *            the generated file
+     * @throws IOException
+     *             if the file cannot be processed. Generation stops
+     * @throws InterruptedException
+     *             if generation should be canceled
+     */
+    void javaFileGenerated(GeneratedJavaFile generatedJavaFile) throws IOException, InterruptedException;
+
+    /**
+     * Called for every generated XML file.
+     *
+     * @param generatedXmlFile
+     *            the generated file
+     * @throws IOException
+     *             if the file cannot be processed. Generation stops
+     * @throws InterruptedException
+     *             if generation should be canceled
+     */
+    void xmlFileGenerated(GeneratedXmlFile generatedXmlFile) throws IOException, InterruptedException;
+}
@@ -27,6 +27,8 @@ public class GeneratedXmlFile extends GeneratedFile {
 
     private boolean isMergeable;
 
+    private boolean isStreamingMerge;
+
     private XmlFormatter xmlFormatter;
 
     public GeneratedXmlFile(Document document, String fileName,
@@ -45,6 +47,14 @@ public class GeneratedXmlFile extends GeneratedFile {
         return xmlFormatter.getFormattedContent(document);
     }
 
+    public Document getDocument() {
+        return document;
+    }
+
+    public XmlFormatter getXmlFormatter() {
+        return xmlFormatter;
+    }
+
     @Override
     public String getFileName() {
         return fileName;
@@ -63,4 +73,18 @@ public class GeneratedXmlFile extends GeneratedFile {
     public void setMergeable(boolean isMergeable) {
         this.isMergeable = isMergeable;
     }
+
+    /**
+     * Returns true if the file should be merged into an existing file with the streaming
+     * merger, which preserves the formatting of the existing file.
+     *
+     * @return true if the file should be merged with the streaming merger
+     */
+    public boolean isStreamingMerge() {
+        return isStreamingMerge;
+    }
+
+    public void setStreamingMerge(boolean isStreamingMerge) {
+        this.isStreamingMerge = isStreamingMerge;
+    }
 }
@@ -149,6 +149,10 @@ public class IntrospectedColumn {
         this.actualColumnName = actualColumnName;
         isColumnNameDelimited = StringUtility
                 .stringContainsSpace(actualColumnName);
+        if (introspectedTable != null) {
+            // the table indexes its columns by name
+            introspectedTable.columnNameChanged();
+        }
     }
 
     public boolean isIdentity() {
@@ -18,12 +18,15 @@ package org.mybatis.generator.api;
 import static org.mybatis.generator.internal.util.StringUtility.isTrue;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.RandomAccess;
 
 import org.mybatis.generator.config.Context;
 import org.mybatis.generator.config.GeneratedKey;
@@ -127,12 +130,15 @@ public abstract class IntrospectedTable {
      */
     protected String tableType;
 
+    /** Combined column lists and the column index. Rebuilt when any column list changes. */
+    private ColumnViews columnViews;
+
     public IntrospectedTable(TargetRuntime targetRuntime) {
         super();
         this.targetRuntime = targetRuntime;
-        primaryKeyColumns = new ArrayList<>();
-        baseColumns = new ArrayList<>();
-        blobColumns = new ArrayList<>();
+        primaryKeyColumns = new ColumnList();
+        baseColumns = new ColumnList();
+        blobColumns = new ColumnList();
         attributes = new HashMap<>();
         internalAttributes = new HashMap<>();
     }
@@ -153,42 +159,24 @@ public abstract class IntrospectedTable {
         return tableConfiguration.getGeneratedKey();
     }
 
+    /**
+     * Returns the column with the specified name. Delimited column names must match exactly,
+     * other column names are matched without regard to case. Columns are found through an
+     * index, so the cost does not depend on the number of columns in the table.
+     *
+     * @param columnName
+     *            the column name
+     * @return the column, or null if there is no such column
+     */
     public IntrospectedColumn getColumn(String columnName) {
         if (columnName == null) {
             return null;
-        } else {
-            // search primary key columns
-            for (IntrospectedColumn introspectedColumn : primaryKeyColumns) {
-                if (introspectedColumn.isColumnNameDelimited()) {
-                    if (introspectedColumn.getActualColumnName().equals(
-                            columnName)) {
-                        return introspectedColumn;
-                    }
-                } else {
-                    if (introspectedColumn.getActualColumnName()
-                            .equalsIgnoreCase(columnName)) {
-                        return introspectedColumn;
-                    }
-                }
-            }
-
-            // search base columns
-            for (IntrospectedColumn introspectedColumn : baseColumns) {
-                if (introspectedColumn.isColumnNameDelimited()) {
-                    if (introspectedColumn.getActualColumnName().equals(
-                            columnName)) {
-                        return introspectedColumn;
-                    }
-                } else {
-                    if (introspectedColumn.getActualColumnName()
-                            .equalsIgnoreCase(columnName)) {
-                        return introspectedColumn;
-                    }
-                }
-            }
+        }
 
-            // search blob columns
-            for (IntrospectedColumn introspectedColumn : blobColumns) {
+        List<IntrospectedColumn> candidates = getColumnViews().columnIndex.get(foldCase(columnName));
+        if (candidates != null) {
+            // candidates are in primary key, base, BLOB order, like the column lists
+            for (IntrospectedColumn introspectedColumn : candidates) {
                 if (introspectedColumn.isColumnNameDelimited()) {
                     if (introspectedColumn.getActualColumnName().equals(
                             columnName)) {
@@ -201,9 +189,9 @@ public abstract class IntrospectedTable {
                     }
                 }
             }
-
-            return null;
         }
+
+        return null;
     }
 
     /**
@@ -283,42 +271,57 @@ public abstract class IntrospectedTable {
 
     /**
      * Returns all columns in the table (for use by the select by primary key and
-     * select by example with BLOBs methods).
+     * select by example with BLOBs methods). The list cannot be modified.
      *
      * @return a List of ColumnDefinition objects for all columns in the table
      */
     public List<IntrospectedColumn> getAllColumns() {
-        List<IntrospectedColumn> answer = new ArrayList<>();
-        answer.addAll(primaryKeyColumns);
-        answer.addAll(baseColumns);
-        answer.addAll(blobColumns);
-
-        return answer;
+        return getColumnViews().allColumns;
     }
 
     /**
      * Returns all columns except BLOBs (for use by the select by example without BLOBs method).
+     * The list cannot be modified.
      *
      * @return a List of ColumnDefinition objects for columns in the table that are non BLOBs
      */
     public List<IntrospectedColumn> getNonBLOBColumns() {
-        List<IntrospectedColumn> answer = new ArrayList<>();
-        answer.addAll(primaryKeyColumns);
-        answer.addAll(baseColumns);
-
-        return answer;
+        return getColumnViews().nonBLOBColumns;
     }
 
     public int getNonBLOBColumnCount() {
         return primaryKeyColumns.size() + baseColumns.size();
     }
 
+    /**
+     * Returns all columns except primary key columns. The list cannot be modified.
+     *
+     * @return the base and BLOB columns
+     */
     public List<IntrospectedColumn> getNonPrimaryKeyColumns() {
-        List<IntrospectedColumn> answer = new ArrayList<>();
-        answer.addAll(baseColumns);
-        answer.addAll(blobColumns);
+        return getColumnViews().nonPrimaryKeyColumns;
+    }
 
-        return answer;
+    private ColumnViews getColumnViews() {
+        ColumnViews views = columnViews;
+        if (views == null || !views.isCurrent(primaryKeyColumns, baseColumns, blobColumns)) {
+            views = new ColumnViews(primaryKeyColumns, baseColumns, blobColumns);
+            columnViews = views;
+        }
+
+        return views;
+    }
+
+    /**
+     * Returns a key that is the same for two names if, and only if, the names are equal
+     * ignoring case in the sense of {@link String#equalsIgnoreCase(String)}.
+     */
+    private static String foldCase(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
     }
 
     public List<IntrospectedColumn> getBLOBColumns() {
@@ -414,6 +417,7 @@ public abstract class IntrospectedTable {
         }
 
         introspectedColumn.setIntrospectedTable(this);
+        columnViews = null;
     }
 
     public void addPrimaryKeyColumn(String columnName) {
@@ -443,6 +447,15 @@ public abstract class IntrospectedTable {
                 }
             }
         }
+
+        columnViews = null;
+    }
+
+    /**
+     * Called by a column of this table when its actual column name changes.
+     */
+    void columnNameChanged() {
+        columnViews = null;
     }
 
     public Object getAttribute(String name) {
@@ -1141,4 +1154,121 @@ public abstract class IntrospectedTable {
     public void setTableType(String tableType) {
         this.tableType = tableType;
     }
+
+    /**
+     * A column list that counts its changes, so that the combined views can tell when
+     * a list has been changed through the list itself. Every change - including
+     * replacing a column with set, sorting, and changes through sub lists and list
+     * iterators - goes through one of the methods below.
+     */
+    private static class ColumnList extends AbstractList<IntrospectedColumn> implements RandomAccess {
+        private final ArrayList<IntrospectedColumn> columns = new ArrayList<>();
+        private int version;
+
+        @Override
+        public IntrospectedColumn get(int index) {
+            return columns.get(index);
+        }
+
+        @Override
+        public int size() {
+            return columns.size();
+        }
+
+        @Override
+        public IntrospectedColumn set(int index, IntrospectedColumn element) {
+            IntrospectedColumn answer = columns.set(index, element);
+            version++;
+            return answer;
+        }
+
+        @Override
+        public void add(int index, IntrospectedColumn element) {
+            columns.add(index, element);
+            modCount++;
+            version++;
+        }
+
+        @Override
+        public IntrospectedColumn remove(int index) {
+            IntrospectedColumn answer = columns.remove(index);
+            modCount++;
+            version++;
+            return answer;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            columns.subList(fromIndex, toIndex).clear();
+            modCount++;
+            version++;
+        }
+
+        int getModificationCount() {
+            return version;
+        }
+    }
+
+    /**
+     * Immutable combined column lists, and an index of the columns by case folded name.
+     */
+    private static class ColumnViews {
+        private final List<IntrospectedColumn> primaryKeyColumns;
+        private final List<IntrospectedColumn> baseColumns;
+        private final List<IntrospectedColumn> blobColumns;
+        private final long modificationCount;
+        private final List<IntrospectedColumn> allColumns;
+        private final List<IntrospectedColumn> nonBLOBColumns;
+        private final List<IntrospectedColumn> nonPrimaryKeyColumns;
+        private final Map<String, List<IntrospectedColumn>> columnIndex;
+
+        ColumnViews(List<IntrospectedColumn> primaryKeyColumns, List<IntrospectedColumn> baseColumns,
+                List<IntrospectedColumn> blobColumns) {
+            this.primaryKeyColumns = primaryKeyColumns;
+            this.baseColumns = baseColumns;
+            this.blobColumns = blobColumns;
+            modificationCount = getModificationCount(primaryKeyColumns, baseColumns, blobColumns);
+
+            List<IntrospectedColumn> all = new ArrayList<>(
+                    primaryKeyColumns.size() + baseColumns.size() + blobColumns.size());
+            all.addAll(primaryKeyColumns);
+            all.addAll(baseColumns);
+            all.addAll(blobColumns);
+            allColumns = Collections.unmodifiableList(all);
+            nonBLOBColumns = allColumns.subList(0, primaryKeyColumns.size() + baseColumns.size());
+            nonPrimaryKeyColumns = allColumns.subList(primaryKeyColumns.size(), all.size());
+
+            columnIndex = new HashMap<>();
+            for (IntrospectedColumn introspectedColumn : all) {
+                columnIndex.computeIfAbsent(foldCase(introspectedColumn.getActualColumnName()),
+                        k -> new ArrayList<>(1)).add(introspectedColumn);
+            }
+        }
+
+        /**
+         * Returns true if the views were built from the current contents of the lists.
+         * Views are never current if a subclass replaced the lists, because changes to
+         * other lists cannot be detected.
+         */
+        boolean isCurrent(List<IntrospectedColumn> primaryKeyColumns, List<IntrospectedColumn> baseColumns,
+                List<IntrospectedColumn> blobColumns) {
+            return modificationCount != -1
+                    && this.primaryKeyColumns == primaryKeyColumns
+                    && this.baseColumns == baseColumns
+                    && this.blobColumns == blobColumns
+                    && modificationCount == getModificationCount(primaryKeyColumns, baseColumns, blobColumns);
+        }
+
+        private static long getModificationCount(List<IntrospectedColumn> primaryKeyColumns,
+                List<IntrospectedColumn> baseColumns, List<IntrospectedColumn> blobColumns) {
+            if (primaryKeyColumns instanceof ColumnList && baseColumns instanceof ColumnList
+                    && blobColumns instanceof ColumnList) {
+                // modification counts only increase, so the sum changes when any list changes
+                return (long) ((ColumnList) primaryKeyColumns).getModificationCount()
+                        + ((ColumnList) baseColumns).getModificationCount()
+                        + ((ColumnList) blobColumns).getModificationCount();
+            }
+            return -1;
+        }
+    }
 }
@@ -0,0 +1,107 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.mybatis.generator.config.Context;
+
+/**
+ * Objects implementing this interface are used to read raw table information from
+ * the database during introspection. The DatabaseIntrospector applies the table
+ * configuration (ignored columns, column overrides, renaming rules, etc.) to the
+ * values returned from this interface, so implementations only need to return what
+ * the database reports.
+ *
+ * <p>Implementations are selected with the "introspectionStrategy" context property.
+ * The built in values DEFAULT, BULK, and INFORMATION_SCHEMA are supported, or the
+ * property may be set to the fully qualified name of a class implementing this
+ * interface. The class must have a public default constructor.
+ *
+ * <p>A new instance is created each time the tables of a context are introspected.
+ * If the context is introspected in parallel (see the "introspectionThreads" context
+ * property), the instance is shared by all threads and must be thread safe.
+ *
+ * <p>Implementations must return exactly the values that the corresponding
+ * {@link DatabaseMetaData} methods would return - otherwise the generated code will
+ * depend on the chosen strategy.
+ */
+public interface IntrospectionStrategy {
+    /**
+     * Called once, before any table is introspected, with the context whose tables
+     * will be introspected. Implementations can read context properties here.
+     *
+     * @param context
+     *            the current context
+     */
+    void setContext(Context context);
+
+    /**
+     * Returns the columns of all tables that match the parameters, in the order
+     * specified by {@link DatabaseMetaData#getColumns(String, String, String, String)}.
+     *
+     * @param databaseMetaData
+     *            metadata of the connection to use
+     * @param catalog
+     *            a catalog name as it would be passed to DatabaseMetaData.getColumns
+     * @param schemaPattern
+     *            a schema name pattern as it would be passed to DatabaseMetaData.getColumns
+     * @param tableNamePattern
+     *            a table name pattern as it would be passed to DatabaseMetaData.getColumns
+     * @return the columns
+     * @throws SQLException
+     *             if the columns cannot be read
+     */
+    List<ColumnMetadata> getColumns(DatabaseMetaData databaseMetaData, String catalog,
+            String schemaPattern, String tableNamePattern) throws SQLException;
+
+    /**
+     * Returns the primary key columns of a table in key sequence order.
+     *
+     * @param databaseMetaData
+     *            metadata of the connection to use
+     * @param table
+     *            the table as configured. The introspected catalog and schema are
+     *            only set if they were specified in the table configuration
+     * @param actualTableName
+     *            the table as returned from {@link #getColumns}
+     * @return the primary key columns. The list is empty if the table has no primary key
+     * @throws SQLException
+     *             if the primary key cannot be read
+     */
+    List<String> getPrimaryKeyColumns(DatabaseMetaData databaseMetaData, FullyQualifiedTable table,
+            ActualTableName actualTableName) throws SQLException;
+
+    /**
+     * Returns the remarks and type of a table.
+     *
+     * @param databaseMetaData
+     *            metadata of the connection to use
+     * @param table
+     *            the table as configured. The introspected catalog and schema are
+     *            only set if they were specified in the table configuration
+     * @param actualTableName
+     *            the table as returned from {@link #getColumns}
+     * @return the table information, or <code>null</code> if the database does not
+     *     report the table
+     * @throws SQLException
+     *             if the table information cannot be read
+     */
+    TableMetadata getTableMetadata(DatabaseMetaData databaseMetaData, FullyQualifiedTable table,
+            ActualTableName actualTableName) throws SQLException;
+}
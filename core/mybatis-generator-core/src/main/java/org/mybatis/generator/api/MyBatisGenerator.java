@@ -18,27 +18,41 @@ package org.mybatis.generator.api;
 import static org.mybatis.generator.internal.util.ClassloaderUtility.getCustomClassloader;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.nio.file.Files;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 
-import org.mybatis.generator.codegen.RootClassInfo;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.Context;
 import org.mybatis.generator.config.MergeConstants;
+import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.ShellException;
+import org.mybatis.generator.exception.XMLParserException;
+import org.mybatis.generator.internal.ArchiveFileWriter;
 import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.GenerationManifest;
+import org.mybatis.generator.internal.GenerationEvents;
+import org.mybatis.generator.internal.GenerationMetrics;
+import org.mybatis.generator.internal.GenerationMetrics.Measurement;
+import org.mybatis.generator.internal.GenerationSession;
 import org.mybatis.generator.internal.NullProgressCallback;
-import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.ParallelTaskRunner;
+import org.mybatis.generator.internal.SynchronizedProgressCallback;
 import org.mybatis.generator.internal.XmlFileMergerJaxp;
+import org.mybatis.generator.internal.XmlFileMergerStax;
+import org.mybatis.generator.internal.db.ConnectionPoolRegistry;
+import org.mybatis.generator.internal.db.IntrospectionSnapshot;
 
 /**
  * This class is the main interface to MyBatis generator. A typical execution of the tool involves these steps:
@@ -73,6 +87,12 @@ public class MyBatisGenerator {
     /** The projects. */
     private Set<String> projects;
 
+    /** The directories returned by the shell callback, keyed by target project and package. */
+    private final Map<List<String>, File> directories = new HashMap<>();
+
+    /** The metrics of the runs of this generator. */
+    private GenerationMetrics generationMetrics = GenerationMetrics.disabled();
+
     /**
      * Constructs a MyBatisGenerator object.
      * 
@@ -222,10 +242,171 @@ public class MyBatisGenerator {
             callback = new NullProgressCallback();
         }
 
+        List<Context> contextsToRun = introspect(callback, contextIds, fullyQualifiedTableNames, writeFiles);
+
+        // now run the generates
+        try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES, "generation")) { //$NON-NLS-1$
+            if (isParallelGenerationEnabled(contextsToRun)) {
+                generateContextsInParallel(contextsToRun, callback);
+            } else {
+                for (Context context : contextsToRun) {
+                    context.generateFiles(callback, generatedJavaFiles,
+                            generatedXmlFiles, warnings);
+                }
+            }
+        }
+
+        // now save the files
+        if (writeFiles) {
+            callback.saveStarted(generatedXmlFiles.size()
+                    + generatedJavaFiles.size());
+
+            try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES, "save")) { //$NON-NLS-1$
+                writeGeneratedFiles(contextsToRun, callback);
+
+                finishWriting(contextsToRun);
+            }
+        }
+
+        callback.done();
+    }
+
+    /**
+     * Generates code and writes the files of each table as soon as the table is generated,
+     * instead of generating all tables before writing any files. The generated files are not
+     * retained, so the memory required does not depend on the number of tables, and
+     * {@link #getGeneratedJavaFiles()} and {@link #getGeneratedXmlFiles()} return empty lists
+     * after this method. Otherwise this method behaves like {@link #generate(ProgressCallback, Set, Set)}.
+     *
+     * <p>The progress callback does not receive the saveStarted event because files are
+     * saved during the generation phase.
+     *
+     * @param callback
+     *            an instance of the ProgressCallback interface, or <code>null</code> if you do not require progress
+     *            information
+     * @param contextIds
+     *            a set of Strings containing context ids to run. Only the contexts with an id specified in this list
+     *            will be run. If the list is null or empty, than all contexts are run.
+     * @param fullyQualifiedTableNames
+     *            a set of table names to generate. If the Set is null or empty, then all tables in the configuration
+     *            will be used for code generation.
+     * @throws SQLException
+     *             the SQL exception
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     * @throws InterruptedException
+     *             if the method is canceled through the ProgressCallback
+     */
+    public void generateStreaming(ProgressCallback callback, Set<String> contextIds,
+            Set<String> fullyQualifiedTableNames) throws SQLException, IOException, InterruptedException {
+        if (callback == null) {
+            callback = new NullProgressCallback();
+        }
+
+        List<Context> contextsToRun = introspect(callback, contextIds, fullyQualifiedTableNames, true);
+
+        // files are formatted, merged, and written during generation
+        try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES, "generation")) { //$NON-NLS-1$
+            for (Context context : contextsToRun) {
+                context.generateFiles(callback, new FileWriter(context, callback), warnings);
+            }
+
+            finishWriting(contextsToRun);
+        }
+        callback.done();
+    }
+
+    /**
+     * Generates code and passes the files of each table to the consumer as soon as the table
+     * is generated. Nothing is written to disk, and the generated files are not retained, so
+     * the memory required does not depend on the number of tables.
+     *
+     * <p>Contexts are always generated one after another so that the consumer is only called
+     * from the calling thread. Tables within a context may still be generated in parallel.
+     *
+     * @param callback
+     *            an instance of the ProgressCallback interface, or <code>null</code> if you do not require progress
+     *            information
+     * @param contextIds
+     *            a set of Strings containing context ids to run. Only the contexts with an id specified in this list
+     *            will be run. If the list is null or empty, than all contexts are run.
+     * @param fullyQualifiedTableNames
+     *            a set of table names to generate. If the Set is null or empty, then all tables in the configuration
+     *            will be used for code generation.
+     * @param consumer
+     *            receives the generated files
+     * @throws SQLException
+     *             the SQL exception
+     * @throws IOException
+     *             Signals that an I/O exception has occurred, or the consumer threw an IOException
+     * @throws InterruptedException
+     *             if the method is canceled through the ProgressCallback
+     */
+    public void generateStreaming(ProgressCallback callback, Set<String> contextIds,
+            Set<String> fullyQualifiedTableNames, GeneratedFileConsumer consumer)
+            throws SQLException, IOException, InterruptedException {
+        if (callback == null) {
+            callback = new NullProgressCallback();
+        }
+
+        List<Context> contextsToRun = introspect(callback, contextIds, fullyQualifiedTableNames, false);
+
+        try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES, "generation")) { //$NON-NLS-1$
+            for (Context context : contextsToRun) {
+                context.generateFiles(callback, consumer, warnings);
+            }
+        }
+
+        callback.done();
+    }
+
+    /**
+     * Generates code and writes all generated files into a single zip (or jar) archive instead
+     * of writing them to the target projects. The shell callback is not used to resolve
+     * directories, and existing files are never merged. Entries are written in generation
+     * order with a fixed timestamp, so generating the same code twice produces identical
+     * archives. The generated files are not retained.
+     *
+     * @param callback
+     *            an instance of the ProgressCallback interface, or <code>null</code> if you do not require progress
+     *            information
+     * @param contextIds
+     *            a set of Strings containing context ids to run. Only the contexts with an id specified in this list
+     *            will be run. If the list is null or empty, than all contexts are run.
+     * @param fullyQualifiedTableNames
+     *            a set of table names to generate. If the Set is null or empty, then all tables in the configuration
+     *            will be used for code generation.
+     * @param archiveFile
+     *            the archive to write. An existing file is replaced
+     * @throws SQLException
+     *             the SQL exception
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     * @throws InterruptedException
+     *             if the method is canceled through the ProgressCallback
+     */
+    public void generateArchive(ProgressCallback callback, Set<String> contextIds,
+            Set<String> fullyQualifiedTableNames, File archiveFile)
+            throws SQLException, IOException, InterruptedException {
+        try (ArchiveFileWriter archiveFileWriter = new ArchiveFileWriter(archiveFile, warnings)) {
+            generateStreaming(callback, contextIds, fullyQualifiedTableNames, archiveFileWriter);
+        }
+    }
+
+    /**
+     * Runs the introspection phase and prepares the contexts for generation.
+     *
+     * @param writeFiles
+     *            true if the generated files will be written. Unchanged tables are only skipped if
+     *            the files from the previous run are on disk
+     * @return the contexts to run
+     */
+    private List<Context> introspect(ProgressCallback callback, Set<String> contextIds,
+            Set<String> fullyQualifiedTableNames, boolean writeFiles)
+            throws SQLException, IOException, InterruptedException {
         generatedJavaFiles.clear();
         generatedXmlFiles.clear();
-        ObjectFactory.reset();
-        RootClassInfo.reset();
+        directories.clear();
 
         // calculate the contexts to run
         List<Context> contextsToRun;
@@ -240,10 +421,19 @@ public class MyBatisGenerator {
             }
         }
 
+        // each run has its own session, so that concurrent runs in the same
+        // JVM do not see or clear each other's class loaders and caches
+        GenerationSession generationSession = new GenerationSession();
+
         // setup custom classloader if required
         if (configuration.getClassPathEntries().size() > 0) {
             ClassLoader classLoader = getCustomClassloader(configuration.getClassPathEntries());
-            ObjectFactory.addExternalClassLoader(classLoader);
+            generationSession.addExternalClassLoader(classLoader);
+        }
+
+        for (Context context : contextsToRun) {
+            context.setGenerationSession(generationSession);
+            context.setGenerationMetrics(generationMetrics);
         }
 
         // now run the introspections...
@@ -253,122 +443,375 @@ public class MyBatisGenerator {
         }
         callback.introspectionStarted(totalSteps);
 
+        // contexts that connect to the same database share a connection pool
+        // if they introspect in parallel
+        try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES, "introspection"); //$NON-NLS-1$
+                ConnectionPoolRegistry connectionPools = new ConnectionPoolRegistry()) {
+            for (Context context : contextsToRun) {
+                try (GenerationEvents.Event event = GenerationEvents.contextIntrospection(context.getId())) {
+                    if (context.isReplayingIntrospectionSnapshot()) {
+                        context.introspectTablesFromSnapshot(callback, warnings, fullyQualifiedTableNames,
+                                IntrospectionSnapshot.read(context.getIntrospectionSnapshotFile()));
+                        continue;
+                    }
+
+                    context.introspectTables(callback, warnings,
+                            fullyQualifiedTableNames, connectionPools);
+                }
+
+                if (context.isRecordingIntrospectionSnapshot()) {
+                    context.getIntrospectionSnapshot().write(context.getIntrospectionSnapshotFile());
+                }
+            }
+        }
+
         for (Context context : contextsToRun) {
-            context.introspectTables(callback, warnings,
-                    fullyQualifiedTableNames);
+            File manifestFile = context.getGenerationManifestFile();
+            GenerationManifest previousGenerationManifest = null;
+            if (writeFiles && manifestFile != null) {
+                previousGenerationManifest = GenerationManifest.read(manifestFile);
+                previousGenerationManifest.removeTablesWithMissingFiles(this::getPreviouslyGeneratedFile);
+            }
+            context.setPreviousGenerationManifest(previousGenerationManifest);
         }
 
-        // now run the generates
         totalSteps = 0;
         for (Context context : contextsToRun) {
             totalSteps += context.getGenerationSteps();
         }
         callback.generationStarted(totalSteps);
 
+        return contextsToRun;
+    }
+
+    /**
+     * Saves the manifests and refreshes the projects after all files have been written.
+     */
+    private void finishWriting(List<Context> contextsToRun) throws IOException {
         for (Context context : contextsToRun) {
-            context.generateFiles(callback, generatedJavaFiles,
-                    generatedXmlFiles, warnings);
+            if (context.getGenerationManifest() != null) {
+                context.getGenerationManifest().write(context.getGenerationManifestFile());
+            }
         }
 
-        // now save the files
-        if (writeFiles) {
-            callback.saveStarted(generatedXmlFiles.size()
-                    + generatedJavaFiles.size());
+        for (String project : projects) {
+            shellCallback.refreshProject(project);
+        }
+    }
+
+    /**
+     * Contexts are independent of each other (each context has its own plugins), so they
+     * may be generated concurrently if every context has opted in to parallel generation.
+     *
+     * @param contextsToRun
+     *            the contexts that will be run
+     * @return true if the contexts should be generated concurrently
+     */
+    private boolean isParallelGenerationEnabled(List<Context> contextsToRun) {
+        if (contextsToRun.size() < 2) {
+            return false;
+        }
 
-            for (GeneratedXmlFile gxf : generatedXmlFiles) {
-                projects.add(gxf.getTargetProject());
-                writeGeneratedXmlFile(gxf, callback);
+        for (Context context : contextsToRun) {
+            if (!context.isParallelGenerationEnabled()) {
+                return false;
             }
+        }
+
+        return true;
+    }
+
+    private void generateContextsInParallel(List<Context> contextsToRun, ProgressCallback callback)
+            throws InterruptedException {
+        ProgressCallback synchronizedCallback = SynchronizedProgressCallback.of(callback);
+
+        // each context runs its own tables in parallel, so bound the number of concurrent
+        // contexts by the largest number of generation threads any context asked for
+        int threads = 1;
+        List<ParallelTaskRunner.Task<ContextGenerationResult, RuntimeException>> tasks = new ArrayList<>();
+        for (Context context : contextsToRun) {
+            threads = Math.max(threads, context.getGenerationThreads());
+            tasks.add(() -> {
+                ContextGenerationResult result = new ContextGenerationResult();
+                context.generateFiles(synchronizedCallback, result.generatedJavaFiles,
+                        result.generatedXmlFiles, result.warnings);
+                return result;
+            });
+        }
+
+        // results are returned in context order, so the output is deterministic
+        for (ContextGenerationResult result : ParallelTaskRunner.runAll(tasks, threads)) {
+            generatedJavaFiles.addAll(result.generatedJavaFiles);
+            generatedXmlFiles.addAll(result.generatedXmlFiles);
+            warnings.addAll(result.warnings);
+        }
+    }
+
+    /**
+     * Merges and writes the generated files. If any context sets the "outputThreads" property,
+     * then files are merged and written in parallel. Warnings are reported in file order
+     * regardless of the number of threads.
+     */
+    private void writeGeneratedFiles(List<Context> contextsToRun, ProgressCallback callback)
+            throws InterruptedException, IOException {
+        List<GeneratedFile> files = new ArrayList<>(generatedXmlFiles.size() + generatedJavaFiles.size());
+        files.addAll(generatedXmlFiles);
+        files.addAll(generatedJavaFiles);
+
+        List<GenerationManifest> manifests = new ArrayList<>(files.size());
+        for (GeneratedFile file : files) {
+            projects.add(file.getTargetProject());
+            manifests.add(getGenerationManifest(file, contextsToRun));
+        }
 
-            for (GeneratedJavaFile gjf : generatedJavaFiles) {
-                projects.add(gjf.getTargetProject());
-                writeGeneratedJavaFile(gjf, callback);
+        int outputThreads = getOutputThreads(contextsToRun);
+        if (outputThreads < 2) {
+            for (int i = 0; i < files.size(); i++) {
+                writeGeneratedFile(files.get(i), manifests.get(i), callback, warnings);
             }
+            return;
+        }
 
-            for (String project : projects) {
-                shellCallback.refreshProject(project);
+        // files with the same target are written by a single task, in generation order,
+        // so that merges and unique file names behave as they do when writing sequentially
+        Map<List<String>, List<Integer>> filesByTarget = new LinkedHashMap<>();
+        List<List<String>> fileWarnings = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            GeneratedFile file = files.get(i);
+            filesByTarget.computeIfAbsent(Arrays.asList(file.getTargetProject(),
+                    file.getTargetPackage(), file.getFileName()), k -> new ArrayList<>()).add(i);
+            fileWarnings.add(new ArrayList<>());
+        }
+
+        ProgressCallback synchronizedCallback = SynchronizedProgressCallback.of(callback);
+        List<ParallelTaskRunner.Task<Void, IOException>> tasks = new ArrayList<>(filesByTarget.size());
+        for (List<Integer> indexes : filesByTarget.values()) {
+            tasks.add(() -> {
+                for (int i : indexes) {
+                    writeGeneratedFile(files.get(i), manifests.get(i), synchronizedCallback,
+                            fileWarnings.get(i));
+                }
+                return null;
+            });
+        }
+
+        ParallelTaskRunner.<Void, IOException>runAll(tasks, outputThreads, result -> { });
+
+        for (List<String> w : fileWarnings) {
+            warnings.addAll(w);
+        }
+    }
+
+    /**
+     * The save phase is shared by all contexts, so it uses the largest number of
+     * output threads configured in any context of the run.
+     */
+    private int getOutputThreads(List<Context> contextsToRun) {
+        int answer = 1;
+        for (Context context : contextsToRun) {
+            answer = Math.max(answer, context.getOutputThreads());
+        }
+
+        return answer;
+    }
+
+    private void writeGeneratedFile(GeneratedFile generatedFile, GenerationManifest manifest,
+            ProgressCallback callback, List<String> fileWarnings) throws InterruptedException, IOException {
+        if (generatedFile instanceof GeneratedJavaFile) {
+            writeGeneratedJavaFile((GeneratedJavaFile) generatedFile, manifest, callback, fileWarnings);
+        } else {
+            writeGeneratedXmlFile((GeneratedXmlFile) generatedFile, manifest, callback, fileWarnings);
+        }
+    }
+
+    /**
+     * Returns the directory for a target project and package. The shell callback is only
+     * asked once for each combination, and is never called from two threads at once.
+     *
+     * @param targetProject
+     *            the target project
+     * @param targetPackage
+     *            the target package
+     * @return the directory
+     * @throws ShellException
+     *             if the shell callback cannot resolve the directory. Failures are not cached,
+     *             so the warning is reported for every file in the directory
+     */
+    private File getDirectory(String targetProject, String targetPackage) throws ShellException {
+        List<String> key = Arrays.asList(targetProject, targetPackage);
+        synchronized (directories) {
+            File directory = directories.get(key);
+            if (directory == null) {
+                synchronized (shellCallback) {
+                    directory = shellCallback.getDirectory(targetProject, targetPackage);
+                }
+                directories.put(key, directory);
             }
+
+            return directory;
         }
+    }
 
-        callback.done();
+    /**
+     * Locates a file written by a previous run. Unlike getDirectory, this does not create
+     * any directories.
+     *
+     * @return the file, or null if its directory does not exist or cannot be resolved
+     */
+    private File getPreviouslyGeneratedFile(String targetProject, String targetPackage, String fileName) {
+        File directory;
+        synchronized (shellCallback) {
+            directory = shellCallback.findDirectory(targetProject, targetPackage);
+        }
+
+        return directory == null ? null : new File(directory, fileName);
     }
 
-    private void writeGeneratedJavaFile(GeneratedJavaFile gjf, ProgressCallback callback)
-            throws InterruptedException, IOException {
+    private void writeGeneratedJavaFile(GeneratedJavaFile gjf, GenerationManifest manifest,
+            ProgressCallback callback, List<String> fileWarnings) throws InterruptedException, IOException {
         File targetFile;
+        String content;
+        try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES, "formatting"); //$NON-NLS-1$
+                GenerationEvents.Event event = GenerationEvents.formatting(gjf)) {
+            content = gjf.getFormattedContent();
+            event.setSize(content.length());
+        }
         String source;
         try {
-            File directory = shellCallback.getDirectory(gjf
-                    .getTargetProject(), gjf.getTargetPackage());
+            File directory = getDirectory(gjf.getTargetProject(), gjf.getTargetPackage());
             targetFile = new File(directory, gjf.getFileName());
             if (targetFile.exists()) {
-                if (shellCallback.isMergeSupported()) {
-                    source = shellCallback.mergeJavaFile(gjf
-                            .getFormattedContent(), targetFile,
-                            MergeConstants.OLD_ELEMENT_TAGS,
-                            gjf.getFileEncoding());
+                if (manifest != null && manifest.isUpToDate(gjf, content, targetFile)) {
+                    // nothing has changed since the file was written - skip the merge
+                    callback.checkCancel();
+                    return;
+                } else if (shellCallback.isMergeSupported()) {
+                    // shell callbacks are not required to be thread safe
+                    synchronized (shellCallback) {
+                        try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES,
+                                "merging"); //$NON-NLS-1$
+                                GenerationEvents.Event event = GenerationEvents.merging(gjf)) {
+                            source = shellCallback.mergeJavaFile(content, targetFile,
+                                    MergeConstants.OLD_ELEMENT_TAGS,
+                                    gjf.getFileEncoding());
+                            event.setSize(source.length());
+                        }
+                    }
                 } else if (shellCallback.isOverwriteEnabled()) {
-                    source = gjf.getFormattedContent();
-                    warnings.add(getString("Warning.11", //$NON-NLS-1$
+                    source = content;
+                    fileWarnings.add(getString("Warning.11", //$NON-NLS-1$
                             targetFile.getAbsolutePath()));
                 } else {
-                    source = gjf.getFormattedContent();
+                    source = content;
                     targetFile = getUniqueFileName(directory, gjf
                             .getFileName());
-                    warnings.add(getString(
+                    fileWarnings.add(getString(
                             "Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
                 }
             } else {
-                source = gjf.getFormattedContent();
+                source = content;
             }
 
             callback.checkCancel();
             callback.startTask(getString(
                     "Progress.15", targetFile.getName())); //$NON-NLS-1$
-            writeFile(targetFile, source, gjf.getFileEncoding());
+            byte[] writtenBytes;
+            try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES, "writing"); //$NON-NLS-1$
+                    GenerationEvents.Event event = GenerationEvents.writing(gjf)) {
+                writtenBytes = writeFile(targetFile, source, gjf.getFileEncoding());
+                event.setSize(writtenBytes.length);
+            }
+            if (manifest != null) {
+                manifest.putFileHashes(gjf, content, writtenBytes);
+            }
         } catch (ShellException e) {
-            warnings.add(e.getMessage());
+            fileWarnings.add(e.getMessage());
         }
     }
 
-    private void writeGeneratedXmlFile(GeneratedXmlFile gxf, ProgressCallback callback)
-            throws InterruptedException, IOException {
+    private void writeGeneratedXmlFile(GeneratedXmlFile gxf, GenerationManifest manifest,
+            ProgressCallback callback, List<String> fileWarnings) throws InterruptedException, IOException {
         File targetFile;
+        String content;
+        try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES, "formatting"); //$NON-NLS-1$
+                GenerationEvents.Event event = GenerationEvents.formatting(gxf)) {
+            content = gxf.getFormattedContent();
+            event.setSize(content.length());
+        }
         String source;
         try {
-            File directory = shellCallback.getDirectory(gxf
-                    .getTargetProject(), gxf.getTargetPackage());
+            File directory = getDirectory(gxf.getTargetProject(), gxf.getTargetPackage());
             targetFile = new File(directory, gxf.getFileName());
             if (targetFile.exists()) {
-                if (gxf.isMergeable()) {
-                    source = XmlFileMergerJaxp.getMergedSource(gxf,
-                            targetFile);
+                if (manifest != null && manifest.isUpToDate(gxf, content, targetFile)) {
+                    // nothing has changed since the file was written - skip the merge
+                    callback.checkCancel();
+                    return;
+                } else if (gxf.isMergeable()) {
+                    try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES,
+                            "merging"); //$NON-NLS-1$
+                            GenerationEvents.Event event = GenerationEvents.merging(gxf)) {
+                        source = gxf.isStreamingMerge()
+                                ? XmlFileMergerStax.getMergedSource(gxf, targetFile)
+                                : XmlFileMergerJaxp.getMergedSource(gxf, targetFile);
+                        event.setSize(source.length());
+                    }
                 } else if (shellCallback.isOverwriteEnabled()) {
-                    source = gxf.getFormattedContent();
-                    warnings.add(getString("Warning.11", //$NON-NLS-1$
+                    source = content;
+                    fileWarnings.add(getString("Warning.11", //$NON-NLS-1$
                             targetFile.getAbsolutePath()));
                 } else {
-                    source = gxf.getFormattedContent();
+                    source = content;
                     targetFile = getUniqueFileName(directory, gxf
                             .getFileName());
-                    warnings.add(getString(
+                    fileWarnings.add(getString(
                             "Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
                 }
             } else {
-                source = gxf.getFormattedContent();
+                source = content;
             }
 
             callback.checkCancel();
             callback.startTask(getString(
                     "Progress.15", targetFile.getName())); //$NON-NLS-1$
-            writeFile(targetFile, source, "UTF-8"); //$NON-NLS-1$
+            byte[] writtenBytes;
+            try (Measurement measurement = generationMetrics.start(GenerationMetrics.PHASES, "writing"); //$NON-NLS-1$
+                    GenerationEvents.Event event = GenerationEvents.writing(gxf)) {
+                writtenBytes = writeFile(targetFile, source, "UTF-8"); //$NON-NLS-1$
+                event.setSize(writtenBytes.length);
+            }
+            if (manifest != null) {
+                manifest.putFileHashes(gxf, content, writtenBytes);
+            }
         } catch (ShellException e) {
-            warnings.add(e.getMessage());
+            fileWarnings.add(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the manifest of the context that generated a file.
+     *
+     * @param generatedFile
+     *            the generated file
+     * @param contextsToRun
+     *            the contexts of this run
+     * @return the manifest, or null if the context does not use a manifest
+     */
+    private GenerationManifest getGenerationManifest(GeneratedFile generatedFile, List<Context> contextsToRun) {
+        for (Context context : contextsToRun) {
+            GenerationManifest manifest = context.getGenerationManifest();
+            if (manifest != null && manifest.isGeneratedFile(generatedFile)) {
+                return manifest;
+            }
         }
+
+        return null;
     }
 
     /**
-     * Writes, or overwrites, the contents of the specified file.
+     * Writes, or overwrites, the contents of the specified file. The file is
+     * only written if its contents change, so that the modification time of
+     * unchanged files is preserved and incremental builds do not see a change.
      *
      * @param file
      *            the file
@@ -376,21 +819,21 @@ public class MyBatisGenerator {
      *            the content
      * @param fileEncoding
      *            the file encoding
+     * @return the bytes of the file
      * @throws IOException
      *             Signals that an I/O exception has occurred.
      */
-    private void writeFile(File file, String content, String fileEncoding) throws IOException {
-        FileOutputStream fos = new FileOutputStream(file, false);
-        OutputStreamWriter osw;
-        if (fileEncoding == null) {
-            osw = new OutputStreamWriter(fos);
-        } else {
-            osw = new OutputStreamWriter(fos, fileEncoding);
+    private byte[] writeFile(File file, String content, String fileEncoding) throws IOException {
+        byte[] bytes = fileEncoding == null ? content.getBytes() : content.getBytes(fileEncoding);
+
+        if (file.isFile() && file.length() == bytes.length
+                && Arrays.equals(bytes, Files.readAllBytes(file.toPath()))) {
+            return bytes;
         }
 
-        BufferedWriter bw = new BufferedWriter(osw);
-        bw.write(content);
-        bw.close();
+        Files.write(file.toPath(), bytes);
+
+        return bytes;
     }
 
     /**
@@ -428,6 +871,90 @@ public class MyBatisGenerator {
         return answer;
     }
 
+    /**
+     * Returns the metrics recorded by the runs of this generator.
+     *
+     * @return the generation metrics. Metrics are disabled unless they have been set
+     */
+    GenerationMetrics getGenerationMetrics() {
+        return generationMetrics;
+    }
+
+    /**
+     * Sets the metrics that record where the runs of this generator spend time.
+     *
+     * @param generationMetrics
+     *            the metrics to record, or <code>null</code> to disable metrics
+     */
+    void setGenerationMetrics(GenerationMetrics generationMetrics) {
+        this.generationMetrics = generationMetrics == null ? GenerationMetrics.disabled() : generationMetrics;
+    }
+
+    /**
+     * Parses a configuration file and generates the files it describes. This method holds the
+     * steps shared by the command line, Ant, and Maven launchers.
+     *
+     * @param configurationFile
+     *            the configuration file
+     * @param extraProperties
+     *            properties that may be used in the configuration file. May be null
+     * @param warnings
+     *            any warnings generated while parsing the configuration or generating files
+     *            will be added to this list
+     * @param shellCallback
+     *            the shell callback
+     * @param callback
+     *            an instance of the ProgressCallback interface, or <code>null</code> if you do not
+     *            require progress information
+     * @param contextIds
+     *            a set of Strings containing context ids to run. If null or empty, all contexts
+     *            are run
+     * @param fullyQualifiedTableNames
+     *            a set of table names to generate. If null or empty, all tables are generated
+     * @param archiveFile
+     *            if not null, the generated files are written to this archive instead of the
+     *            file system (see {@link #generateArchive(ProgressCallback, Set, Set, File)})
+     * @param metricsFile
+     *            if not null, the time and memory used by each phase of the run (including
+     *            parsing the configuration) are written to this file as JSON
+     * @throws XMLParserException
+     *             if the configuration file cannot be parsed
+     * @throws InvalidConfigurationException
+     *             if the configuration is invalid
+     * @throws SQLException
+     *             the SQL exception
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     * @throws InterruptedException
+     *             if the method is canceled through the ProgressCallback
+     */
+    public static void run(File configurationFile, Properties extraProperties, List<String> warnings,
+            ShellCallback shellCallback, ProgressCallback callback, Set<String> contextIds,
+            Set<String> fullyQualifiedTableNames, File archiveFile, File metricsFile)
+            throws XMLParserException, InvalidConfigurationException, SQLException, IOException,
+            InterruptedException {
+        GenerationMetrics metrics = metricsFile == null ? GenerationMetrics.disabled() : new GenerationMetrics();
+
+        ConfigurationParser cp = new ConfigurationParser(extraProperties, warnings);
+        Configuration config;
+        try (Measurement measurement = metrics.start(GenerationMetrics.PHASES, "configuration")) { //$NON-NLS-1$
+            config = cp.parseConfiguration(configurationFile);
+        }
+
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, shellCallback, warnings);
+        myBatisGenerator.setGenerationMetrics(metrics);
+
+        if (archiveFile != null) {
+            myBatisGenerator.generateArchive(callback, contextIds, fullyQualifiedTableNames, archiveFile);
+        } else {
+            myBatisGenerator.generate(callback, contextIds, fullyQualifiedTableNames);
+        }
+
+        if (metrics.isEnabled()) {
+            metrics.writeJson(metricsFile);
+        }
+    }
+
     /**
      * Returns the list of generated Java files after a call to one of the generate methods.
      * This is useful if you prefer to process the generated files yourself and do not want
@@ -449,4 +976,41 @@ public class MyBatisGenerator {
     public List<GeneratedXmlFile> getGeneratedXmlFiles() {
         return generatedXmlFiles;
     }
+
+    /**
+     * Writes the files of a context as they are generated.
+     */
+    private class FileWriter implements GeneratedFileConsumer, GenerationEvents.FileEventSource {
+        private final Context context;
+        private final ProgressCallback callback;
+
+        FileWriter(Context context, ProgressCallback callback) {
+            this.context = context;
+            this.callback = callback;
+        }
+
+        @Override
+        public void javaFileGenerated(GeneratedJavaFile generatedJavaFile)
+                throws IOException, InterruptedException {
+            projects.add(generatedJavaFile.getTargetProject());
+            // the manifest is calculated when generation of the context starts
+            writeGeneratedJavaFile(generatedJavaFile, context.getGenerationManifest(), callback, warnings);
+        }
+
+        @Override
+        public void xmlFileGenerated(GeneratedXmlFile generatedXmlFile)
+                throws IOException, InterruptedException {
+            projects.add(generatedXmlFile.getTargetProject());
+            writeGeneratedXmlFile(generatedXmlFile, context.getGenerationManifest(), callback, warnings);
+        }
+    }
+
+    /**
+     * Holds the output of a single context when contexts are generated in parallel.
+     */
+    private static class ContextGenerationResult {
+        private final List<GeneratedJavaFile> generatedJavaFiles = new ArrayList<>();
+        private final List<GeneratedXmlFile> generatedXmlFiles = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
+    }
 }
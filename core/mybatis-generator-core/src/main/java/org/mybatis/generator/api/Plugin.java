@@ -37,6 +37,7 @@ import org.mybatis.generator.config.Context;
  * <ol>
  * <li>The setXXX methods are called one time</li>
  * <li>The validate method is called one time</li>
+ * <li>The tableGenerationStarted method is called for each introspected table</li>
  * <li>The initialized method is called for each introspected table</li>
  * <li>The clientXXX methods are called for each introspected table</li>
  * <li>The providerXXX methods are called for each introspected table</li>
@@ -46,6 +47,7 @@ import org.mybatis.generator.config.Context;
  * called for each introspected table</li>
  * <li>The contextGenerateAdditionalXmlFiles(IntrospectedTable) method is called
  * for each introspected table</li>
+ * <li>The tableGenerationFinished method is called for each introspected table</li>
  * <li>The contextGenerateAdditionalJavaFiles() method is called one time</li>
  * <li>The contextGenerateAdditionalXmlFiles() method is called one time</li>
  * </ol>
@@ -56,6 +58,28 @@ import org.mybatis.generator.config.Context;
  * 
  * <p>Plugins are called, and initialized, in the same order they are specified in
  * the configuration.
+ *
+ * <p>If the context enables parallel generation (the "generationThreads" context property),
+ * then tables are generated concurrently and the same plugin instance will be called from
+ * several threads at once. In that case these rules apply:
+ *
+ * <ul>
+ * <li>The setXXX and validate methods are called one time, on the calling thread,
+ * before any table is generated</li>
+ * <li>All methods that receive an IntrospectedTable are called on a single thread for
+ * that table - from tableGenerationStarted through tableGenerationFinished -
+ * but methods for different tables may run at the same time. Any state a plugin keeps
+ * across tables must be thread safe</li>
+ * <li>Because the calls for one table never overlap, state that belongs to a single table
+ * does not need to be thread safe itself, as long as it is only reached through a
+ * thread safe structure. For example, a plugin may keep an ArrayList for each table in a
+ * ConcurrentHashMap keyed by table, and remove the entry in tableGenerationFinished</li>
+ * <li>The contextGenerateAdditionalJavaFiles() and contextGenerateAdditionalXmlFiles()
+ * methods are called one time, after all tables have been generated</li>
+ * </ul>
+ *
+ * <p>Plugins that are not thread safe should not be used in a context that enables parallel
+ * generation.
  * 
  * <p>The clientXXX, modelXXX, and sqlMapXXX methods are called by the code
  * generators. If you replace the default code generators with other
@@ -108,6 +132,33 @@ public interface Plugin {
      */
     void initialized(IntrospectedTable introspectedTable);
 
+    /**
+     * This method is called when generation of a table starts, before any other method that receives the
+     * introspected table.
+     *
+     * <p>The default implementation does nothing.
+     *
+     * @param introspectedTable
+     *            the introspected table
+     * @since 1.4.0
+     */
+    default void tableGenerationStarted(IntrospectedTable introspectedTable) {
+    }
+
+    /**
+     * This method is called when generation of a table is finished, after the contextGenerateAdditionalXmlFiles
+     * method for the table. No other method will be called for the table. Plugins that keep state for a table
+     * should release it here, so that memory use does not grow with the number of tables.
+     *
+     * <p>The default implementation does nothing.
+     *
+     * @param introspectedTable
+     *            the introspected table
+     * @since 1.4.0
+     */
+    default void tableGenerationFinished(IntrospectedTable introspectedTable) {
+    }
+
     /**
      * This method is called after all the setXXX methods are called, but before
      * any other method is called. This allows the plugin to determine whether
@@ -61,6 +61,25 @@ public interface ShellCallback {
     File getDirectory(String targetProject, String targetPackage)
             throws ShellException;
 
+    /**
+     * This method is called to find the directory of a project/package combination without
+     * creating anything. It is used for incremental generation, to check whether the files
+     * written by an earlier run still exist.
+     *
+     * <p>The default implementation returns <code>null</code>, so incremental generation
+     * treats every file as missing and generates all tables.
+     *
+     * @param targetProject
+     *            the target project
+     * @param targetPackage
+     *            the target package
+     * @return the directory, or <code>null</code> if the directory does not exist or cannot
+     *     be resolved
+     */
+    default File findDirectory(String targetProject, String targetPackage) {
+        return null;
+    }
+
     /**
      * This method is called if a newly generated Java file would
      * overwrite an existing file. This method should return the merged source
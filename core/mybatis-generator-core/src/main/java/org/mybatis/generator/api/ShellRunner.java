@@ -28,8 +28,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
 
-import org.mybatis.generator.config.Configuration;
-import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.XMLParserException;
 import org.mybatis.generator.internal.DefaultShellCallback;
@@ -43,6 +41,8 @@ import org.mybatis.generator.logging.LogFactory;
 public class ShellRunner {
     private static final String CONFIG_FILE = "-configfile"; //$NON-NLS-1$
     private static final String OVERWRITE = "-overwrite"; //$NON-NLS-1$
+    private static final String ARCHIVE = "-archive"; //$NON-NLS-1$
+    private static final String METRICS = "-metrics"; //$NON-NLS-1$
     private static final String CONTEXT_IDS = "-contextids"; //$NON-NLS-1$
     private static final String TABLES = "-tables"; //$NON-NLS-1$
     private static final String VERBOSE = "-verbose"; //$NON-NLS-1$
@@ -103,18 +103,16 @@ public class ShellRunner {
         }
 
         try {
-            ConfigurationParser cp = new ConfigurationParser(warnings);
-            Configuration config = cp.parseConfiguration(configurationFile);
-
             DefaultShellCallback shellCallback = new DefaultShellCallback(
                     arguments.containsKey(OVERWRITE));
 
-            MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, shellCallback, warnings);
-
             ProgressCallback progressCallback = arguments.containsKey(VERBOSE) ? new VerboseProgressCallback()
                     : null;
 
-            myBatisGenerator.generate(progressCallback, contexts, fullyqualifiedTables);
+            MyBatisGenerator.run(configurationFile, null, warnings, shellCallback, progressCallback,
+                    contexts, fullyqualifiedTables,
+                    arguments.containsKey(ARCHIVE) ? new File(arguments.get(ARCHIVE)) : null,
+                    arguments.containsKey(METRICS) ? new File(arguments.get(METRICS)) : null);
 
         } catch (XMLParserException e) {
             writeLine(getString("Progress.3")); //$NON-NLS-1$
@@ -182,6 +180,20 @@ public class ShellRunner {
                             "RuntimeError.19", CONFIG_FILE)); //$NON-NLS-1$
                 }
                 i++;
+            } else if (ARCHIVE.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    arguments.put(ARCHIVE, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", ARCHIVE)); //$NON-NLS-1$
+                }
+                i++;
+            } else if (METRICS.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    arguments.put(METRICS, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", METRICS)); //$NON-NLS-1$
+                }
+                i++;
             } else if (OVERWRITE.equalsIgnoreCase(args[i])) {
                 arguments.put(OVERWRITE, "Y"); //$NON-NLS-1$
             } else if (VERBOSE.equalsIgnoreCase(args[i])) {
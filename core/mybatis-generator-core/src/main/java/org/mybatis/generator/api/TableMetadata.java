@@ -0,0 +1,39 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+/**
+ * This class holds the remarks and type of a table as returned from database
+ * metadata.
+ */
+public class TableMetadata {
+    private final String remarks;
+    private final String tableType;
+
+    public TableMetadata(String remarks, String tableType) {
+        super();
+        this.remarks = remarks;
+        this.tableType = tableType;
+    }
+
+    public String getRemarks() {
+        return remarks;
+    }
+
+    public String getTableType() {
+        return tableType;
+    }
+}
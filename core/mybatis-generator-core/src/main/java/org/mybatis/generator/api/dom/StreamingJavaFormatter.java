@@ -0,0 +1,65 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom;
+
+import java.io.IOException;
+
+import org.mybatis.generator.api.JavaFormatter;
+import org.mybatis.generator.api.dom.java.CompilationUnit;
+import org.mybatis.generator.api.dom.java.render.CompilationUnitRenderer;
+import org.mybatis.generator.config.Context;
+
+/**
+ * A Java formatter that renders each compilation unit in a single pass into one buffer.
+ * The output is identical to the output of {@link DefaultJavaFormatter}, but far fewer
+ * intermediate strings are created for large classes with nested inner classes.
+ *
+ * <p>Use this formatter by setting the "javaFormatter" context property to the name of
+ * this class.
+ */
+public class StreamingJavaFormatter implements JavaFormatter {
+    private final CompilationUnitRenderer compilationUnitRenderer = new CompilationUnitRenderer();
+
+    protected Context context;
+
+    @Override
+    public String getFormattedContent(CompilationUnit compilationUnit) {
+        StringBuilder sb = new StringBuilder(8192);
+        try {
+            writeFormattedContent(compilationUnit, sb);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the formatted content of a compilation unit directly into the output.
+     *
+     * @param compilationUnit the compilation unit to format
+     * @param out receives the formatted content
+     * @throws IOException if the output throws an IOException
+     */
+    public void writeFormattedContent(CompilationUnit compilationUnit, Appendable out) throws IOException {
+        compilationUnitRenderer.render(compilationUnit, out);
+    }
+
+    @Override
+    public void setContext(Context context) {
+        this.context = context;
+    }
+}
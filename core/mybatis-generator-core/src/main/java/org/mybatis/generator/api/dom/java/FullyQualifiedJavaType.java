@@ -19,27 +19,26 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class FullyQualifiedJavaType implements
         Comparable<FullyQualifiedJavaType> {
     
     private static final String JAVA_LANG = "java.lang"; //$NON-NLS-1$
 
-    private static FullyQualifiedJavaType intInstance = null;
-
-    private static FullyQualifiedJavaType stringInstance = null;
-
-    private static FullyQualifiedJavaType booleanPrimitiveInstance = null;
-
-    private static FullyQualifiedJavaType objectInstance = null;
-
-    private static FullyQualifiedJavaType dateInstance = null;
-
-    private static FullyQualifiedJavaType criteriaInstance = null;
+    /**
+     * The maximum number of shared instances that are cached. Shared instances of other types
+     * are still created, but are parsed again each time they are requested, so the cache cannot
+     * grow without bound in a long running process.
+     */
+    private static final int MAXIMUM_CACHED_SHARED_INSTANCES = 1024;
 
-    private static FullyQualifiedJavaType generatedCriteriaInstance = null;
+    private static final ConcurrentMap<String, FullyQualifiedJavaType> SHARED_INSTANCES =
+            new ConcurrentHashMap<>();
 
     /** The short name without any generic arguments. */
     private String baseShortName;
@@ -66,6 +65,21 @@ public class FullyQualifiedJavaType implements
 
     private boolean extendsBoundedWildcard;
 
+    /** True if this is a shared instance, which cannot be changed. */
+    private final boolean shared;
+
+    /** The names, including any wildcard, without any generic arguments. */
+    private String qualifiedNameWithoutTypeArguments;
+
+    private String shortNameWithoutTypeArguments;
+
+    // the following three values are calculated once for shared instances
+    private String fullyQualifiedName;
+
+    private String shortName;
+
+    private List<String> importList;
+
     /**
      * Use this constructor to construct a generic type with the specified type parameters.
      *
@@ -73,9 +87,65 @@ public class FullyQualifiedJavaType implements
      *            the full type specification
      */
     public FullyQualifiedJavaType(String fullTypeSpecification) {
+        this(fullTypeSpecification, false);
+    }
+
+    private FullyQualifiedJavaType(String fullTypeSpecification, boolean shared) {
         super();
+        this.shared = shared;
         typeArguments = new ArrayList<>();
         parse(fullTypeSpecification);
+        qualifiedNameWithoutTypeArguments = addWildcard(baseQualifiedName);
+        shortNameWithoutTypeArguments = addWildcard(baseShortName);
+
+        if (shared) {
+            typeArguments = Collections.unmodifiableList(typeArguments);
+            fullyQualifiedName = calculateFullyQualifiedName();
+            shortName = calculateShortName();
+            importList = Collections.unmodifiableList(calculateImportList());
+        }
+    }
+
+    /**
+     * Returns a shared instance of a type. Shared instances are cached, so they are usually
+     * parsed once, and their names and import lists are only calculated once. Shared instances
+     * cannot be changed - type arguments cannot be added - so they may safely be used by any
+     * number of generators and threads. Use the constructor for types that will have type
+     * arguments added.
+     *
+     * <p>The cache holds the first 1024 types requested and nothing is evicted. Once the cache
+     * is full, types that are not already cached are parsed again on every call. Types used
+     * for every table, such as String and the primitive types, are requested while the first
+     * table is generated, so they stay cached.
+     *
+     * @param fullTypeSpecification
+     *            the full type specification
+     * @return the shared instance
+     */
+    public static FullyQualifiedJavaType getSharedInstance(String fullTypeSpecification) {
+        FullyQualifiedJavaType answer = SHARED_INSTANCES.get(fullTypeSpecification);
+        if (answer == null) {
+            // not computeIfAbsent - type arguments are added to the map while parsing
+            answer = new FullyQualifiedJavaType(fullTypeSpecification, true);
+            if (SHARED_INSTANCES.size() < MAXIMUM_CACHED_SHARED_INSTANCES) {
+                FullyQualifiedJavaType existing = SHARED_INSTANCES.putIfAbsent(fullTypeSpecification, answer);
+                if (existing != null) {
+                    answer = existing;
+                }
+            }
+        }
+
+        return answer;
+    }
+
+    /**
+     * Returns true if this is a shared instance. Shared instances cannot be changed.
+     *
+     * @return true if this is a shared instance
+     * @see #getSharedInstance(String)
+     */
+    public boolean isShared() {
+        return shared;
     }
 
     public boolean isExplicitlyImported() {
@@ -88,22 +158,19 @@ public class FullyQualifiedJavaType implements
      * @return Returns the fullyQualifiedName.
      */
     public String getFullyQualifiedName() {
-        StringBuilder sb = new StringBuilder();
-        if (wildcardType) {
-            sb.append('?');
-            if (boundedWildcard) {
-                if (extendsBoundedWildcard) {
-                    sb.append(" extends "); //$NON-NLS-1$
-                } else {
-                    sb.append(" super "); //$NON-NLS-1$
-                }
-
-                sb.append(baseQualifiedName);
-            }
-        } else {
-            sb.append(baseQualifiedName);
+        if (fullyQualifiedName != null) {
+            return fullyQualifiedName;
+        } else if (typeArguments.isEmpty()) {
+            return qualifiedNameWithoutTypeArguments;
         }
 
+        return calculateFullyQualifiedName();
+    }
+
+    private String calculateFullyQualifiedName() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(qualifiedNameWithoutTypeArguments);
+
         if (typeArguments.size() > 0) {
             boolean first = true;
             sb.append('<');
@@ -128,11 +195,19 @@ public class FullyQualifiedJavaType implements
 
     /**
      * Returns a list of Strings that are the fully qualified names of this type, and any generic type argument
-     * associated with this type.
+     * associated with this type. The list of a shared instance cannot be modified.
      *
      * @return the import list
      */
     public List<String> getImportList() {
+        if (importList != null) {
+            return importList;
+        }
+
+        return calculateImportList();
+    }
+
+    private List<String> calculateImportList() {
         List<String> answer = new ArrayList<>();
         if (isExplicitlyImported()) {
             int index = baseShortName.indexOf('.');
@@ -172,22 +247,19 @@ public class FullyQualifiedJavaType implements
     }
 
     public String getShortName() {
-        StringBuilder sb = new StringBuilder();
-        if (wildcardType) {
-            sb.append('?');
-            if (boundedWildcard) {
-                if (extendsBoundedWildcard) {
-                    sb.append(" extends "); //$NON-NLS-1$
-                } else {
-                    sb.append(" super "); //$NON-NLS-1$
-                }
-
-                sb.append(baseShortName);
-            }
-        } else {
-            sb.append(baseShortName);
+        if (shortName != null) {
+            return shortName;
+        } else if (typeArguments.isEmpty()) {
+            return shortNameWithoutTypeArguments;
         }
 
+        return calculateShortName();
+    }
+
+    private String calculateShortName() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(shortNameWithoutTypeArguments);
+
         if (typeArguments.size() > 0) {
             boolean first = true;
             sb.append('<');
@@ -210,6 +282,18 @@ public class FullyQualifiedJavaType implements
         return baseShortName;
     }
 
+    private String addWildcard(String name) {
+        if (!wildcardType) {
+            return name;
+        } else if (!boundedWildcard) {
+            return "?"; //$NON-NLS-1$
+        } else if (extendsBoundedWildcard) {
+            return "? extends " + name; //$NON-NLS-1$
+        } else {
+            return "? super " + name; //$NON-NLS-1$
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -244,11 +328,7 @@ public class FullyQualifiedJavaType implements
     }
 
     public static final FullyQualifiedJavaType getIntInstance() {
-        if (intInstance == null) {
-            intInstance = new FullyQualifiedJavaType("int"); //$NON-NLS-1$
-        }
-
-        return intInstance;
+        return getSharedInstance("int"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getNewMapInstance() {
@@ -277,52 +357,27 @@ public class FullyQualifiedJavaType implements
     }
 
     public static final FullyQualifiedJavaType getStringInstance() {
-        if (stringInstance == null) {
-            stringInstance = new FullyQualifiedJavaType("java.lang.String"); //$NON-NLS-1$
-        }
-
-        return stringInstance;
+        return getSharedInstance("java.lang.String"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getBooleanPrimitiveInstance() {
-        if (booleanPrimitiveInstance == null) {
-            booleanPrimitiveInstance = new FullyQualifiedJavaType("boolean"); //$NON-NLS-1$
-        }
-
-        return booleanPrimitiveInstance;
+        return getSharedInstance("boolean"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getObjectInstance() {
-        if (objectInstance == null) {
-            objectInstance = new FullyQualifiedJavaType("java.lang.Object"); //$NON-NLS-1$
-        }
-
-        return objectInstance;
+        return getSharedInstance("java.lang.Object"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getDateInstance() {
-        if (dateInstance == null) {
-            dateInstance = new FullyQualifiedJavaType("java.util.Date"); //$NON-NLS-1$
-        }
-
-        return dateInstance;
+        return getSharedInstance("java.util.Date"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getCriteriaInstance() {
-        if (criteriaInstance == null) {
-            criteriaInstance = new FullyQualifiedJavaType("Criteria"); //$NON-NLS-1$
-        }
-
-        return criteriaInstance;
+        return getSharedInstance("Criteria"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getGeneratedCriteriaInstance() {
-        if (generatedCriteriaInstance == null) {
-            generatedCriteriaInstance = new FullyQualifiedJavaType(
-                    "GeneratedCriteria"); //$NON-NLS-1$
-        }
-
-        return generatedCriteriaInstance;
+        return getSharedInstance("GeneratedCriteria"); //$NON-NLS-1$
     }
 
     @Override
@@ -331,6 +386,10 @@ public class FullyQualifiedJavaType implements
     }
 
     public void addTypeArgument(FullyQualifiedJavaType type) {
+        if (shared) {
+            throw new UnsupportedOperationException(getString(
+                    "RuntimeError.26", getFullyQualifiedName())); //$NON-NLS-1$
+        }
         typeArguments.add(type);
     }
 
@@ -451,8 +510,7 @@ public class FullyQualifiedJavaType implements
                 openCount--;
             } else if (",".equals(token)) { //$NON-NLS-1$
                 if (openCount == 0) {
-                    typeArguments
-                            .add(new FullyQualifiedJavaType(sb.toString()));
+                    typeArguments.add(createTypeArgument(sb.toString()));
                     sb.setLength(0);
                 } else {
                     sb.append(token);
@@ -469,10 +527,15 @@ public class FullyQualifiedJavaType implements
 
         String finalType = sb.toString();
         if (stringHasValue(finalType)) {
-            typeArguments.add(new FullyQualifiedJavaType(finalType));
+            typeArguments.add(createTypeArgument(finalType));
         }
     }
 
+    private FullyQualifiedJavaType createTypeArgument(String typeSpecification) {
+        // the arguments of a shared type must not change either
+        return shared ? getSharedInstance(typeSpecification) : new FullyQualifiedJavaType(typeSpecification);
+    }
+
     /**
      * Returns the package name of a fully qualified type.
      * 
@@ -25,20 +25,38 @@ public class BodyLineRenderer {
 
     public List<String> render(List<String> bodyLines) {
         List<String> lines = new ArrayList<>();
-        int indentLevel = 1;
+        int[] indentLevels = calculateIndentLevels(bodyLines);
         StringBuilder sb = new StringBuilder();
 
+        for (int i = 0; i < indentLevels.length; i++) {
+            sb.setLength(0);
+            OutputUtilities.javaIndent(sb, indentLevels[i]);
+            sb.append(bodyLines.get(i));
+            lines.add(sb.toString());
+        }
+
+        return lines;
+    }
+
+    /**
+     * Calculates the indent level of each body line, relative to the enclosing method.
+     *
+     * @param bodyLines the body lines
+     * @return the indent level of each line
+     */
+    static int[] calculateIndentLevels(List<String> bodyLines) {
+        int[] indentLevels = new int[bodyLines.size()];
+        int indentLevel = 1;
+
         ListIterator<String> listIter = bodyLines.listIterator();
         while (listIter.hasNext()) {
-            sb.setLength(0);
+            int index = listIter.nextIndex();
             String line = listIter.next();
             if (line.startsWith("}")) { //$NON-NLS-1$
                 indentLevel--;
             }
 
-            OutputUtilities.javaIndent(sb, indentLevel);
-            sb.append(line);
-            lines.add(sb.toString());
+            indentLevels[index] = indentLevel;
 
             if ((line.endsWith("{") && !line.startsWith("switch")) //$NON-NLS-1$ //$NON-NLS-2$
                     || line.endsWith(":")) { //$NON-NLS-1$
@@ -60,6 +78,6 @@ public class BodyLineRenderer {
             }
         }
 
-        return lines;
+        return indentLevels;
     }
 }
@@ -0,0 +1,329 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom.java.render;
+
+import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.JAVA_INDENT;
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.mybatis.generator.api.dom.java.CompilationUnit;
+import org.mybatis.generator.api.dom.java.CompilationUnitVisitor;
+import org.mybatis.generator.api.dom.java.Field;
+import org.mybatis.generator.api.dom.java.InitializationBlock;
+import org.mybatis.generator.api.dom.java.InnerClass;
+import org.mybatis.generator.api.dom.java.InnerEnum;
+import org.mybatis.generator.api.dom.java.InnerInterface;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.api.dom.java.TopLevelEnumeration;
+
+/**
+ * Renders a compilation unit directly into an {@link Appendable}. The output is identical
+ * to the output of {@link TopLevelClassRenderer}, {@link TopLevelInterfaceRenderer}, and
+ * {@link TopLevelEnumerationRenderer}, but every line is written once with its full
+ * indentation, instead of being collected into a list and copied again for every
+ * enclosing type.
+ *
+ * <p>This class has no state, so a single instance may be shared between threads.
+ */
+public class CompilationUnitRenderer {
+    private final FieldRenderer fieldRenderer = new FieldRenderer();
+    private final InitializationBlockRenderer initializationBlockRenderer = new InitializationBlockRenderer();
+    private final MethodRenderer methodRenderer = new MethodRenderer();
+    private final InnerClassRenderer innerClassRenderer = new InnerClassRenderer();
+    private final InnerInterfaceRenderer innerInterfaceRenderer = new InnerInterfaceRenderer();
+    private final InnerEnumRenderer innerEnumRenderer = new InnerEnumRenderer();
+
+    public void render(CompilationUnit compilationUnit, Appendable out) throws IOException {
+        LineWriter writer = new LineWriter(out);
+
+        writer.writeLines(compilationUnit.getFileCommentLines());
+        renderPackage(compilationUnit, writer);
+        renderStaticImports(compilationUnit, writer);
+        renderImports(compilationUnit, writer);
+
+        try {
+            compilationUnit.accept(new CompilationUnitVisitor<Void>() {
+                @Override
+                public Void visit(TopLevelClass topLevelClass) {
+                    try {
+                        renderInnerClass(topLevelClass, compilationUnit, writer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return null;
+                }
+
+                @Override
+                public Void visit(TopLevelEnumeration topLevelEnumeration) {
+                    try {
+                        renderInnerEnum(topLevelEnumeration, compilationUnit, writer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return null;
+                }
+
+                @Override
+                public Void visit(Interface topLevelInterface) {
+                    try {
+                        renderInnerInterface(topLevelInterface, compilationUnit, writer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return null;
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void renderPackage(CompilationUnit compilationUnit, LineWriter writer) throws IOException {
+        String pack = compilationUnit.getType().getPackageName();
+        if (stringHasValue(pack)) {
+            writer.startLine().append("package ").append(pack).append(';'); //$NON-NLS-1$
+            writer.writeLine(""); //$NON-NLS-1$
+        }
+    }
+
+    private void renderStaticImports(CompilationUnit compilationUnit, LineWriter writer) throws IOException {
+        if (compilationUnit.getStaticImports().isEmpty()) {
+            return;
+        }
+
+        for (String staticImport : compilationUnit.getStaticImports()) {
+            writer.startLine().append("import static ").append(staticImport).append(';'); //$NON-NLS-1$
+        }
+        writer.writeLine(""); //$NON-NLS-1$
+    }
+
+    private void renderImports(CompilationUnit compilationUnit, LineWriter writer) throws IOException {
+        Set<String> imports = RenderingUtilities.renderImports(compilationUnit.getImportedTypes());
+        if (imports.isEmpty()) {
+            return;
+        }
+
+        writer.writeLines(imports);
+        writer.writeLine(""); //$NON-NLS-1$
+    }
+
+    private void renderInnerClass(InnerClass innerClass, CompilationUnit compilationUnit, LineWriter writer)
+            throws IOException {
+        writer.writeLines(innerClass.getJavaDocLines());
+        writer.writeLines(innerClass.getAnnotations());
+        writer.writeLine(innerClassRenderer.renderFirstLine(innerClass, compilationUnit));
+        writer.indent();
+        renderFields(innerClass.getFields(), compilationUnit, writer);
+        renderInitializationBlocks(innerClass.getInitializationBlocks(), writer);
+        renderMethods(innerClass.getMethods(), false, compilationUnit, writer);
+        renderInnerTypes(innerClass.getInnerClasses(), innerClass.getInnerInterfaces(),
+                innerClass.getInnerEnums(), compilationUnit, writer);
+        writer.closeType();
+    }
+
+    private void renderInnerInterface(InnerInterface innerInterface, CompilationUnit compilationUnit,
+            LineWriter writer) throws IOException {
+        writer.writeLines(innerInterface.getJavaDocLines());
+        writer.writeLines(innerInterface.getAnnotations());
+        writer.writeLine(innerInterfaceRenderer.renderFirstLine(innerInterface, compilationUnit));
+        writer.indent();
+        renderFields(innerInterface.getFields(), compilationUnit, writer);
+        renderMethods(innerInterface.getMethods(), true, compilationUnit, writer);
+        renderInnerTypes(innerInterface.getInnerClasses(), innerInterface.getInnerInterfaces(),
+                innerInterface.getInnerEnums(), compilationUnit, writer);
+        writer.closeType();
+    }
+
+    private void renderInnerEnum(InnerEnum innerEnum, CompilationUnit compilationUnit, LineWriter writer)
+            throws IOException {
+        writer.writeLines(innerEnum.getJavaDocLines());
+        writer.writeLines(innerEnum.getAnnotations());
+        writer.writeLine(innerEnumRenderer.renderFirstLine(innerEnum, compilationUnit));
+        writer.indent();
+
+        // the constants are followed by a blank line, like any other member
+        writer.startMember();
+        Iterator<String> iter = innerEnum.getEnumConstants().iterator();
+        while (iter.hasNext()) {
+            String enumConstant = iter.next();
+            writer.startLine().append(enumConstant).append(iter.hasNext() ? ',' : ';');
+        }
+        writer.endMember();
+
+        renderFields(innerEnum.getFields(), compilationUnit, writer);
+        renderInitializationBlocks(innerEnum.getInitializationBlocks(), writer);
+        renderMethods(innerEnum.getMethods(), false, compilationUnit, writer);
+        renderInnerTypes(innerEnum.getInnerClasses(), innerEnum.getInnerInterfaces(),
+                innerEnum.getInnerEnums(), compilationUnit, writer);
+        writer.closeType();
+    }
+
+    private void renderInnerTypes(List<InnerClass> innerClasses, List<InnerInterface> innerInterfaces,
+            List<InnerEnum> innerEnums, CompilationUnit compilationUnit, LineWriter writer) throws IOException {
+        for (InnerClass innerClass : innerClasses) {
+            writer.startMember();
+            renderInnerClass(innerClass, compilationUnit, writer);
+            writer.endMember();
+        }
+
+        for (InnerInterface innerInterface : innerInterfaces) {
+            writer.startMember();
+            renderInnerInterface(innerInterface, compilationUnit, writer);
+            writer.endMember();
+        }
+
+        for (InnerEnum innerEnum : innerEnums) {
+            writer.startMember();
+            renderInnerEnum(innerEnum, compilationUnit, writer);
+            writer.endMember();
+        }
+    }
+
+    private void renderFields(List<Field> fields, CompilationUnit compilationUnit, LineWriter writer)
+            throws IOException {
+        for (Field field : fields) {
+            writer.startMember();
+            writer.writeLines(field.getJavaDocLines());
+            writer.writeLines(field.getAnnotations());
+            writer.writeLine(fieldRenderer.renderField(field, compilationUnit));
+            writer.endMember();
+        }
+    }
+
+    private void renderInitializationBlocks(List<InitializationBlock> initializationBlocks, LineWriter writer)
+            throws IOException {
+        for (InitializationBlock initializationBlock : initializationBlocks) {
+            writer.startMember();
+            writer.writeLines(initializationBlock.getJavaDocLines());
+            writer.writeLine(initializationBlockRenderer.renderFirstLine(initializationBlock));
+            writer.writeBodyLines(initializationBlock.getBodyLines());
+            writer.writeLine("}"); //$NON-NLS-1$
+            writer.endMember();
+        }
+    }
+
+    private void renderMethods(List<Method> methods, boolean inInterface, CompilationUnit compilationUnit,
+            LineWriter writer) throws IOException {
+        for (Method method : methods) {
+            writer.startMember();
+            writer.writeLines(method.getJavaDocLines());
+            writer.writeLines(method.getAnnotations());
+            writer.writeLine(methodRenderer.getFirstLine(method, inInterface, compilationUnit));
+            if (!method.isAbstract() && !method.isNative()) {
+                writer.writeBodyLines(method.getBodyLines());
+                writer.writeLine("}"); //$NON-NLS-1$
+            }
+            writer.endMember();
+        }
+    }
+
+    /**
+     * Writes lines with the indentation of the current type. Members of a type are separated
+     * by a blank line, but no blank line is written after the last member of a type.
+     */
+    private static class LineWriter {
+        private static final String LINE_SEPARATOR = System.getProperty("line.separator"); //$NON-NLS-1$
+
+        private final Appendable out;
+        private int indentLevel;
+        private boolean firstLine = true;
+        private boolean blankLinePending;
+
+        LineWriter(Appendable out) {
+            this.out = out;
+        }
+
+        void indent() {
+            indentLevel++;
+        }
+
+        void startMember() throws IOException {
+            if (blankLinePending) {
+                blankLinePending = false;
+                writeLine(""); //$NON-NLS-1$
+            }
+        }
+
+        void endMember() {
+            blankLinePending = true;
+        }
+
+        void closeType() throws IOException {
+            blankLinePending = false;
+            indentLevel--;
+            writeLine("}"); //$NON-NLS-1$
+        }
+
+        /**
+         * Starts a new, indented line, and returns the output so that the caller can write
+         * the content of the line. The content must not be empty.
+         */
+        Appendable startLine() throws IOException {
+            newLine();
+            writeIndent(indentLevel);
+            return out;
+        }
+
+        void writeLine(String line) throws IOException {
+            newLine();
+            // empty lines are not indented
+            if (!line.isEmpty()) {
+                writeIndent(indentLevel);
+                out.append(line);
+            }
+        }
+
+        void writeLines(Iterable<String> lines) throws IOException {
+            for (String line : lines) {
+                writeLine(line);
+            }
+        }
+
+        void writeBodyLines(List<String> bodyLines) throws IOException {
+            int[] indentLevels = BodyLineRenderer.calculateIndentLevels(bodyLines);
+            for (int i = 0; i < indentLevels.length; i++) {
+                String line = bodyLines.get(i);
+                newLine();
+                // body lines are indented even if they are empty
+                if (indentLevels[i] > 0 || !line.isEmpty()) {
+                    writeIndent(indentLevel + Math.max(0, indentLevels[i]));
+                    out.append(line);
+                }
+            }
+        }
+
+        private void newLine() throws IOException {
+            if (firstLine) {
+                firstLine = false;
+            } else {
+                out.append(LINE_SEPARATOR);
+            }
+        }
+
+        private void writeIndent(int level) throws IOException {
+            for (int i = 0; i < level; i++) {
+                out.append(JAVA_INDENT);
+            }
+        }
+    }
+}
@@ -34,7 +34,7 @@ public class FieldRenderer {
         return lines;
     }
     
-    private String renderField(Field field, CompilationUnit compilationUnit) {
+    String renderField(Field field, CompilationUnit compilationUnit) {
         StringBuilder sb = new StringBuilder();
         sb.append(field.getVisibility().getValue());
 
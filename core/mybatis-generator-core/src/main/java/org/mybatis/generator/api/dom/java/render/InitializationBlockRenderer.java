@@ -35,7 +35,7 @@ public class InitializationBlockRenderer {
         return lines;
     }
     
-    private String renderFirstLine(InitializationBlock initializationBlock) {
+    String renderFirstLine(InitializationBlock initializationBlock) {
         if (initializationBlock.isStatic()) {
             return "static {"; //$NON-NLS-1$
         } else {
@@ -56,7 +56,7 @@ public class InnerClassRenderer {
         return lines;
     }
 
-    private String renderFirstLine(InnerClass innerClass, CompilationUnit compilationUnit) {
+    String renderFirstLine(InnerClass innerClass, CompilationUnit compilationUnit) {
         StringBuilder sb = new StringBuilder();
 
         sb.append(innerClass.getVisibility().getValue());
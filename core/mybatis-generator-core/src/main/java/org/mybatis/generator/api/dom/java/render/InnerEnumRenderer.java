@@ -58,7 +58,7 @@ public class InnerEnumRenderer {
         return lines;
     }
 
-    private String renderFirstLine(InnerEnum innerEnum, CompilationUnit compilationUnit) {
+    String renderFirstLine(InnerEnum innerEnum, CompilationUnit compilationUnit) {
         StringBuilder sb = new StringBuilder();
 
         sb.append(innerEnum.getVisibility().getValue());
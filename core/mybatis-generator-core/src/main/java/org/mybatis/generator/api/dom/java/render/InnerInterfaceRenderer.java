@@ -54,7 +54,7 @@ public class InnerInterfaceRenderer {
         return lines;
     }
 
-    private String renderFirstLine(InnerInterface innerInterface, CompilationUnit compilationUnit) {
+    String renderFirstLine(InnerInterface innerInterface, CompilationUnit compilationUnit) {
         StringBuilder sb = new StringBuilder();
 
         sb.append(innerInterface.getVisibility().getValue());
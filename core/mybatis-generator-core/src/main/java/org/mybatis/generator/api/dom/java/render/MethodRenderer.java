@@ -45,7 +45,7 @@ public class MethodRenderer {
         return lines;
     }
 
-    private String getFirstLine(Method method, boolean inInterface, CompilationUnit compilationUnit) {
+    String getFirstLine(Method method, boolean inInterface, CompilationUnit compilationUnit) {
         StringBuilder sb = new StringBuilder();
 
         sb.append(renderVisibility(method, inInterface));
@@ -174,7 +174,7 @@ public class RenderingUtilities {
         return addEmptyLine(imports.stream()).collect(Collectors.toList());
     }
     
-    private static Set<String> renderImports(Set<FullyQualifiedJavaType> imports) {
+    static Set<String> renderImports(Set<FullyQualifiedJavaType> imports) {
         return imports.stream()
                 .map(FullyQualifiedJavaType::getImportList)
                 .flatMap(List::stream)
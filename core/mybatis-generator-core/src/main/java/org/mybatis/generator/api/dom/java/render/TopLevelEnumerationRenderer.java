@@ -20,6 +20,7 @@ import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.rende
 import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderPackage;
 import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.renderStaticImports;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,6 +28,7 @@ import java.util.stream.Collectors;
 import org.mybatis.generator.api.dom.java.TopLevelEnumeration;
 
 public class TopLevelEnumerationRenderer {
+    private final CompilationUnitRenderer compilationUnitRenderer = new CompilationUnitRenderer();
 
     public String render(TopLevelEnumeration topLevelEnumeration) {
         List<String> lines = new ArrayList<>();
@@ -39,5 +41,17 @@ public class TopLevelEnumerationRenderer {
         
         return lines.stream()
                 .collect(Collectors.joining(System.getProperty("line.separator"))); //$NON-NLS-1$
-    }    
+    }
+
+    /**
+     * Renders the enumeration directly into the output. The result is identical to the result
+     * of {@link #render(TopLevelEnumeration)}.
+     *
+     * @param topLevelEnumeration the enumeration to render
+     * @param out receives the rendered source
+     * @throws IOException if the output throws an IOException
+     */
+    public void render(TopLevelEnumeration topLevelEnumeration, Appendable out) throws IOException {
+        compilationUnitRenderer.render(topLevelEnumeration, out);
+    }
 }
@@ -48,8 +48,20 @@ public class XmlElement extends Element {
         return attributes;
     }
 
+    /**
+     * Adds an attribute. Attributes are kept sorted by name so that they do not need to
+     * be sorted every time the element is rendered. Attributes with the same name are
+     * kept in the order they were added.
+     *
+     * @param attribute
+     *            the attribute to add
+     */
     public void addAttribute(Attribute attribute) {
-        attributes.add(attribute);
+        int index = attributes.size();
+        while (index > 0 && attributes.get(index - 1).compareTo(attribute) > 0) {
+            index--;
+        }
+        attributes.add(index, attribute);
     }
 
     public List<Element> getElements() {
@@ -15,39 +15,112 @@
  */
 package org.mybatis.generator.api.dom.xml.render;
 
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
-import org.mybatis.generator.api.dom.xml.DocType;
+import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.Element;
+import org.mybatis.generator.api.dom.xml.ElementVisitor;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
 
+/**
+ * Renders a document in a single pass. Every line is written once with its full
+ * indentation, so the cost of rendering does not grow with the depth of the document.
+ * The output is the same as rendering the root element with {@link ElementRenderer}.
+ */
 public class DocumentRenderer {
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator"); //$NON-NLS-1$
 
     public String render(Document document) {
-        return Stream.of(renderXmlHeader(),
-                renderDocType(document),
-                renderRootElement(document))
-                .flatMap(Function.identity())
-                .collect(Collectors.joining(System.getProperty("line.separator"))); //$NON-NLS-1$
+        StringBuilder sb = new StringBuilder(8192);
+        try {
+            render(document, sb);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
     }
 
-    private Stream<String> renderXmlHeader() {
-        return Stream.of("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
-    }
-    
-    private Stream<String> renderDocType(Document document) {
-        return Stream.of("<!DOCTYPE " //$NON-NLS-1$
-                + document.getRootElement().getName()
-                + document.getDocType().map(this::renderDocType).orElse("") //$NON-NLS-1$
-                + ">"); //$NON-NLS-1$
-    }
-    
-    private String renderDocType(DocType docType) {
-        return " " + docType.accept(new DocTypeRenderer()); //$NON-NLS-1$
+    /**
+     * Renders the document directly into the output.
+     *
+     * @param document the document to render
+     * @param out receives the rendered document
+     * @throws IOException if the output throws an IOException
+     */
+    public void render(Document document, Appendable out) throws IOException {
+        out.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+        out.append(LINE_SEPARATOR);
+        out.append("<!DOCTYPE ").append(document.getRootElement().getName()); //$NON-NLS-1$
+        if (document.getDocType().isPresent()) {
+            out.append(' ').append(document.getDocType().get().accept(new DocTypeRenderer()));
+        }
+        out.append('>');
+
+        try {
+            document.getRootElement().accept(new ElementWriter(out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
-    
-    private Stream<String> renderRootElement(Document document) {
-        return document.getRootElement().accept(new ElementRenderer());
+
+    /**
+     * Writes each element on a new line, indented by two spaces for every enclosing element.
+     */
+    private static class ElementWriter implements ElementVisitor<Void> {
+        private final Appendable out;
+        private int depth;
+
+        ElementWriter(Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        public Void visit(TextElement element) {
+            try {
+                startLine().append(element.getContent());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(XmlElement element) {
+            try {
+                startLine().append('<').append(element.getName());
+                for (Attribute attribute : ElementRenderer.getSortedAttributes(element)) {
+                    out.append(' ').append(attribute.getName()).append("=\"") //$NON-NLS-1$
+                            .append(attribute.getValue()).append('"');
+                }
+
+                if (!element.hasChildren()) {
+                    out.append(" />"); //$NON-NLS-1$
+                    return null;
+                }
+
+                out.append('>');
+                depth++;
+                for (Element child : element.getElements()) {
+                    child.accept(this);
+                }
+                depth--;
+                startLine().append("</").append(element.getName()).append('>'); //$NON-NLS-1$
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        }
+
+        private Appendable startLine() throws IOException {
+            out.append(LINE_SEPARATOR);
+            for (int i = 0; i < depth; i++) {
+                out.append("  "); //$NON-NLS-1$
+            }
+            return out;
+        }
     }
 }
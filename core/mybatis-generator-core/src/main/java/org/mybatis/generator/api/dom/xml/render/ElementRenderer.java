@@ -15,8 +15,12 @@
  */
 package org.mybatis.generator.api.dom.xml.render;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Stream;
 
+import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.Element;
 import org.mybatis.generator.api.dom.xml.ElementVisitor;
 import org.mybatis.generator.api.dom.xml.TextElement;
@@ -54,12 +58,29 @@ public class ElementRenderer implements ElementVisitor<Stream<String>> {
     }
 
     private String renderAttributes(XmlElement element) {
-        return element.getAttributes().stream()
-                .sorted()
+        return getSortedAttributes(element).stream()
                 .map(attributeRenderer::render)
                 .collect(CustomCollectors.joining(" ", " ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    /**
+     * Returns the attributes of the element in sorted order. Attributes are sorted when they
+     * are added to an element, so the list is only copied and sorted if it was modified
+     * directly.
+     */
+    static List<Attribute> getSortedAttributes(XmlElement element) {
+        List<Attribute> attributes = element.getAttributes();
+        for (int i = 1; i < attributes.size(); i++) {
+            if (attributes.get(i - 1).compareTo(attributes.get(i)) > 0) {
+                List<Attribute> answer = new ArrayList<>(attributes);
+                Collections.sort(answer);
+                return answer;
+            }
+        }
+
+        return attributes;
+    }
+
     private Stream<String> renderOpen(XmlElement element) {
         return Stream.of("<" //$NON-NLS-1$
                 + element.getName()
@@ -20,14 +20,11 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
-import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.GenerationSession;
 
 /**
  * Holds information about a class (uses the JavaBeans Introspector to find properties).
@@ -36,33 +33,58 @@ import org.mybatis.generator.internal.ObjectFactory;
  */
 public class RootClassInfo {
 
-    private static Map<String, RootClassInfo> rootClassInfoMap;
-
-    static {
-        rootClassInfoMap = Collections
-                .synchronizedMap(new HashMap<String, RootClassInfo>());
+    /**
+     * Returns root class information for the specified class. The information is not cached.
+     *
+     * @param className
+     *            the root class name
+     * @param warnings
+     *            the list that will receive any warnings
+     * @return the root class information
+     * @deprecated use {@link #getInstance(String, List, GenerationSession)} so that the information
+     *     is calculated once per generation run
+     */
+    @Deprecated
+    public static RootClassInfo getInstance(String className,
+            List<String> warnings) {
+        return getInstance(className, warnings, new GenerationSession());
     }
 
+    /**
+     * Returns root class information for the specified class. The bean information is
+     * calculated once per generation session and cached in the session, but the returned
+     * instance always reports warnings to the supplied list - so this method may be called
+     * safely by code generators running on different threads.
+     *
+     * @param className
+     *            the root class name
+     * @param warnings
+     *            the list that will receive any warnings
+     * @param generationSession
+     *            the session of the current generation run
+     * @return the root class information
+     */
     public static RootClassInfo getInstance(String className,
-            List<String> warnings) {
-        RootClassInfo classInfo = rootClassInfoMap.get(className);
-        if (classInfo == null) {
-            classInfo = new RootClassInfo(className, warnings);
-            rootClassInfoMap.put(className, classInfo);
+            List<String> warnings, GenerationSession generationSession) {
+        RootClassInfo classInfo = generationSession.getRootClassInfoMap().computeIfAbsent(className,
+                k -> new RootClassInfo(k, warnings, generationSession));
+
+        if (classInfo.warnings == warnings) {
+            return classInfo;
+        } else {
+            return new RootClassInfo(classInfo, warnings);
         }
-
-        return classInfo;
     }
 
     /**
-     * Clears the internal map containing root class info.  This method should be called at the beginning of
-     * a generation run to clear the cached root class info in case there has been a change.
-     * For example, when using the eclipse launcher, the cache would be kept until eclipse
-     * was restarted.
-     * 
+     * This method does nothing. Root class information is cached in the generation session,
+     * and every generation run starts a new session.
+     *
+     * @deprecated no longer required
      */
+    @Deprecated
     public static void reset() {
-        rootClassInfoMap.clear();
+        // nothing to do - the cache belongs to the generation session
     }
 
     private PropertyDescriptor[] propertyDescriptors;
@@ -70,7 +92,15 @@ public class RootClassInfo {
     private List<String> warnings;
     private boolean genericMode = false;
 
-    private RootClassInfo(String className, List<String> warnings) {
+    private RootClassInfo(RootClassInfo cachedInfo, List<String> warnings) {
+        super();
+        this.className = cachedInfo.className;
+        this.propertyDescriptors = cachedInfo.propertyDescriptors;
+        this.genericMode = cachedInfo.genericMode;
+        this.warnings = warnings;
+    }
+
+    private RootClassInfo(String className, List<String> warnings, GenerationSession generationSession) {
         super();
         this.className = className;
         this.warnings = warnings;
@@ -86,7 +116,7 @@ public class RootClassInfo {
         }
 
         try {
-            Class<?> clazz = ObjectFactory.externalClassForName(nameWithoutGenerics);
+            Class<?> clazz = generationSession.externalClassForName(nameWithoutGenerics);
             BeanInfo bi = Introspector.getBeanInfo(clazz);
             propertyDescriptors = bi.getPropertyDescriptors();
         } catch (Exception e) {
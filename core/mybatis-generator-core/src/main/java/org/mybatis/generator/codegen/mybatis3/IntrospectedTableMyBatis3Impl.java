@@ -37,6 +37,9 @@ import org.mybatis.generator.codegen.mybatis3.model.PrimaryKeyGenerator;
 import org.mybatis.generator.codegen.mybatis3.model.RecordWithBLOBsGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.XMLMapperGenerator;
 import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.internal.GenerationEvents;
+import org.mybatis.generator.internal.GenerationMetrics;
+import org.mybatis.generator.internal.GenerationMetrics.Measurement;
 import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.util.StringUtility;
 
@@ -172,8 +175,13 @@ public class IntrospectedTableMyBatis3Impl extends IntrospectedTable {
         List<GeneratedJavaFile> answer = new ArrayList<>();
 
         for (AbstractJavaGenerator javaGenerator : javaGenerators) {
-            List<CompilationUnit> compilationUnits = javaGenerator
-                    .getCompilationUnits();
+            List<CompilationUnit> compilationUnits;
+            try (Measurement measurement = context.getGenerationMetrics().start(
+                    GenerationMetrics.GENERATORS, javaGenerator.getClass().getName());
+                    GenerationEvents.Event event = GenerationEvents.generator(context.getId(),
+                            getFullyQualifiedTable(), javaGenerator)) {
+                compilationUnits = javaGenerator.getCompilationUnits();
+            }
             for (CompilationUnit compilationUnit : compilationUnits) {
                 GeneratedJavaFile gjf = new GeneratedJavaFile(compilationUnit,
                                 javaGenerator.getProject(),
@@ -209,11 +217,18 @@ public class IntrospectedTableMyBatis3Impl extends IntrospectedTable {
         List<GeneratedXmlFile> answer = new ArrayList<>();
 
         if (xmlMapperGenerator != null) {
-            Document document = xmlMapperGenerator.getDocument();
+            Document document;
+            try (Measurement measurement = context.getGenerationMetrics().start(
+                    GenerationMetrics.GENERATORS, xmlMapperGenerator.getClass().getName());
+                    GenerationEvents.Event event = GenerationEvents.generator(context.getId(),
+                            getFullyQualifiedTable(), xmlMapperGenerator)) {
+                document = xmlMapperGenerator.getDocument();
+            }
             GeneratedXmlFile gxf = new GeneratedXmlFile(document,
                     getMyBatis3XmlMapperFileName(), getMyBatis3XmlMapperPackage(),
                     context.getSqlMapGeneratorConfiguration().getTargetProject(),
                     true, context.getXmlFormatter());
+            gxf.setStreamingMerge(context.isStreamingXmlMergeEnabled());
             if (context.getPlugins().sqlMapGenerated(gxf, this)) {
                 answer.add(gxf);
             }
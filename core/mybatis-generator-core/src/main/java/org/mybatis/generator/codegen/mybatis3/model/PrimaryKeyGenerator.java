@@ -80,7 +80,7 @@ public class PrimaryKeyGenerator extends AbstractJavaGenerator {
 
         for (IntrospectedColumn introspectedColumn : introspectedTable
                 .getPrimaryKeyColumns()) {
-            if (RootClassInfo.getInstance(rootClass, warnings)
+            if (RootClassInfo.getInstance(rootClass, warnings, context.getGenerationSession())
                     .containsProperty(introspectedColumn)) {
                 continue;
             }
@@ -78,7 +78,7 @@ public class RecordWithBLOBsGenerator extends AbstractJavaGenerator {
         
         for (IntrospectedColumn introspectedColumn : introspectedTable
                 .getBLOBColumns()) {
-            if (RootClassInfo.getInstance(rootClass, warnings)
+            if (RootClassInfo.getInstance(rootClass, warnings, context.getGenerationSession())
                     .containsProperty(introspectedColumn)) {
                 continue;
             }
@@ -81,7 +81,7 @@ public class SimpleModelGenerator extends AbstractJavaGenerator {
 
         String rootClass = getRootClass();
         for (IntrospectedColumn introspectedColumn : introspectedColumns) {
-            if (RootClassInfo.getInstance(rootClass, warnings)
+            if (RootClassInfo.getInstance(rootClass, warnings, context.getGenerationSession())
                     .containsProperty(introspectedColumn)) {
                 continue;
             }
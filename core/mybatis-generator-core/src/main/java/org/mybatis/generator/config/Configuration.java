@@ -18,8 +18,11 @@ package org.mybatis.generator.config;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.mybatis.generator.exception.InvalidConfigurationException;
 
@@ -68,6 +71,7 @@ public class Configuration {
             for (Context context : contexts) {
                 context.validate(errors);
             }
+            validateIntrospectionSnapshotFiles(errors);
         }
 
         if (errors.size() > 0) {
@@ -75,6 +79,26 @@ public class Configuration {
         }
     }
 
+    /**
+     * Each snapshot holds the tables of one context, so contexts must not share a snapshot file.
+     */
+    private void validateIntrospectionSnapshotFiles(List<String> errors) {
+        Map<File, String> contextIds = new HashMap<>();
+        for (Context context : contexts) {
+            File snapshotFile = context.getIntrospectionSnapshotFile();
+            if (snapshotFile == null || (!context.isRecordingIntrospectionSnapshot()
+                    && !context.isReplayingIntrospectionSnapshot())) {
+                continue;
+            }
+
+            String otherContextId = contextIds.putIfAbsent(snapshotFile.getAbsoluteFile(), context.getId());
+            if (otherContextId != null) {
+                errors.add(getString("ValidationError.32", //$NON-NLS-1$
+                        otherContextId, context.getId()));
+            }
+        }
+    }
+
     public List<Context> getContexts() {
         return contexts;
     }
@@ -20,29 +20,52 @@ import static org.mybatis.generator.internal.util.StringUtility.isTrue;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.io.File;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 import java.util.Set;
 
 import org.mybatis.generator.api.CommentGenerator;
 import org.mybatis.generator.api.ConnectionFactory;
+import org.mybatis.generator.api.GeneratedFile;
+import org.mybatis.generator.api.GeneratedFileConsumer;
 import org.mybatis.generator.api.GeneratedJavaFile;
 import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.IntrospectionStrategy;
 import org.mybatis.generator.api.JavaFormatter;
 import org.mybatis.generator.api.JavaTypeResolver;
 import org.mybatis.generator.api.Plugin;
 import org.mybatis.generator.api.ProgressCallback;
 import org.mybatis.generator.api.XmlFormatter;
+import org.mybatis.generator.internal.FingerprintCalculator;
+import org.mybatis.generator.internal.GenerationManifest;
+import org.mybatis.generator.internal.GenerationEvents;
+import org.mybatis.generator.internal.GenerationMetrics;
+import org.mybatis.generator.internal.GenerationMetrics.Measurement;
+import org.mybatis.generator.internal.GenerationSession;
 import org.mybatis.generator.internal.JDBCConnectionFactory;
 import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.ParallelTaskRunner;
 import org.mybatis.generator.internal.PluginAggregator;
+import org.mybatis.generator.internal.SynchronizedProgressCallback;
+import org.mybatis.generator.internal.db.ConnectionPool;
+import org.mybatis.generator.internal.db.ConnectionPoolRegistry;
 import org.mybatis.generator.internal.db.DatabaseIntrospector;
+import org.mybatis.generator.internal.db.IntrospectionSnapshot;
 
 public class Context extends PropertyHolder {
 
+    private static final String SNAPSHOT_MODE_RECORD = "record"; //$NON-NLS-1$
+
+    private static final String SNAPSHOT_MODE_REPLAY = "replay"; //$NON-NLS-1$
+
     private String id;
 
     private JDBCConnectionConfiguration jdbcConnectionConfiguration;
@@ -85,6 +108,14 @@ public class Context extends PropertyHolder {
     
     private boolean isJava8Targeted = true;
 
+    private int generationThreads = 1;
+
+    private int introspectionThreads = 1;
+
+    private int outputThreads = 1;
+
+    private boolean isStreamingXmlMergeEnabled;
+
     public Context(ModelType defaultModelType) {
         super();
 
@@ -189,6 +220,38 @@ public class Context extends PropertyHolder {
         for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
             pluginConfiguration.validate(errors, id);
         }
+
+        validateThreadCount(PropertyRegistry.CONTEXT_GENERATION_THREADS, errors);
+        validateThreadCount(PropertyRegistry.CONTEXT_INTROSPECTION_THREADS, errors);
+        validateThreadCount(PropertyRegistry.CONTEXT_OUTPUT_THREADS, errors);
+
+        String snapshotMode = getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE);
+        if (stringHasValue(snapshotMode)) {
+            if (!SNAPSHOT_MODE_RECORD.equalsIgnoreCase(snapshotMode)
+                    && !SNAPSHOT_MODE_REPLAY.equalsIgnoreCase(snapshotMode)) {
+                errors.add(getString("ValidationError.30", id)); //$NON-NLS-1$
+            }
+
+            if (!stringHasValue(getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_FILE))) {
+                errors.add(getString("ValidationError.31", id)); //$NON-NLS-1$
+            }
+        }
+    }
+
+    private void validateThreadCount(String propertyName, List<String> errors) {
+        String value = getProperty(propertyName);
+        if (stringHasValue(value) && parseThreadCount(value) < 1) {
+            errors.add(getString("ValidationError.29", //$NON-NLS-1$
+                    propertyName, id));
+        }
+    }
+
+    private static int parseThreadCount(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 
     public String getId() {
@@ -254,6 +317,18 @@ public class Context extends PropertyHolder {
         } else if (PropertyRegistry.CONTEXT_TARGET_JAVA8.equals(name)
                 && stringHasValue(value)) {
             isJava8Targeted = isTrue(value);
+        } else if (PropertyRegistry.CONTEXT_GENERATION_THREADS.equals(name)
+                && stringHasValue(value)) {
+            generationThreads = Math.max(1, parseThreadCount(value));
+        } else if (PropertyRegistry.CONTEXT_INTROSPECTION_THREADS.equals(name)
+                && stringHasValue(value)) {
+            introspectionThreads = Math.max(1, parseThreadCount(value));
+        } else if (PropertyRegistry.CONTEXT_OUTPUT_THREADS.equals(name)
+                && stringHasValue(value)) {
+            outputThreads = Math.max(1, parseThreadCount(value));
+        } else if (PropertyRegistry.CONTEXT_STREAMING_XML_MERGE.equals(name)
+                && stringHasValue(value)) {
+            isStreamingXmlMergeEnabled = isTrue(value);
         }
     }
 
@@ -322,6 +397,16 @@ public class Context extends PropertyHolder {
 
     private List<IntrospectedTable> introspectedTables;
 
+    private IntrospectionSnapshot introspectionSnapshot;
+
+    private GenerationManifest previousGenerationManifest;
+
+    private GenerationManifest generationManifest;
+
+    private GenerationSession generationSession = new GenerationSession();
+
+    private GenerationMetrics generationMetrics = GenerationMetrics.disabled();
+
     public int getIntrospectionSteps() {
         int steps = 0;
 
@@ -363,8 +448,55 @@ public class Context extends PropertyHolder {
     public void introspectTables(ProgressCallback callback,
             List<String> warnings, Set<String> fullyQualifiedTableNames)
             throws SQLException, InterruptedException {
+        if (isParallelIntrospectionEnabled()) {
+            try (ConnectionPoolRegistry connectionPools = new ConnectionPoolRegistry()) {
+                introspectTables(callback, warnings, fullyQualifiedTableNames, connectionPools);
+            }
+        } else {
+            introspectTables(callback, warnings, fullyQualifiedTableNames, null);
+        }
+    }
+
+    /**
+     * Introspect tables based on the configuration specified in the
+     * constructor. This method is long running.
+     *
+     * <p>If the context property "introspectionThreads" is greater than one, then
+     * tables are introspected in parallel using connections from a pool in the
+     * registry. Contexts that connect to the same database share a pool if they
+     * are introspected with the same registry. Regardless of the number of threads,
+     * introspected tables and warnings are added in configuration order.
+     *
+     * @param callback
+     *            a progress callback
+     * @param warnings
+     *            any warning generated from this method will be added to the
+     *            List. Warnings are always Strings.
+     * @param fullyQualifiedTableNames
+     *            a set of table names to generate. If the Set is null or empty,
+     *            then all tables in the configuration will be used for code
+     *            generation.
+     * @param connectionPools
+     *            the registry of connection pools for this run. May be
+     *            <code>null</code> if introspection is not parallel
+     *
+     * @throws SQLException
+     *             if some error arises while introspecting the specified
+     *             database tables.
+     * @throws InterruptedException
+     *             if the progress callback reports a cancel
+     */
+    public void introspectTables(ProgressCallback callback,
+            List<String> warnings, Set<String> fullyQualifiedTableNames,
+            ConnectionPoolRegistry connectionPools)
+            throws SQLException, InterruptedException {
+        if (isParallelIntrospectionEnabled() && connectionPools != null) {
+            introspectTablesInParallel(callback, warnings, fullyQualifiedTableNames, connectionPools);
+            return;
+        }
 
         introspectedTables = new ArrayList<>();
+        introspectionSnapshot = isRecordingIntrospectionSnapshot() ? new IntrospectionSnapshot() : null;
         JavaTypeResolver javaTypeResolver = ObjectFactory
                 .createJavaTypeResolver(this, warnings);
 
@@ -375,7 +507,8 @@ public class Context extends PropertyHolder {
             connection = getConnection();
 
             DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(
-                    this, connection.getMetaData(), javaTypeResolver, warnings);
+                    this, connection.getMetaData(), javaTypeResolver, warnings,
+                    ObjectFactory.createIntrospectionStrategy(this));
 
             for (TableConfiguration tc : tableConfigurations) {
                 String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc
@@ -393,13 +526,23 @@ public class Context extends PropertyHolder {
                 }
 
                 callback.startTask(getString("Progress.1", tableName)); //$NON-NLS-1$
-                List<IntrospectedTable> tables = databaseIntrospector
-                        .introspectTables(tc);
+                int firstWarning = warnings.size();
+                List<IntrospectedTable> tables;
+                try (Measurement measurement = generationMetrics.start(
+                        GenerationMetrics.INTROSPECTED_TABLES, tableName)) {
+                    tables = databaseIntrospector.introspectTables(tc);
+                }
 
                 if (tables != null) {
                     introspectedTables.addAll(tables);
                 }
 
+                if (introspectionSnapshot != null) {
+                    introspectionSnapshot.addTableConfiguration(tc,
+                            tables == null ? Collections.emptyList() : tables,
+                            warnings.subList(firstWarning, warnings.size()));
+                }
+
                 callback.checkCancel();
             }
         } finally {
@@ -407,6 +550,154 @@ public class Context extends PropertyHolder {
         }
     }
 
+    private void introspectTablesInParallel(ProgressCallback callback,
+            List<String> warnings, Set<String> fullyQualifiedTableNames,
+            ConnectionPoolRegistry connectionPools)
+            throws SQLException, InterruptedException {
+
+        introspectedTables = new ArrayList<>();
+        introspectionSnapshot = isRecordingIntrospectionSnapshot() ? new IntrospectionSnapshot() : null;
+
+        callback.startTask(getString("Progress.0")); //$NON-NLS-1$
+        ConnectionPool connectionPool = connectionPools.getPool(getConnectionPoolKey(),
+                getMeasuredConnectionFactory(), introspectionThreads);
+        ProgressCallback synchronizedCallback = SynchronizedProgressCallback.of(callback);
+        // a single strategy is shared so that bulk strategies can cache
+        // metadata across tables
+        IntrospectionStrategy introspectionStrategy = ObjectFactory.createIntrospectionStrategy(this);
+
+        List<ParallelTaskRunner.Task<TableIntrospectionResult, SQLException>> tasks = new ArrayList<>();
+        for (TableConfiguration tc : tableConfigurations) {
+            String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc
+                    .getSchema(), tc.getTableName(), '.');
+
+            if (fullyQualifiedTableNames != null
+                    && fullyQualifiedTableNames.size() > 0
+                    && !fullyQualifiedTableNames.contains(tableName)) {
+                continue;
+            }
+
+            tasks.add(() -> {
+                TableIntrospectionResult result = new TableIntrospectionResult();
+                if (!tc.areAnyStatementsEnabled()) {
+                    result.warnings.add(getString("Warning.0", tableName)); //$NON-NLS-1$
+                    return result;
+                }
+
+                synchronizedCallback.startTask(getString("Progress.1", tableName)); //$NON-NLS-1$
+                Connection connection = connectionPool.acquire();
+                try (Measurement measurement = generationMetrics.start(
+                        GenerationMetrics.INTROSPECTED_TABLES, tableName)) {
+                    // type resolvers and introspectors hold the warnings list,
+                    // so each table gets its own
+                    JavaTypeResolver javaTypeResolver = ObjectFactory
+                            .createJavaTypeResolver(this, result.warnings);
+                    DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(
+                            this, connection.getMetaData(), javaTypeResolver, result.warnings,
+                            introspectionStrategy);
+
+                    List<IntrospectedTable> tables = databaseIntrospector.introspectTables(tc);
+                    if (tables != null) {
+                        result.introspectedTables.addAll(tables);
+                    }
+                    result.tableConfiguration = tc;
+                } finally {
+                    connectionPool.release(connection);
+                }
+
+                synchronizedCallback.checkCancel();
+                return result;
+            });
+        }
+
+        for (TableIntrospectionResult result : ParallelTaskRunner.runAll(tasks, introspectionThreads)) {
+            introspectedTables.addAll(result.introspectedTables);
+            warnings.addAll(result.warnings);
+
+            if (introspectionSnapshot != null && result.tableConfiguration != null) {
+                introspectionSnapshot.addTableConfiguration(result.tableConfiguration,
+                        result.introspectedTables, result.warnings);
+            }
+        }
+    }
+
+    /**
+     * Creates the introspected tables from a snapshot recorded by an earlier run
+     * instead of connecting to the database. Tables are filtered exactly as
+     * they are for a live introspection, and the warnings recorded with the
+     * snapshot are reported again so that the output of the run is the same.
+     *
+     * @param callback
+     *            a progress callback
+     * @param warnings
+     *            any warning generated from this method will be added to the
+     *            List. Warnings are always Strings.
+     * @param fullyQualifiedTableNames
+     *            a set of table names to generate. If the Set is null or empty,
+     *            then all tables in the configuration will be used for code
+     *            generation.
+     * @param snapshot
+     *            the snapshot to read
+     * @throws InterruptedException
+     *             if the progress callback reports a cancel
+     */
+    public void introspectTablesFromSnapshot(ProgressCallback callback,
+            List<String> warnings, Set<String> fullyQualifiedTableNames,
+            IntrospectionSnapshot snapshot) throws InterruptedException {
+        introspectedTables = new ArrayList<>();
+        introspectionSnapshot = snapshot;
+
+        for (TableConfiguration tc : tableConfigurations) {
+            String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc
+                    .getSchema(), tc.getTableName(), '.');
+
+            if (fullyQualifiedTableNames != null
+                    && fullyQualifiedTableNames.size() > 0
+                    && !fullyQualifiedTableNames.contains(tableName)) {
+                continue;
+            }
+
+            if (!tc.areAnyStatementsEnabled()) {
+                warnings.add(getString("Warning.0", tableName)); //$NON-NLS-1$
+                continue;
+            }
+
+            if (!snapshot.contains(tc)) {
+                throw new RuntimeException(getString("RuntimeError.25", tableName, id)); //$NON-NLS-1$
+            }
+
+            callback.startTask(getString("Progress.1", tableName)); //$NON-NLS-1$
+            introspectedTables.addAll(snapshot.getIntrospectedTables(tc, this));
+            warnings.addAll(snapshot.getWarnings(tc));
+
+            callback.checkCancel();
+        }
+    }
+
+    /**
+     * Calculates a key that identifies the database this context connects to.
+     * Contexts with equal keys can share connections. The key is a hash of the
+     * connection configuration, so passwords are not held by the pool registry.
+     * This method is for internal use only.
+     *
+     * @return the key
+     */
+    public Object getConnectionPoolKey() {
+        List<Object> configuration;
+        if (jdbcConnectionConfiguration != null) {
+            configuration = Arrays.asList(jdbcConnectionConfiguration.getDriverClass(),
+                    jdbcConnectionConfiguration.getConnectionURL(),
+                    jdbcConnectionConfiguration.getUserId(),
+                    jdbcConnectionConfiguration.getPassword(),
+                    jdbcConnectionConfiguration.getProperties());
+        } else {
+            configuration = Arrays.asList(connectionFactoryConfiguration.getConfigurationType(),
+                    connectionFactoryConfiguration.getProperties());
+        }
+
+        return FingerprintCalculator.digestOf(configuration);
+    }
+
     public int getGenerationSteps() {
         int steps = 0;
 
@@ -419,12 +710,148 @@ public class Context extends PropertyHolder {
         return steps;
     }
 
+    /**
+     * Generates the files for all introspected tables. If the context property
+     * "generationThreads" is greater than one, then tables are generated in parallel.
+     * Regardless of the number of threads, generated files and warnings are added
+     * to the lists in table order so the output of a run is deterministic.
+     *
+     * @param callback
+     *            the progress callback
+     * @param generatedJavaFiles
+     *            generated Java files will be added to this list
+     * @param generatedXmlFiles
+     *            generated XML files will be added to this list
+     * @param warnings
+     *            any warnings will be added to this list
+     * @throws InterruptedException
+     *             if the progress callback reports a cancel
+     */
     public void generateFiles(ProgressCallback callback,
             List<GeneratedJavaFile> generatedJavaFiles,
             List<GeneratedXmlFile> generatedXmlFiles, List<String> warnings)
             throws InterruptedException {
+        int firstJavaFile = generatedJavaFiles.size();
+        int firstXmlFile = generatedXmlFiles.size();
+
+        createPlugins(warnings);
+
+        if (introspectedTables != null) {
+            List<IntrospectedTable> tablesToGenerate = calculateTablesToGenerate(callback);
+            if (isParallelGenerationEnabled()) {
+                generateTablesInParallel(tablesToGenerate, callback, generatedJavaFiles,
+                        generatedXmlFiles, warnings);
+            } else {
+                for (IntrospectedTable introspectedTable : tablesToGenerate) {
+                    generateTable(introspectedTable, callback, generatedJavaFiles,
+                            generatedXmlFiles, warnings);
+                }
+            }
+        }
 
+        generatedJavaFiles.addAll(pluginAggregator
+                .contextGenerateAdditionalJavaFiles());
+        generatedXmlFiles.addAll(pluginAggregator
+                .contextGenerateAdditionalXmlFiles());
+
+        // the manifest records the files of this context when they are written
+        if (generationManifest != null) {
+            generatedJavaFiles.subList(firstJavaFile, generatedJavaFiles.size())
+                    .forEach(generationManifest::addGeneratedFile);
+            generatedXmlFiles.subList(firstXmlFile, generatedXmlFiles.size())
+                    .forEach(generationManifest::addGeneratedFile);
+        }
+    }
+
+    /**
+     * Generates the files for all introspected tables, and passes the files of each
+     * table to the consumer as soon as the table is generated. Nothing is retained
+     * after the consumer returns, so the memory required does not depend on the
+     * number of tables.
+     *
+     * <p>If the context property "generationThreads" is greater than one, then tables
+     * are generated in parallel, but the consumer is always called on the calling
+     * thread and in table order.
+     *
+     * @param callback
+     *            the progress callback
+     * @param consumer
+     *            receives the generated files
+     * @param warnings
+     *            any warnings will be added to this list
+     * @throws IOException
+     *             if the consumer throws an IOException
+     * @throws InterruptedException
+     *             if the progress callback reports a cancel
+     */
+    public void generateFiles(ProgressCallback callback, GeneratedFileConsumer consumer,
+            List<String> warnings) throws IOException, InterruptedException {
+        createPlugins(warnings);
+
+        if (introspectedTables != null) {
+            List<IntrospectedTable> tablesToGenerate = calculateTablesToGenerate(callback);
+            if (isParallelGenerationEnabled()) {
+                prepareForParallelGeneration();
+                ProgressCallback synchronizedCallback = SynchronizedProgressCallback.of(callback);
+
+                List<ParallelTaskRunner.Task<TableGenerationResult, IOException>> tasks = new ArrayList<>();
+                for (IntrospectedTable introspectedTable : tablesToGenerate) {
+                    tasks.add(() -> {
+                        TableGenerationResult result = new TableGenerationResult();
+                        generateTable(introspectedTable, synchronizedCallback, result.generatedJavaFiles,
+                                result.generatedXmlFiles, result.warnings);
+                        return result;
+                    });
+                }
+
+                ParallelTaskRunner.<TableGenerationResult, IOException>runAll(tasks, generationThreads, result -> {
+                    warnings.addAll(result.warnings);
+                    consumeFiles(result.generatedJavaFiles, result.generatedXmlFiles, consumer);
+                });
+            } else {
+                for (IntrospectedTable introspectedTable : tablesToGenerate) {
+                    List<GeneratedJavaFile> generatedJavaFiles = new ArrayList<>();
+                    List<GeneratedXmlFile> generatedXmlFiles = new ArrayList<>();
+                    generateTable(introspectedTable, callback, generatedJavaFiles,
+                            generatedXmlFiles, warnings);
+                    consumeFiles(generatedJavaFiles, generatedXmlFiles, consumer);
+                }
+            }
+        }
+
+        consumeFiles(pluginAggregator.contextGenerateAdditionalJavaFiles(),
+                pluginAggregator.contextGenerateAdditionalXmlFiles(), consumer);
+    }
+
+    private void consumeFiles(List<GeneratedJavaFile> generatedJavaFiles,
+            List<GeneratedXmlFile> generatedXmlFiles, GeneratedFileConsumer consumer)
+            throws IOException, InterruptedException {
+        // consumers that do not emit their own events are covered by a writing event for each file
+        boolean emitEvents = !(consumer instanceof GenerationEvents.FileEventSource);
+        for (GeneratedJavaFile generatedJavaFile : generatedJavaFiles) {
+            if (emitEvents) {
+                try (GenerationEvents.Event event = GenerationEvents.writing(generatedJavaFile)) {
+                    consumer.javaFileGenerated(generatedJavaFile);
+                }
+            } else {
+                consumer.javaFileGenerated(generatedJavaFile);
+            }
+        }
+
+        for (GeneratedXmlFile generatedXmlFile : generatedXmlFiles) {
+            if (emitEvents) {
+                try (GenerationEvents.Event event = GenerationEvents.writing(generatedXmlFile)) {
+                    consumer.xmlFileGenerated(generatedXmlFile);
+                }
+            } else {
+                consumer.xmlFileGenerated(generatedXmlFile);
+            }
+        }
+    }
+
+    private void createPlugins(List<String> warnings) {
         pluginAggregator = new PluginAggregator();
+        pluginAggregator.setGenerationMetrics(generationMetrics);
         for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
             Plugin plugin = ObjectFactory.createPlugin(this,
                     pluginConfiguration);
@@ -435,13 +862,25 @@ public class Context extends PropertyHolder {
                         pluginConfiguration.getConfigurationType(), id));
             }
         }
+    }
 
-        if (introspectedTables != null) {
-            for (IntrospectedTable introspectedTable : introspectedTables) {
-                callback.checkCancel();
+    private void generateTable(IntrospectedTable introspectedTable, ProgressCallback callback,
+            List<GeneratedJavaFile> generatedJavaFiles,
+            List<GeneratedXmlFile> generatedXmlFiles, List<String> warnings)
+            throws InterruptedException {
+        callback.checkCancel();
 
+        int firstJavaFile = generatedJavaFiles.size();
+        int firstXmlFile = generatedXmlFiles.size();
+        try (Measurement measurement = generationMetrics.start(GenerationMetrics.GENERATED_TABLES,
+                introspectedTable.getFullyQualifiedTable().toString())) {
+            pluginAggregator.tableGenerationStarted(introspectedTable);
+            try {
                 introspectedTable.initialize();
-                introspectedTable.calculateGenerators(warnings, callback);
+                try (GenerationEvents.Event event = GenerationEvents.generatorCalculation(id,
+                        introspectedTable.getFullyQualifiedTable())) {
+                    introspectedTable.calculateGenerators(warnings, callback);
+                }
                 generatedJavaFiles.addAll(introspectedTable
                         .getGeneratedJavaFiles());
                 generatedXmlFiles.addAll(introspectedTable
@@ -451,24 +890,297 @@ public class Context extends PropertyHolder {
                         .contextGenerateAdditionalJavaFiles(introspectedTable));
                 generatedXmlFiles.addAll(pluginAggregator
                         .contextGenerateAdditionalXmlFiles(introspectedTable));
+            } finally {
+                // plugins release their state for the table even if generation fails
+                pluginAggregator.tableGenerationFinished(introspectedTable);
             }
         }
 
-        generatedJavaFiles.addAll(pluginAggregator
-                .contextGenerateAdditionalJavaFiles());
-        generatedXmlFiles.addAll(pluginAggregator
-                .contextGenerateAdditionalXmlFiles());
+        // the next run generates the table again if any of these files is deleted
+        if (generationManifest != null) {
+            List<GeneratedFile> tableFiles = new ArrayList<>();
+            tableFiles.addAll(generatedJavaFiles.subList(firstJavaFile, generatedJavaFiles.size()));
+            tableFiles.addAll(generatedXmlFiles.subList(firstXmlFile, generatedXmlFiles.size()));
+            generationManifest.putTableFiles(FingerprintCalculator.getTableKey(introspectedTable),
+                    tableFiles);
+        }
+    }
+
+    /**
+     * Calculates the tables that must be generated. If a manifest from a previous run
+     * has been set, tables whose fingerprint is unchanged are skipped, and the manifest
+     * for this run is calculated.
+     *
+     * <p>No table is skipped if a plugin generates files for the whole context, because
+     * such files must cover every table, not only the changed ones.
+     */
+    private List<IntrospectedTable> calculateTablesToGenerate(ProgressCallback callback) {
+        if (previousGenerationManifest == null) {
+            generationManifest = null;
+            return introspectedTables;
+        }
+
+        // tables that were not introspected in this run keep their fingerprints
+        generationManifest = new GenerationManifest();
+        generationManifest.putAll(previousGenerationManifest);
+
+        boolean skipUnchangedTables = !pluginAggregator.hasContextFilePlugins();
+        FingerprintCalculator fingerprintCalculator = new FingerprintCalculator(this);
+        List<IntrospectedTable> answer = new ArrayList<>();
+        for (IntrospectedTable introspectedTable : introspectedTables) {
+            String tableKey = FingerprintCalculator.getTableKey(introspectedTable);
+            String fingerprint = fingerprintCalculator.calculateFingerprint(introspectedTable);
+
+            if (skipUnchangedTables
+                    && fingerprint.equals(previousGenerationManifest.getFingerprint(tableKey))) {
+                callback.startTask(getString("Progress.19", tableKey)); //$NON-NLS-1$
+            } else {
+                answer.add(introspectedTable);
+            }
+
+            generationManifest.putFingerprint(tableKey, fingerprint);
+        }
+
+        return answer;
+    }
+
+    private void generateTablesInParallel(List<IntrospectedTable> tablesToGenerate, ProgressCallback callback,
+            List<GeneratedJavaFile> generatedJavaFiles,
+            List<GeneratedXmlFile> generatedXmlFiles, List<String> warnings)
+            throws InterruptedException {
+        prepareForParallelGeneration();
+        ProgressCallback synchronizedCallback = SynchronizedProgressCallback.of(callback);
+
+        List<ParallelTaskRunner.Task<TableGenerationResult, RuntimeException>> tasks = new ArrayList<>();
+        for (IntrospectedTable introspectedTable : tablesToGenerate) {
+            tasks.add(() -> {
+                TableGenerationResult result = new TableGenerationResult();
+                generateTable(introspectedTable, synchronizedCallback, result.generatedJavaFiles,
+                        result.generatedXmlFiles, result.warnings);
+                return result;
+            });
+        }
+
+        for (TableGenerationResult result : ParallelTaskRunner.runAll(tasks, generationThreads)) {
+            generatedJavaFiles.addAll(result.generatedJavaFiles);
+            generatedXmlFiles.addAll(result.generatedXmlFiles);
+            warnings.addAll(result.warnings);
+        }
+    }
+
+    private void prepareForParallelGeneration() {
+        // these objects are created lazily - create them now so that all
+        // tables share the same instances
+        getCommentGenerator();
+        getJavaFormatter();
+        getXmlFormatter();
+    }
+
+    /**
+     * Returns the tables introspected by the last call to introspectTables, in
+     * configuration order.
+     *
+     * @return the introspected tables, or an empty list if introspection has not run
+     */
+    public List<IntrospectedTable> getIntrospectedTables() {
+        if (introspectedTables == null) {
+            return Collections.emptyList();
+        }
+
+        return Collections.unmodifiableList(introspectedTables);
+    }
+
+    /**
+     * Returns the snapshot of the last call to introspectTables if the context
+     * property "introspectionSnapshotMode" is "record".
+     *
+     * @return the snapshot, or null if introspection was not recorded
+     */
+    public IntrospectionSnapshot getIntrospectionSnapshot() {
+        return introspectionSnapshot;
+    }
+
+    public boolean isRecordingIntrospectionSnapshot() {
+        return SNAPSHOT_MODE_RECORD.equalsIgnoreCase(
+                getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE));
+    }
+
+    public boolean isReplayingIntrospectionSnapshot() {
+        return SNAPSHOT_MODE_REPLAY.equalsIgnoreCase(
+                getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE));
+    }
+
+    public File getIntrospectionSnapshotFile() {
+        String fileName = getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_FILE);
+        return stringHasValue(fileName) ? new File(fileName) : null;
+    }
+
+    /**
+     * Sets the manifest written by the previous run. If set, the next call to
+     * generateFiles skips tables that have not changed since that run.
+     *
+     * @param previousGenerationManifest
+     *            the manifest of the previous run, or <code>null</code> to generate all tables
+     */
+    public void setPreviousGenerationManifest(GenerationManifest previousGenerationManifest) {
+        this.previousGenerationManifest = previousGenerationManifest;
+    }
+
+    /**
+     * Returns the manifest calculated by the last call to generateFiles. The manifest
+     * should only be saved after the generated files have been written.
+     *
+     * @return the manifest, or <code>null</code> if no previous manifest was set
+     */
+    public GenerationManifest getGenerationManifest() {
+        return generationManifest;
+    }
+
+    /**
+     * Returns the session of the current generation run. External classes are loaded, and root
+     * class information is cached, through the session.
+     *
+     * @return the generation session
+     */
+    public GenerationSession getGenerationSession() {
+        return generationSession;
+    }
+
+    /**
+     * Sets the session of the next generation run. MyBatisGenerator sets a new session on every
+     * context it runs, so nothing is shared with other runs.
+     *
+     * @param generationSession
+     *            the generation session
+     */
+    public void setGenerationSession(GenerationSession generationSession) {
+        this.generationSession = generationSession;
+    }
+
+    /**
+     * Returns the metrics of the current generation run. Metrics are disabled unless
+     * they are requested for the run.
+     *
+     * @return the generation metrics
+     */
+    public GenerationMetrics getGenerationMetrics() {
+        return generationMetrics;
+    }
+
+    /**
+     * Sets the metrics of the next generation run. MyBatisGenerator sets the metrics of the run
+     * on every context it runs.
+     *
+     * @param generationMetrics
+     *            the generation metrics
+     */
+    public void setGenerationMetrics(GenerationMetrics generationMetrics) {
+        this.generationMetrics = generationMetrics;
+    }
+
+    public File getGenerationManifestFile() {
+        String fileName = getProperty(PropertyRegistry.CONTEXT_GENERATION_MANIFEST_FILE);
+        return stringHasValue(fileName) ? new File(fileName) : null;
+    }
+
+    public List<PluginConfiguration> getPluginConfigurations() {
+        return Collections.unmodifiableList(pluginConfigurations);
+    }
+
+    public boolean isParallelIntrospectionEnabled() {
+        return introspectionThreads > 1;
+    }
+
+    public int getIntrospectionThreads() {
+        return introspectionThreads;
+    }
+
+    public void setIntrospectionThreads(int introspectionThreads) {
+        this.introspectionThreads = Math.max(1, introspectionThreads);
+    }
+
+    public boolean isParallelGenerationEnabled() {
+        return generationThreads > 1;
+    }
+
+    public int getGenerationThreads() {
+        return generationThreads;
+    }
+
+    public void setGenerationThreads(int generationThreads) {
+        this.generationThreads = Math.max(1, generationThreads);
+    }
+
+    public int getOutputThreads() {
+        return outputThreads;
+    }
+
+    public void setOutputThreads(int outputThreads) {
+        this.outputThreads = Math.max(1, outputThreads);
+    }
+
+    public boolean isStreamingXmlMergeEnabled() {
+        return isStreamingXmlMergeEnabled;
+    }
+
+    public void setStreamingXmlMergeEnabled(boolean isStreamingXmlMergeEnabled) {
+        this.isStreamingXmlMergeEnabled = isStreamingXmlMergeEnabled;
+    }
+
+    /**
+     * Holds the output of a single table configuration when tables are introspected in parallel.
+     */
+    private static class TableIntrospectionResult {
+        private TableConfiguration tableConfiguration;
+        private final List<IntrospectedTable> introspectedTables = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
+    }
+
+    /**
+     * Holds the output of a single table when tables are generated in parallel.
+     */
+    private static class TableGenerationResult {
+        private final List<GeneratedJavaFile> generatedJavaFiles = new ArrayList<>();
+        private final List<GeneratedXmlFile> generatedXmlFiles = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
     }
 
     private Connection getConnection() throws SQLException {
+        return getMeasuredConnectionFactory().getConnection();
+    }
+
+    /**
+     * Returns a connection factory that records the time taken to open each
+     * connection. Connection pools only call the factory when a new connection
+     * is needed, so connections reused from a pool are not measured.
+     */
+    private ConnectionFactory getMeasuredConnectionFactory() {
+        ConnectionFactory connectionFactory = getConnectionFactory();
+        return new ConnectionFactory() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                try (Measurement measurement = generationMetrics.start(
+                        GenerationMetrics.PHASES, "connection")) { //$NON-NLS-1$
+                    return connectionFactory.getConnection();
+                }
+            }
+
+            @Override
+            public void addConfigurationProperties(Properties properties) {
+                connectionFactory.addConfigurationProperties(properties);
+            }
+        };
+    }
+
+    private ConnectionFactory getConnectionFactory() {
         ConnectionFactory connectionFactory;
         if (jdbcConnectionConfiguration != null) {
-            connectionFactory = new JDBCConnectionFactory(jdbcConnectionConfiguration);
+            connectionFactory = new JDBCConnectionFactory(jdbcConnectionConfiguration, generationSession);
         } else {
             connectionFactory = ObjectFactory.createConnectionFactory(this);
         }
 
-        return connectionFactory.getConnection();
+        return connectionFactory;
     }
 
     private void closeConnection(Connection connection) {
@@ -55,6 +55,14 @@ public class PropertyRegistry {
     public static final String CONTEXT_JAVA_FORMATTER = "javaFormatter"; //$NON-NLS-1$
     public static final String CONTEXT_XML_FORMATTER = "xmlFormatter"; //$NON-NLS-1$
     public static final String CONTEXT_TARGET_JAVA8 = "targetJava8"; //$NON-NLS-1$
+    public static final String CONTEXT_GENERATION_MANIFEST_FILE = "generationManifestFile"; //$NON-NLS-1$
+    public static final String CONTEXT_GENERATION_THREADS = "generationThreads"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_THREADS = "introspectionThreads"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_STRATEGY = "introspectionStrategy"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_SNAPSHOT_FILE = "introspectionSnapshotFile"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_SNAPSHOT_MODE = "introspectionSnapshotMode"; //$NON-NLS-1$
+    public static final String CONTEXT_OUTPUT_THREADS = "outputThreads"; //$NON-NLS-1$
+    public static final String CONTEXT_STREAMING_XML_MERGE = "streamingXmlMerge"; //$NON-NLS-1$
 
     public static final String CLIENT_USE_LEGACY_BUILDER = "useLegacyBuilder"; //$NON-NLS-1$
     
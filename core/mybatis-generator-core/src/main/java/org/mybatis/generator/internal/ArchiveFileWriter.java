@@ -0,0 +1,132 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.mybatis.generator.api.GeneratedFile;
+import org.mybatis.generator.api.GeneratedFileConsumer;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+
+/**
+ * Writes generated files into a zip (or jar) archive instead of a directory tree.
+ * The path of each entry is the target package, as directories, followed by the
+ * file name. The target project is ignored.
+ *
+ * <p>Entries are written in the order the files are generated, and every entry has
+ * the same fixed timestamp, so generating the same code twice produces identical
+ * archives. An existing archive is replaced - files are never merged. Missing parent
+ * directories of the archive are created.
+ */
+public class ArchiveFileWriter implements GeneratedFileConsumer, GenerationEvents.FileEventSource, Closeable {
+
+    /**
+     * The earliest time that can be stored in a zip entry. The time is interpreted
+     * in the default time zone, as zip entries do, so the stored value does not
+     * depend on the time zone.
+     */
+    private static final long ENTRY_TIME = new GregorianCalendar(1980, Calendar.JANUARY, 1, 0, 0, 0).getTimeInMillis();
+
+    private final ZipOutputStream zipOutputStream;
+
+    private final List<String> warnings;
+
+    private final Set<String> entryNames = new HashSet<>();
+
+    /**
+     * Creates the archive.
+     *
+     * @param archiveFile the archive to write
+     * @param warnings receives a warning for each file that is not written
+     * @throws IOException if the archive cannot be created
+     */
+    public ArchiveFileWriter(File archiveFile, List<String> warnings) throws IOException {
+        super();
+        this.warnings = warnings;
+        File parent = archiveFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        zipOutputStream = new ZipOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(archiveFile.toPath())));
+    }
+
+    @Override
+    public void javaFileGenerated(GeneratedJavaFile generatedJavaFile) throws IOException {
+        String content = format(generatedJavaFile);
+        String fileEncoding = generatedJavaFile.getFileEncoding();
+        writeEntry(generatedJavaFile, fileEncoding == null ? content.getBytes() : content.getBytes(fileEncoding));
+    }
+
+    @Override
+    public void xmlFileGenerated(GeneratedXmlFile generatedXmlFile) throws IOException {
+        writeEntry(generatedXmlFile, format(generatedXmlFile).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String format(GeneratedFile generatedFile) {
+        try (GenerationEvents.Event event = GenerationEvents.formatting(generatedFile)) {
+            String content = generatedFile.getFormattedContent();
+            event.setSize(content.length());
+            return content;
+        }
+    }
+
+    private void writeEntry(GeneratedFile generatedFile, byte[] bytes) throws IOException {
+        String entryName = getEntryName(generatedFile);
+        if (!entryNames.add(entryName)) {
+            warnings.add(getString("Warning.30", entryName)); //$NON-NLS-1$
+            return;
+        }
+
+        try (GenerationEvents.Event event = GenerationEvents.writing(generatedFile)) {
+            ZipEntry entry = new ZipEntry(entryName);
+            entry.setTime(ENTRY_TIME);
+            zipOutputStream.putNextEntry(entry);
+            zipOutputStream.write(bytes);
+            zipOutputStream.closeEntry();
+            event.setSize(bytes.length);
+        }
+    }
+
+    private static String getEntryName(GeneratedFile generatedFile) {
+        String targetPackage = generatedFile.getTargetPackage();
+        if (targetPackage == null || targetPackage.isEmpty()) {
+            return generatedFile.getFileName();
+        }
+
+        return targetPackage.replace('.', '/') + '/' + generatedFile.getFileName();
+    }
+
+    @Override
+    public void close() throws IOException {
+        zipOutputStream.close();
+    }
+}
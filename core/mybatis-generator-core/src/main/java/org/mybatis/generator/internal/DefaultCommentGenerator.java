@@ -167,7 +167,10 @@ public class DefaultCommentGenerator implements CommentGenerator {
         if (suppressDate) {
             return null;
         } else if (dateFormat != null) {
-            return dateFormat.format(new Date());
+            // SimpleDateFormat is not thread safe, and tables may be generated in parallel
+            synchronized (dateFormat) {
+                return dateFormat.format(new Date());
+            }
         } else {
             return new Date().toString();
         }
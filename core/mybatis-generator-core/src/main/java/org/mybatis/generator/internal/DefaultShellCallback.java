@@ -48,14 +48,7 @@ public class DefaultShellCallback implements ShellCallback {
                     targetProject));
         }
 
-        StringBuilder sb = new StringBuilder();
-        StringTokenizer st = new StringTokenizer(targetPackage, "."); //$NON-NLS-1$
-        while (st.hasMoreTokens()) {
-            sb.append(st.nextToken());
-            sb.append(File.separatorChar);
-        }
-
-        File directory = new File(project, sb.toString());
+        File directory = getPackageDirectory(project, targetPackage);
         if (!directory.isDirectory()) {
             boolean rc = directory.mkdirs();
             if (!rc) {
@@ -67,6 +60,32 @@ public class DefaultShellCallback implements ShellCallback {
         return directory;
     }
 
+    @Override
+    public File findDirectory(String targetProject, String targetPackage) {
+        File directory = getPackageDirectory(new File(targetProject), targetPackage);
+        return directory.isDirectory() ? directory : null;
+    }
+
+    /**
+     * Calculates the sub directory of a project for a package. Nothing is created.
+     *
+     * @param project
+     *            the project directory
+     * @param targetPackage
+     *            the package, with dots instead of slashes
+     * @return the directory
+     */
+    protected File getPackageDirectory(File project, String targetPackage) {
+        StringBuilder sb = new StringBuilder();
+        StringTokenizer st = new StringTokenizer(targetPackage, "."); //$NON-NLS-1$
+        while (st.hasMoreTokens()) {
+            sb.append(st.nextToken());
+            sb.append(File.separatorChar);
+        }
+
+        return new File(project, sb.toString());
+    }
+
     @Override
     public void refreshProject(String project) {
         // nothing to do in the default shell callback
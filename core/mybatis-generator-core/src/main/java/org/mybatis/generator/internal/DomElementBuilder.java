@@ -0,0 +1,282 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.ElementVisitor;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * This class is for internal use only. It builds W3C DOM nodes directly from a
+ * generated document. The nodes are the same as the nodes an XML parser would
+ * create when reading the document as rendered by the default XML formatter, so
+ * the XML merger does not need to render and re-parse newly generated files.
+ *
+ * <p>Text elements may contain markup. Comments, CDATA sections, predefined entity
+ * references, and character references are supported - even when they are split
+ * across several text elements. Any other markup can only be interpreted by a
+ * parser, and the document cannot be built.
+ */
+class DomElementBuilder implements ElementVisitor<Void> {
+
+    private static class UnsupportedMarkupException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private final Document document;
+    // unparsed character data and markup for the current element
+    private final StringBuilder markup = new StringBuilder();
+    private final StringBuilder text = new StringBuilder();
+    private Element rootElement;
+    private Element parent;
+    private int depth;
+
+    private DomElementBuilder(Document document) {
+        this.document = document;
+    }
+
+    /**
+     * Builds the root element of a generated document.
+     *
+     * @param generatedDocument the generated document
+     * @param document the DOM document that will own the new nodes
+     * @return the new root element, not attached to the DOM document, or null if the
+     *     generated document contains markup that can only be interpreted by a parser
+     */
+    static Element buildRootElement(org.mybatis.generator.api.dom.xml.Document generatedDocument,
+            Document document) {
+        DomElementBuilder builder = new DomElementBuilder(document);
+        try {
+            generatedDocument.getRootElement().accept(builder);
+        } catch (UnsupportedMarkupException | DOMException e) {
+            return null;
+        }
+        return builder.rootElement;
+    }
+
+    @Override
+    public Void visit(TextElement element) {
+        startLine();
+        markup.append(element.getContent());
+        return null;
+    }
+
+    @Override
+    public Void visit(XmlElement element) {
+        Element newElement = document.createElement(element.getName());
+        for (Attribute attribute : element.getAttributes()) {
+            if (newElement.hasAttribute(attribute.getName())) {
+                throw new UnsupportedMarkupException();
+            }
+            newElement.setAttribute(attribute.getName(), decodeAttributeValue(attribute.getValue()));
+        }
+
+        if (parent == null) {
+            rootElement = newElement;
+        } else {
+            startLine();
+            appendMarkup();
+            parent.appendChild(newElement);
+        }
+
+        if (element.hasChildren()) {
+            Element enclosingElement = parent;
+            parent = newElement;
+            depth++;
+            element.getElements().forEach(e -> e.accept(this));
+            depth--;
+            startLine();
+            appendMarkup();
+            parent = enclosingElement;
+        }
+
+        return null;
+    }
+
+    private void startLine() {
+        // parsers report all line breaks as a single line feed
+        markup.append('\n');
+        for (int i = 0; i < depth; i++) {
+            markup.append("  "); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Adds text, comment, and CDATA nodes for the pending markup to the current element.
+     */
+    private void appendMarkup() {
+        int length = markup.length();
+        int i = 0;
+        while (i < length) {
+            char c = markup.charAt(i);
+            if (c == '<') {
+                if (startsWith("<!--", i)) { //$NON-NLS-1$
+                    int end = indexOf("-->", i + 4); //$NON-NLS-1$
+                    String data = normalizeLineBreaks(markup.substring(i + 4, end));
+                    if (data.contains("--") || data.endsWith("-")) { //$NON-NLS-1$ //$NON-NLS-2$
+                        throw new UnsupportedMarkupException();
+                    }
+                    appendText();
+                    parent.appendChild(document.createComment(data));
+                    i = end + 3;
+                } else if (startsWith("<![CDATA[", i)) { //$NON-NLS-1$
+                    int end = indexOf("]]>", i + 9); //$NON-NLS-1$
+                    appendText();
+                    parent.appendChild(document.createCDATASection(
+                            normalizeLineBreaks(markup.substring(i + 9, end))));
+                    i = end + 3;
+                } else {
+                    throw new UnsupportedMarkupException();
+                }
+            } else if (c == '&') {
+                i = appendReference(i);
+            } else if (c == '\r') {
+                text.append('\n');
+                i = i + 1 < length && markup.charAt(i + 1) == '\n' ? i + 2 : i + 1;
+            } else if (c == ']' && startsWith("]]>", i)) { //$NON-NLS-1$
+                throw new UnsupportedMarkupException();
+            } else {
+                text.append(c);
+                i++;
+            }
+        }
+
+        appendText();
+        markup.setLength(0);
+    }
+
+    private void appendText() {
+        if (text.length() > 0) {
+            parent.appendChild(document.createTextNode(text.toString()));
+            text.setLength(0);
+        }
+    }
+
+    private boolean startsWith(String s, int index) {
+        if (index + s.length() > markup.length()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (markup.charAt(index + i) != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(String s, int fromIndex) {
+        int index = markup.indexOf(s, fromIndex);
+        if (index == -1) {
+            // markup that spans an element cannot be represented in the tree
+            throw new UnsupportedMarkupException();
+        }
+        return index;
+    }
+
+    /**
+     * Appends the character(s) for the entity or character reference starting at the
+     * index.
+     *
+     * @return the index of the first character after the reference
+     */
+    private int appendReference(int index) {
+        int end = indexOf(";", index); //$NON-NLS-1$
+        text.append(decodeReference(markup.substring(index + 1, end)));
+        return end + 1;
+    }
+
+    private String decodeAttributeValue(String value) {
+        if (value.indexOf('&') == -1 && value.indexOf('<') == -1 && value.indexOf('"') == -1
+                && value.indexOf('\t') == -1 && value.indexOf('\n') == -1 && value.indexOf('\r') == -1) {
+            return value;
+        }
+
+        StringBuilder sb = new StringBuilder(value.length());
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c == '<' || c == '"') {
+                throw new UnsupportedMarkupException();
+            } else if (c == '&') {
+                int end = value.indexOf(';', i);
+                if (end == -1) {
+                    throw new UnsupportedMarkupException();
+                }
+                // references are not subject to white space normalization
+                sb.append(decodeReference(value.substring(i + 1, end)));
+                i = end + 1;
+            } else if (c == '\r' && i + 1 < length && value.charAt(i + 1) == '\n') {
+                sb.append(' ');
+                i += 2;
+            } else if (c == '\t' || c == '\n' || c == '\r') {
+                sb.append(' ');
+                i++;
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String decodeReference(String name) {
+        switch (name) {
+        case "lt": //$NON-NLS-1$
+            return "<"; //$NON-NLS-1$
+        case "gt": //$NON-NLS-1$
+            return ">"; //$NON-NLS-1$
+        case "amp": //$NON-NLS-1$
+            return "&"; //$NON-NLS-1$
+        case "quot": //$NON-NLS-1$
+            return "\""; //$NON-NLS-1$
+        case "apos": //$NON-NLS-1$
+            return "'"; //$NON-NLS-1$
+        default:
+            return decodeCharacterReference(name);
+        }
+    }
+
+    private static String decodeCharacterReference(String name) {
+        // other entities are declared in the DTD, which is not read during a merge
+        if (name.length() < 2 || name.charAt(0) != '#') {
+            throw new UnsupportedMarkupException();
+        }
+
+        try {
+            int codePoint;
+            if (name.charAt(1) == 'x') {
+                codePoint = Integer.parseInt(name.substring(2), 16);
+            } else {
+                codePoint = Integer.parseInt(name.substring(1));
+            }
+            return new String(Character.toChars(codePoint));
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedMarkupException();
+        }
+    }
+
+    private static String normalizeLineBreaks(String s) {
+        if (s.indexOf('\r') == -1) {
+            return s;
+        }
+        return s.replace("\r\n", "\n").replace('\r', '\n'); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
@@ -0,0 +1,285 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.mybatis.generator.exception.ShellException;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.DocumentType;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * This class writes an XML document in the same format as {@link DomWriter}.
+ * Unlike DomWriter, it holds no state while writing, so a single instance may
+ * be shared by any number of threads. Text is escaped in runs rather than one
+ * character at a time, and the output is written directly to the caller's writer.
+ */
+public class DomSerializer {
+
+    private static final Comparator<Attr> ATTRIBUTE_ORDER = Comparator.comparing(Attr::getNodeName);
+
+    private final String lineSeparator;
+
+    public DomSerializer() {
+        this(System.getProperty("line.separator")); //$NON-NLS-1$
+    }
+
+    /**
+     * Constructs a serializer that writes line feeds in the document content as the
+     * specified line separator.
+     *
+     * @param lineSeparator the line separator
+     */
+    public DomSerializer(String lineSeparator) {
+        super();
+        this.lineSeparator = lineSeparator;
+    }
+
+    public String toString(Document document) throws ShellException {
+        StringWriter sw = new StringWriter(8192);
+        try {
+            write(document, sw);
+        } catch (IOException e) {
+            // StringWriter never throws IOException
+            throw new IllegalStateException(e);
+        }
+        return sw.toString();
+    }
+
+    /**
+     * Writes the document. The writer is not flushed or closed.
+     *
+     * @param document the document to write
+     * @param out receives the document
+     * @throws IOException if the writer throws an IOException
+     * @throws ShellException if the document contains a node that cannot be written
+     */
+    public void write(Document document, Writer out) throws IOException, ShellException {
+        boolean isXML11 = "1.1".equals(document.getXmlVersion()); //$NON-NLS-1$
+        if (isXML11) {
+            out.write("<?xml version=\"1.1\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+        } else {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+        }
+        out.write(lineSeparator);
+
+        if (document.getDoctype() != null) {
+            writeDocumentType(document.getDoctype(), out);
+        }
+        writeElement(document.getDocumentElement(), isXML11, out);
+    }
+
+    private void writeDocumentType(DocumentType node, Writer out) throws IOException {
+        out.write("<!DOCTYPE "); //$NON-NLS-1$
+        out.write(node.getName());
+        String publicId = node.getPublicId();
+        String systemId = node.getSystemId();
+        if (publicId != null) {
+            out.write(" PUBLIC \""); //$NON-NLS-1$
+            out.write(publicId);
+            out.write("\" \""); //$NON-NLS-1$
+            out.write(String.valueOf(systemId));
+            out.write('"');
+        } else if (systemId != null) {
+            out.write(" SYSTEM \""); //$NON-NLS-1$
+            out.write(systemId);
+            out.write('"');
+        }
+
+        String internalSubset = node.getInternalSubset();
+        if (internalSubset != null) {
+            out.write(" ["); //$NON-NLS-1$
+            out.write(lineSeparator);
+            out.write(internalSubset);
+            out.write(']');
+        }
+        out.write('>');
+        out.write(lineSeparator);
+    }
+
+    private void writeNode(Node node, boolean isXML11, Writer out) throws IOException, ShellException {
+        switch (node.getNodeType()) {
+        case Node.ELEMENT_NODE:
+            writeElement((Element) node, isXML11, out);
+            break;
+
+        case Node.ENTITY_REFERENCE_NODE:
+            out.write('&');
+            out.write(node.getNodeName());
+            out.write(';');
+            break;
+
+        case Node.CDATA_SECTION_NODE:
+            out.write("<![CDATA["); //$NON-NLS-1$
+            // XML parsers normalize line endings to '\n'.  Write them as the
+            // line separator to avoid whitespace commits
+            writeCData(node.getNodeValue(), out);
+            out.write("]]>"); //$NON-NLS-1$
+            break;
+
+        case Node.TEXT_NODE:
+            writeEscaped(node.getNodeValue(), false, isXML11, out);
+            break;
+
+        case Node.PROCESSING_INSTRUCTION_NODE:
+            out.write("<?"); //$NON-NLS-1$
+            out.write(node.getNodeName());
+            String data = node.getNodeValue();
+            if (data != null && data.length() > 0) {
+                out.write(' ');
+                out.write(data);
+            }
+            out.write("?>"); //$NON-NLS-1$
+            break;
+
+        case Node.COMMENT_NODE:
+            out.write("<!--"); //$NON-NLS-1$
+            writeEscaped(node.getNodeValue(), false, isXML11, out);
+            out.write("-->"); //$NON-NLS-1$
+            break;
+
+        default:
+            throw new ShellException(getString(
+                    "RuntimeError.18", Short.toString(node.getNodeType()))); //$NON-NLS-1$
+        }
+    }
+
+    private void writeElement(Element node, boolean isXML11, Writer out) throws IOException, ShellException {
+        out.write('<');
+        out.write(node.getNodeName());
+        for (Attr attr : sortAttributes(node.getAttributes())) {
+            out.write(' ');
+            out.write(attr.getNodeName());
+            out.write("=\""); //$NON-NLS-1$
+            writeEscaped(attr.getNodeValue(), true, isXML11, out);
+            out.write('"');
+        }
+
+        Node child = node.getFirstChild();
+        if (child == null) {
+            out.write(" />"); //$NON-NLS-1$
+            return;
+        }
+
+        out.write('>');
+        while (child != null) {
+            writeNode(child, isXML11, out);
+            child = child.getNextSibling();
+        }
+        out.write("</"); //$NON-NLS-1$
+        out.write(node.getNodeName());
+        out.write('>');
+    }
+
+    private static Attr[] sortAttributes(NamedNodeMap attrs) {
+        int length = attrs == null ? 0 : attrs.getLength();
+        Attr[] array = new Attr[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = (Attr) attrs.item(i);
+        }
+        if (length > 1) {
+            Arrays.sort(array, ATTRIBUTE_ORDER);
+        }
+        return array;
+    }
+
+    private void writeCData(String data, Writer out) throws IOException {
+        if (data == null) {
+            return;
+        }
+
+        int start = 0;
+        int length = data.length();
+        for (int i = 0; i < length; i++) {
+            if (data.charAt(i) == '\n') {
+                out.write(data, start, i - start);
+                out.write(lineSeparator);
+                start = i + 1;
+            }
+        }
+        out.write(data, start, length - start);
+    }
+
+    /**
+     * Writes the string, escaping characters as required. Characters that need no
+     * escaping are written in runs.
+     */
+    private void writeEscaped(String s, boolean isAttValue, boolean isXML11, Writer out) throws IOException {
+        if (s == null) {
+            return;
+        }
+
+        int start = 0;
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c > '>' && (c < 0x7F || !isXML11)) {
+                // the common case - no escaping is possible
+                continue;
+            }
+
+            String replacement = getReplacement(c, isAttValue, isXML11);
+            if (replacement != null) {
+                out.write(s, start, i - start);
+                out.write(replacement);
+                start = i + 1;
+            }
+        }
+        out.write(s, start, length - start);
+    }
+
+    private String getReplacement(char c, boolean isAttValue, boolean isXML11) {
+        switch (c) {
+        case '<':
+            return "&lt;"; //$NON-NLS-1$
+        case '>':
+            return "&gt;"; //$NON-NLS-1$
+        case '&':
+            return "&amp;"; //$NON-NLS-1$
+        case '"':
+            // A '"' that appears in character data does not need to be escaped.
+            return isAttValue ? "&quot;" : null; //$NON-NLS-1$
+        case '\r':
+            // If CR is part of the document's content, it must be printed as a
+            // literal, otherwise it would be normalized to LF when the document
+            // is reparsed.
+            return "&#xD;"; //$NON-NLS-1$
+        case '\n':
+            // XML parsing forces \n, so write the line separator to avoid
+            // whitespace commits on some version control systems.
+            return lineSeparator;
+        default:
+            // In XML 1.1, control chars in the ranges [#x1-#x1F, #x7F-#x9F], and
+            // LSEP must be escaped. Tabs in attribute values would be normalized to
+            // spaces when the document is reparsed.
+            if (isXML11 && (c >= 0x01 && c <= 0x1F && c != 0x09 || c >= 0x7F && c <= 0x9F || c == 0x2028)
+                    || isAttValue && c == 0x09) {
+                return "&#x" + Integer.toHexString(c).toUpperCase() + ';'; //$NON-NLS-1$
+            }
+            return null;
+        }
+    }
+}
@@ -37,6 +37,9 @@ import org.w3c.dom.Text;
  * This class is used to generate a String representation of an XML document. It
  * is very much based on the class dom.Writer from the Apache Xerces examples,
  * but I've simplified and updated it.
+ *
+ * <p>Instances of this class may only write one document at a time. The merger
+ * uses {@link DomSerializer}, which writes the same format and may be shared.
  * 
  * @author Andy Clark, IBM (Original work)
  * @author Jeff Butler (derivation)
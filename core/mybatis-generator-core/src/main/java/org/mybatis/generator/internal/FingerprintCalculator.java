@@ -0,0 +1,349 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PropertyHolder;
+import org.mybatis.generator.config.PropertyRegistry;
+
+/**
+ * This class calculates fingerprints of introspected tables for incremental
+ * generation. A fingerprint covers everything that influences the code
+ * generated for a table:
+ *
+ * <ul>
+ *   <li>the introspected table - names, remarks, type, primary key, and every
+ *       column with its resolved Java type</li>
+ *   <li>the table configuration</li>
+ *   <li>the context configuration - target runtime, generator configurations,
+ *       type resolver, comment generator, plugin configurations, and
+ *       context properties</li>
+ *   <li>the properties of the root class of the model, if there is one - the
+ *       generated model omits properties the root class already has</li>
+ *   <li>the version of MyBatis Generator</li>
+ * </ul>
+ *
+ * <p>Configuration objects are described field by field so that new configuration
+ * options are covered without changes to this class.
+ */
+public class FingerprintCalculator {
+
+    /**
+     * Context properties that affect how a run is performed, but not the generated code.
+     */
+    private static final Set<String> IGNORED_CONTEXT_PROPERTIES = new HashSet<>(Arrays.asList(
+            PropertyRegistry.CONTEXT_GENERATION_MANIFEST_FILE,
+            PropertyRegistry.CONTEXT_GENERATION_THREADS,
+            PropertyRegistry.CONTEXT_INTROSPECTION_THREADS,
+            PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_FILE,
+            PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE,
+            PropertyRegistry.CONTEXT_INTROSPECTION_STRATEGY,
+            PropertyRegistry.CONTEXT_OUTPUT_THREADS,
+            PropertyRegistry.CONTEXT_STREAMING_XML_MERGE));
+
+    private final String contextDescription;
+
+    private final String defaultRootClass;
+
+    private final GenerationSession generationSession;
+
+    /** Descriptions of root classes, keyed by class name. */
+    private final Map<String, String> rootClassDescriptions = new HashMap<>();
+
+    public FingerprintCalculator(Context context) {
+        super();
+        defaultRootClass = context.getJavaModelGeneratorConfiguration() == null ? null
+                : context.getJavaModelGeneratorConfiguration().getProperty(PropertyRegistry.ANY_ROOT_CLASS);
+        generationSession = context.getGenerationSession();
+        StringBuilder sb = new StringBuilder();
+        append(sb, "version", getGeneratorVersion()); //$NON-NLS-1$
+        append(sb, "targetRuntime", context.getTargetRuntime()); //$NON-NLS-1$
+        append(sb, "defaultModelType", context.getDefaultModelType()); //$NON-NLS-1$
+        append(sb, "introspectedColumnImpl", context.getIntrospectedColumnImpl()); //$NON-NLS-1$
+
+        Properties properties = new Properties();
+        for (String name : context.getProperties().stringPropertyNames()) {
+            if (!IGNORED_CONTEXT_PROPERTIES.contains(name)) {
+                properties.setProperty(name, context.getProperty(name));
+            }
+        }
+        append(sb, "properties", properties); //$NON-NLS-1$
+        append(sb, "javaModelGenerator", context.getJavaModelGeneratorConfiguration()); //$NON-NLS-1$
+        append(sb, "sqlMapGenerator", context.getSqlMapGeneratorConfiguration()); //$NON-NLS-1$
+        append(sb, "javaClientGenerator", context.getJavaClientGeneratorConfiguration()); //$NON-NLS-1$
+        append(sb, "javaTypeResolver", context.getJavaTypeResolverConfiguration()); //$NON-NLS-1$
+        append(sb, "commentGenerator", context.getCommentGeneratorConfiguration()); //$NON-NLS-1$
+        append(sb, "plugins", context.getPluginConfigurations()); //$NON-NLS-1$
+        contextDescription = sb.toString();
+    }
+
+    /**
+     * Returns the key of a table in a generation manifest. A table configuration
+     * may match several tables, and a table may be configured more than once
+     * with different domain object names, so the key includes both.
+     *
+     * @param introspectedTable the table
+     * @return the key
+     */
+    public static String getTableKey(IntrospectedTable introspectedTable) {
+        return introspectedTable.getFullyQualifiedTable().toString()
+                + " -> " //$NON-NLS-1$
+                + introspectedTable.getFullyQualifiedTable().getDomainObjectName();
+    }
+
+    /**
+     * Calculates the fingerprint of an introspected table. The table must not
+     * have been initialized for generation yet.
+     *
+     * @param introspectedTable the table
+     * @return the fingerprint as a hexadecimal string
+     */
+    public String calculateFingerprint(IntrospectedTable introspectedTable) {
+        StringBuilder sb = new StringBuilder(contextDescription);
+        append(sb, "tableConfiguration", introspectedTable.getTableConfiguration()); //$NON-NLS-1$
+        append(sb, "table", introspectedTable.getFullyQualifiedTable().toString()); //$NON-NLS-1$
+        append(sb, "remarks", introspectedTable.getRemarks()); //$NON-NLS-1$
+        append(sb, "tableType", introspectedTable.getTableType()); //$NON-NLS-1$
+
+        String rootClass = introspectedTable.getTableConfigurationProperty(PropertyRegistry.ANY_ROOT_CLASS);
+        if (rootClass == null) {
+            rootClass = defaultRootClass;
+        }
+        if (rootClass != null) {
+            append(sb, "rootClass", rootClassDescriptions.computeIfAbsent(rootClass, //$NON-NLS-1$
+                    this::describeRootClass));
+        }
+
+        for (IntrospectedColumn introspectedColumn : introspectedTable.getPrimaryKeyColumns()) {
+            append(sb, "primaryKey", introspectedColumn.getActualColumnName()); //$NON-NLS-1$
+        }
+
+        // the order of base columns is significant, so the column list is not sorted
+        for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
+            append(sb, "column", Arrays.asList( //$NON-NLS-1$
+                    introspectedColumn.getActualColumnName(),
+                    introspectedColumn.getJdbcType(),
+                    introspectedColumn.getJdbcTypeName(),
+                    introspectedColumn.getLength(),
+                    introspectedColumn.getScale(),
+                    introspectedColumn.isNullable(),
+                    introspectedColumn.isIdentity(),
+                    introspectedColumn.isSequenceColumn(),
+                    introspectedColumn.isColumnNameDelimited(),
+                    introspectedColumn.isAutoIncrement(),
+                    introspectedColumn.isGeneratedColumn(),
+                    introspectedColumn.isGeneratedAlways(),
+                    introspectedColumn.getJavaProperty(),
+                    getFullyQualifiedName(introspectedColumn.getFullyQualifiedJavaType()),
+                    introspectedColumn.getTableAlias(),
+                    introspectedColumn.getTypeHandler(),
+                    introspectedColumn.getRemarks(),
+                    introspectedColumn.getDefaultValue(),
+                    introspectedColumn.getProperties()));
+        }
+
+        return digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Describes the bean properties of a root class, as RootClassInfo reads them, so that
+     * a change to the root class regenerates the tables that extend it.
+     */
+    private String describeRootClass(String className) {
+        String nameWithoutGenerics = new FullyQualifiedJavaType(className).getFullyQualifiedNameWithoutTypeParameters();
+        List<String> properties = new ArrayList<>();
+        try {
+            Class<?> clazz = generationSession.externalClassForName(nameWithoutGenerics);
+            for (PropertyDescriptor propertyDescriptor : Introspector.getBeanInfo(clazz).getPropertyDescriptors()) {
+                properties.add(propertyDescriptor.getName() + ':'
+                        + (propertyDescriptor.getPropertyType() == null
+                                ? null : propertyDescriptor.getPropertyType().getName())
+                        + ':' + (propertyDescriptor.getReadMethod() != null)
+                        + ':' + (propertyDescriptor.getWriteMethod() != null));
+            }
+        } catch (Exception e) {
+            // the generator reports a warning and ignores the root class
+            return "unavailable"; //$NON-NLS-1$
+        }
+
+        Collections.sort(properties);
+        StringBuilder sb = new StringBuilder();
+        describe(sb, properties);
+        return sb.toString();
+    }
+
+    private static String getFullyQualifiedName(FullyQualifiedJavaType fullyQualifiedJavaType) {
+        return fullyQualifiedJavaType == null ? null : fullyQualifiedJavaType.getFullyQualifiedName();
+    }
+
+    private static String getGeneratorVersion() {
+        String version = MyBatisGenerator.class.getPackage().getImplementationVersion();
+        return version == null ? "unknown" : version; //$NON-NLS-1$
+    }
+
+    /**
+     * Calculates the SHA-256 hash of a stable description of a value. Maps are
+     * sorted by key, so equal values have equal hashes.
+     *
+     * @param value the value to hash
+     * @return the hash as a hexadecimal string
+     */
+    public static String digestOf(Object value) {
+        StringBuilder sb = new StringBuilder();
+        describe(sb, value);
+        return digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Calculates the SHA-256 hash of some bytes.
+     *
+     * @param bytes the bytes to hash
+     * @return the hash as a hexadecimal string
+     */
+    public static String digest(byte[] bytes) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+            byte[] hash = messageDigest.digest(bytes);
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+                sb.append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void append(StringBuilder sb, String name, Object value) {
+        sb.append(name);
+        sb.append('=');
+        describe(sb, value);
+        sb.append('\n');
+    }
+
+    /**
+     * Writes a stable description of a value. Maps are sorted by key, and
+     * configuration objects are described by their fields in name order.
+     */
+    private static void describe(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null"); //$NON-NLS-1$
+        } else if (value instanceof String) {
+            // quoted so that values containing delimiters cannot collide
+            sb.append('"').append(((String) value).replace("\"", "\\\"")).append('"'); //$NON-NLS-1$ //$NON-NLS-2$
+        } else if (value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum) {
+            sb.append(value);
+        } else if (value instanceof Pattern) {
+            describe(sb, ((Pattern) value).pattern());
+        } else if (value instanceof Map) {
+            describeMap(sb, (Map<?, ?>) value);
+        } else if (value instanceof Collection) {
+            sb.append('[');
+            for (Object element : (Collection<?>) value) {
+                describe(sb, element);
+                sb.append(',');
+            }
+            sb.append(']');
+        } else if (isConfigurationObject(value)) {
+            describeFields(sb, value);
+        } else {
+            describe(sb, value.toString());
+        }
+    }
+
+    private static void describeMap(StringBuilder sb, Map<?, ?> map) {
+        // keys may be configuration objects without a natural order, so the
+        // entries are sorted by their descriptions
+        TreeMap<String, String> entries = new TreeMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            StringBuilder key = new StringBuilder();
+            describe(key, entry.getKey());
+            StringBuilder value = new StringBuilder();
+            describe(value, entry.getValue());
+            entries.put(key.toString(), value.toString());
+        }
+
+        sb.append('{');
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            sb.append(entry.getKey()).append(':').append(entry.getValue()).append(',');
+        }
+        sb.append('}');
+    }
+
+    private static boolean isConfigurationObject(Object value) {
+        return value instanceof PropertyHolder
+                || value.getClass().getName().startsWith("org.mybatis.generator.config."); //$NON-NLS-1$
+    }
+
+    private static void describeFields(StringBuilder sb, Object value) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = value.getClass(); c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)
+                        && !field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+        }
+        Collections.sort(fields, (f1, f2) -> {
+            int rc = f1.getName().compareTo(f2.getName());
+            return rc == 0 ? f1.getDeclaringClass().getName().compareTo(f2.getDeclaringClass().getName()) : rc;
+        });
+
+        sb.append(value.getClass().getName()).append('(');
+        for (Field field : fields) {
+            sb.append(field.getName()).append('=');
+            try {
+                field.setAccessible(true);
+                describe(sb, field.get(value));
+            } catch (IllegalAccessException | RuntimeException e) {
+                // cannot happen for configuration classes - describe the field as
+                // unreadable so that the fingerprint is still stable
+                sb.append('?');
+            }
+            sb.append(',');
+        }
+        sb.append(')');
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.GeneratedFile;
+import org.mybatis.generator.config.TableConfiguration;
+
+/**
+ * This class is for internal use only. It emits Java Flight Recorder events for the
+ * steps of a generator run, so that a flight recording shows which context, table,
+ * generator, or file a slow step was working on.
+ *
+ * <p>The events are only emitted on JDK 11 and later. The Flight Recorder events are
+ * compiled separately, for Java 11, into the <code>META-INF/versions/11</code> directory
+ * of the multi-release jar, and are loaded reflectively. On older JVMs, or if the
+ * <code>jdk.jfr</code> module is missing, every method returns an event that does
+ * nothing. If nothing is recording, an event costs little more than an allocation -
+ * table and file names are only calculated when the event is enabled in a recording.
+ *
+ * <p>Events are ended and committed when they are closed, which must happen on the
+ * thread that started them - typically with a try-with-resources statement.
+ */
+public class GenerationEvents {
+
+    private static final Event NO_EVENT = () -> { };
+
+    private static final EventFactory NO_EVENTS = new EventFactory() { };
+
+    private static final EventFactory EVENT_FACTORY = createEventFactory();
+
+    /**
+     * Utility class. No instances allowed.
+     */
+    private GenerationEvents() {
+        super();
+    }
+
+    /**
+     * Returns true if this JVM includes the Flight Recorder API, so that events are emitted.
+     *
+     * @return true if events are emitted
+     */
+    public static boolean isFlightRecorderAvailable() {
+        return EVENT_FACTORY != NO_EVENTS;
+    }
+
+    /**
+     * Starts an event for the introspection of all tables of a context.
+     *
+     * @param contextId
+     *            the id of the context
+     * @return the started event
+     */
+    public static Event contextIntrospection(String contextId) {
+        return EVENT_FACTORY.contextIntrospection(contextId);
+    }
+
+    /**
+     * Starts an event for the introspection of one table configuration.
+     *
+     * @param contextId
+     *            the id of the context
+     * @param tableConfiguration
+     *            the table configuration
+     * @return the started event
+     */
+    public static Event tableIntrospection(String contextId, TableConfiguration tableConfiguration) {
+        return EVENT_FACTORY.tableIntrospection(contextId, tableConfiguration);
+    }
+
+    /**
+     * Starts an event for the calculation of the generators of a table.
+     *
+     * @param contextId
+     *            the id of the context
+     * @param table
+     *            the table
+     * @return the started event
+     */
+    public static Event generatorCalculation(String contextId, FullyQualifiedTable table) {
+        return EVENT_FACTORY.generatorCalculation(contextId, table);
+    }
+
+    /**
+     * Starts an event for the construction of the Java or XML DOM of a table by a generator.
+     *
+     * @param contextId
+     *            the id of the context
+     * @param table
+     *            the table
+     * @param generator
+     *            the generator
+     * @return the started event
+     */
+    public static Event generator(String contextId, FullyQualifiedTable table, Object generator) {
+        return EVENT_FACTORY.generator(contextId, table, generator);
+    }
+
+    /**
+     * Starts an event for the formatting of a generated file. The size of the event
+     * should be set to the length of the formatted content.
+     *
+     * @param file
+     *            the generated file
+     * @return the started event
+     */
+    public static Event formatting(GeneratedFile file) {
+        return EVENT_FACTORY.formatting(file);
+    }
+
+    /**
+     * Starts an event for the merge of a generated file with an existing file. The size
+     * of the event should be set to the length of the merged content.
+     *
+     * @param file
+     *            the generated file
+     * @return the started event
+     */
+    public static Event merging(GeneratedFile file) {
+        return EVENT_FACTORY.merging(file);
+    }
+
+    /**
+     * Starts an event for writing a generated file. The size of the event should be set to
+     * the number of bytes written.
+     *
+     * @param file
+     *            the generated file
+     * @return the started event
+     */
+    public static Event writing(GeneratedFile file) {
+        return EVENT_FACTORY.writing(file);
+    }
+
+    private static EventFactory createEventFactory() {
+        try {
+            Class.forName("jdk.jfr.Event"); //$NON-NLS-1$
+            return (EventFactory) Class.forName("org.mybatis.generator.internal.FlightRecorderEvents") //$NON-NLS-1$
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return NO_EVENTS;
+        }
+    }
+
+    /**
+     * Starts the events. Every method returns an event that does nothing unless it is
+     * implemented - the Flight Recorder implementation overrides them all.
+     */
+    interface EventFactory {
+        default Event contextIntrospection(String contextId) {
+            return NO_EVENT;
+        }
+
+        default Event tableIntrospection(String contextId, TableConfiguration tableConfiguration) {
+            return NO_EVENT;
+        }
+
+        default Event generatorCalculation(String contextId, FullyQualifiedTable table) {
+            return NO_EVENT;
+        }
+
+        default Event generator(String contextId, FullyQualifiedTable table, Object generator) {
+            return NO_EVENT;
+        }
+
+        default Event formatting(GeneratedFile file) {
+            return NO_EVENT;
+        }
+
+        default Event merging(GeneratedFile file) {
+            return NO_EVENT;
+        }
+
+        default Event writing(GeneratedFile file) {
+            return NO_EVENT;
+        }
+    }
+
+    /**
+     * Marks a file consumer that emits its own formatting and writing events. Other
+     * consumers are covered by a writing event for each file they receive.
+     */
+    public interface FileEventSource {
+    }
+
+    /**
+     * A started event. Closing the event ends and commits it.
+     */
+    @FunctionalInterface
+    public interface Event extends AutoCloseable {
+        /**
+         * Sets the size of the work done by the event - characters for formatting and
+         * merging, bytes for writing. Other events ignore the size.
+         *
+         * @param size
+         *            the size
+         */
+        default void setSize(long size) {
+        }
+
+        @Override
+        void close();
+    }
+}
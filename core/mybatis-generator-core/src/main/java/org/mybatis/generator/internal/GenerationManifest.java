@@ -0,0 +1,316 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.GeneratedFile;
+
+/**
+ * This class holds the state of a previous run, so that a later run can skip
+ * work whose result would not change:
+ *
+ * <ul>
+ *   <li>the fingerprint of every generated table - tables with an unchanged
+ *       fingerprint are not generated again</li>
+ *   <li>the files generated for every table - a table is generated again if
+ *       any of its files no longer exists</li>
+ *   <li>for every file written, a hash of the generated content and a hash of
+ *       the file as written (after any merge) - if both match, the merge would
+ *       produce the same file, so the file is left untouched</li>
+ * </ul>
+ *
+ * <p>The manifest is a text file with one line per entry: the kind of entry
+ * ("table" or "file"), a tab, the hash, a tab, and the key. Files generated for a
+ * table are listed on "output" lines: the table key, the target project, the target
+ * package, and the file name, separated by tabs. Entries are sorted so that the file
+ * is stable under version control. Lines starting with "#" are comments.
+ *
+ * <p>File hashes may be checked and recorded from several threads at once when
+ * files are written in parallel, and table files may be recorded from several threads
+ * at once when tables are generated in parallel. All other methods are called from
+ * a single thread.
+ */
+public class GenerationManifest {
+
+    private static final String TABLE = "table"; //$NON-NLS-1$
+
+    private static final String FILE = "file"; //$NON-NLS-1$
+
+    private static final String OUTPUT = "output"; //$NON-NLS-1$
+
+    private final Map<String, String> fingerprints = new TreeMap<>();
+
+    private final Map<String, String> fileHashes = new TreeMap<>();
+
+    /**
+     * The files generated for each table, keyed by table key. Each file is
+     * the target project, the target package, and the file name, separated by tabs.
+     */
+    private final Map<String, Set<String>> tableFiles = new TreeMap<>();
+
+    /**
+     * The files generated in this run for the context that owns the manifest.
+     * This is not saved.
+     */
+    private final Set<GeneratedFile> generatedFiles = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Reads a manifest.
+     *
+     * @param file the file to read
+     * @return the manifest, or an empty manifest if the file does not exist
+     * @throws IOException if the file cannot be read
+     */
+    public static GenerationManifest read(File file) throws IOException {
+        GenerationManifest answer = new GenerationManifest();
+        if (!file.isFile()) {
+            return answer;
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("#")) { //$NON-NLS-1$
+                    continue;
+                }
+
+                String[] parts = line.split("\t", 3); //$NON-NLS-1$
+                if (parts.length < 3) {
+                    continue;
+                }
+
+                if (TABLE.equals(parts[0])) {
+                    answer.fingerprints.put(parts[2], parts[1]);
+                } else if (FILE.equals(parts[0])) {
+                    answer.fileHashes.put(parts[2], parts[1]);
+                } else if (OUTPUT.equals(parts[0])) {
+                    answer.tableFiles.computeIfAbsent(parts[1], k -> new TreeSet<>()).add(parts[2]);
+                }
+            }
+        }
+
+        return answer;
+    }
+
+    public void write(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory()) {
+            parent.mkdirs();
+        }
+
+        try (BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            writer.write("# MyBatis Generator manifest - tables listed here are not regenerated" //$NON-NLS-1$
+                    + " unless their fingerprint changes"); //$NON-NLS-1$
+            writer.newLine();
+            writeEntries(writer, TABLE, fingerprints);
+            writeEntries(writer, FILE, fileHashes);
+            for (Map.Entry<String, Set<String>> entry : tableFiles.entrySet()) {
+                for (String tableFile : entry.getValue()) {
+                    writer.write(OUTPUT);
+                    writer.write('\t');
+                    writer.write(entry.getKey());
+                    writer.write('\t');
+                    writer.write(tableFile);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private void writeEntries(BufferedWriter writer, String kind, Map<String, String> entries)
+            throws IOException {
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            writer.write(kind);
+            writer.write('\t');
+            writer.write(entry.getValue());
+            writer.write('\t');
+            writer.write(entry.getKey());
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Returns the fingerprint recorded for a table.
+     *
+     * @param tableKey the table key
+     * @return the fingerprint, or null if the table is not in the manifest
+     */
+    public String getFingerprint(String tableKey) {
+        return fingerprints.get(tableKey);
+    }
+
+    public void putFingerprint(String tableKey, String fingerprint) {
+        fingerprints.put(tableKey, fingerprint);
+    }
+
+    /**
+     * Copies the saved entries of another manifest into this manifest.
+     *
+     * @param other the manifest to copy
+     */
+    public void putAll(GenerationManifest other) {
+        fingerprints.putAll(other.fingerprints);
+        fileHashes.putAll(other.fileHashes);
+        other.tableFiles.forEach((tableKey, files) -> tableFiles.put(tableKey, new TreeSet<>(files)));
+    }
+
+    /**
+     * Records the files generated for a table, replacing the files recorded by
+     * earlier runs.
+     *
+     * @param tableKey the table key
+     * @param files the files generated for the table
+     */
+    public void putTableFiles(String tableKey, List<? extends GeneratedFile> files) {
+        Set<String> answer = new TreeSet<>();
+        for (GeneratedFile file : files) {
+            answer.add(file.getTargetProject() + '\t' + file.getTargetPackage()
+                    + '\t' + file.getFileName());
+        }
+
+        synchronized (tableFiles) {
+            tableFiles.put(tableKey, answer);
+        }
+    }
+
+    /**
+     * Removes the fingerprints of tables that must be generated again because the
+     * files generated for them by the previous run are unknown, or because any of
+     * those files no longer exists.
+     *
+     * @param fileLocator locates the generated files
+     */
+    public void removeTablesWithMissingFiles(FileLocator fileLocator) {
+        fingerprints.keySet().removeIf(tableKey -> {
+            Set<String> files = tableFiles.get(tableKey);
+            if (files == null) {
+                return true;
+            }
+
+            for (String file : files) {
+                String[] parts = file.split("\t", 3); //$NON-NLS-1$
+                if (parts.length < 3) {
+                    return true;
+                }
+
+                File targetFile = fileLocator.getFile(parts[0], parts[1], parts[2]);
+                if (targetFile == null || !targetFile.isFile()) {
+                    return true;
+                }
+            }
+
+            return false;
+        });
+    }
+
+    public void addGeneratedFile(GeneratedFile generatedFile) {
+        generatedFiles.add(generatedFile);
+    }
+
+    public boolean isGeneratedFile(GeneratedFile generatedFile) {
+        return generatedFiles.contains(generatedFile);
+    }
+
+    /**
+     * Returns true if the generated content is the same as the content generated
+     * when the target file was last written, and the target file has not changed
+     * since. In that case, merging and writing the file again would produce the
+     * same file.
+     *
+     * @param generatedFile the generated file
+     * @param content the generated content
+     * @param targetFile the existing file on disk
+     * @return true if the target file is up to date
+     * @throws IOException if the target file cannot be read
+     */
+    public boolean isUpToDate(GeneratedFile generatedFile, String content, File targetFile)
+            throws IOException {
+        String hashes;
+        synchronized (fileHashes) {
+            hashes = fileHashes.get(getFileKey(generatedFile));
+        }
+        if (hashes == null || !targetFile.isFile()) {
+            return false;
+        }
+
+        return hashes.equals(calculateFileHashes(content,
+                Files.readAllBytes(targetFile.toPath())));
+    }
+
+    /**
+     * Records the content of a file that has been written.
+     *
+     * @param generatedFile the generated file
+     * @param content the generated content
+     * @param writtenBytes the bytes of the file on disk, after any merge
+     */
+    public void putFileHashes(GeneratedFile generatedFile, String content, byte[] writtenBytes) {
+        String hashes = calculateFileHashes(content, writtenBytes);
+        synchronized (fileHashes) {
+            fileHashes.put(getFileKey(generatedFile), hashes);
+        }
+    }
+
+    private static String calculateFileHashes(String content, byte[] writtenBytes) {
+        return FingerprintCalculator.digest(content.getBytes(StandardCharsets.UTF_8))
+                + ':' + FingerprintCalculator.digest(writtenBytes);
+    }
+
+    /**
+     * Locates the files generated by a previous run.
+     */
+    @FunctionalInterface
+    public interface FileLocator {
+        /**
+         * Returns the location of a generated file.
+         *
+         * @param targetProject the target project of the file
+         * @param targetPackage the target package of the file
+         * @param fileName the name of the file
+         * @return the file, or null if it cannot be located
+         */
+        File getFile(String targetProject, String targetPackage, String fileName);
+    }
+
+    /**
+     * Calculates the key of a generated file. The key does not depend on the
+     * location of the project on disk, so the manifest may be shared.
+     */
+    private static String getFileKey(GeneratedFile generatedFile) {
+        return generatedFile.getTargetProject() + '/'
+                + generatedFile.getTargetPackage() + '/'
+                + generatedFile.getFileName();
+    }
+}
@@ -0,0 +1,331 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.mybatis.generator.api.Plugin;
+
+/**
+ * This class collects the wall time, CPU time, and allocated bytes of the steps of
+ * a generator run, so that slow phases, tables, generators, and plugins can be found.
+ * Measurements are grouped in categories (see the constants below), and measurements with
+ * the same category and name are added together.
+ *
+ * <p>Measurements may be nested (the time of a phase includes the time of the tables generated
+ * in it), and may be taken on several threads at once. CPU time and allocated bytes are those
+ * of the measuring thread, and are reported as -1 if the JVM does not support measuring them.
+ *
+ * <p>A disabled instance records nothing and is used when metrics are not requested, so
+ * measuring costs almost nothing unless it is enabled.
+ */
+public class GenerationMetrics {
+
+    /** Phases of the run: configuration, introspection, connection, generation, formatting, merging, writing. */
+    public static final String PHASES = "phases"; //$NON-NLS-1$
+
+    /** Introspection of each table configuration. */
+    public static final String INTROSPECTED_TABLES = "introspectedTables"; //$NON-NLS-1$
+
+    /** Generation of each introspected table, including plugins. */
+    public static final String GENERATED_TABLES = "generatedTables"; //$NON-NLS-1$
+
+    /** Construction of the Java and XML DOM by each generator class, summed over all tables. */
+    public static final String GENERATORS = "generators"; //$NON-NLS-1$
+
+    /** Each hook of each plugin class, summed over all calls. */
+    public static final String PLUGIN_HOOKS = "pluginHooks"; //$NON-NLS-1$
+
+    private static final GenerationMetrics DISABLED = new GenerationMetrics(false);
+
+    private static final Measurement NO_MEASUREMENT = () -> { };
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private static final boolean ALLOCATED_BYTES_SUPPORTED = isAllocatedBytesSupported();
+
+    private final boolean enabled;
+
+    private final Map<String, Map<String, Metric>> categories = new LinkedHashMap<>();
+
+    public GenerationMetrics() {
+        this(true);
+    }
+
+    private GenerationMetrics(boolean enabled) {
+        super();
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns a shared instance that records nothing.
+     *
+     * @return the disabled instance
+     */
+    public static GenerationMetrics disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a measurement on the current thread. The measurement is recorded when it is closed,
+     * which must happen on the same thread - typically with a try-with-resources statement.
+     *
+     * @param category
+     *            the category of the measurement
+     * @param name
+     *            the name of the measurement within the category
+     * @return the measurement
+     */
+    public Measurement start(String category, String name) {
+        if (!enabled) {
+            return NO_MEASUREMENT;
+        }
+
+        // the entry is created now, so entries are listed in the order they are started
+        Metric metric = getOrCreateMetric(category, name);
+        long startCpuTime = getCpuTime();
+        long startAllocatedBytes = getAllocatedBytes();
+        long startTime = System.nanoTime();
+
+        return () -> {
+            long wallTime = System.nanoTime() - startTime;
+            long cpuTime = startCpuTime == -1 ? -1 : getCpuTime() - startCpuTime;
+            long allocatedBytes = startAllocatedBytes == -1 ? -1 : getAllocatedBytes() - startAllocatedBytes;
+            metric.add(wallTime, cpuTime, allocatedBytes);
+        };
+    }
+
+    /**
+     * Returns a plugin that measures every hook of the plugin in the {@link #PLUGIN_HOOKS}
+     * category, then calls the plugin. Methods declared by Object are not measured. The plugin is returned unchanged if this instance is disabled.
+     *
+     * @param plugin
+     *            the plugin to measure
+     * @return the measuring plugin
+     */
+    public Plugin measure(Plugin plugin) {
+        if (!enabled) {
+            return plugin;
+        }
+
+        String pluginName = plugin.getClass().getName();
+        return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(), new Class<?>[] {Plugin.class},
+                (proxy, method, args) -> {
+                    try {
+                        if (method.getDeclaringClass() == Object.class) {
+                            // toString, hashCode, and equals are not hooks
+                            return method.invoke(plugin, args);
+                        }
+
+                        try (Measurement measurement = start(PLUGIN_HOOKS, pluginName + '.' + method.getName())) {
+                            return method.invoke(plugin, args);
+                        }
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * Returns the metrics recorded in a category.
+     *
+     * @param category
+     *            the category
+     * @return a copy of the metrics of the category, keyed by name, in the order they were first
+     *     started. The map is empty if nothing was measured in the category
+     */
+    public synchronized Map<String, Metric> getMetrics(String category) {
+        Map<String, Metric> metrics = categories.get(category);
+        return metrics == null ? Collections.emptyMap() : new LinkedHashMap<>(metrics);
+    }
+
+    private synchronized Metric getOrCreateMetric(String category, String name) {
+        return categories.computeIfAbsent(category, k -> new LinkedHashMap<>())
+                .computeIfAbsent(name, k -> new Metric());
+    }
+
+    /**
+     * Writes the metrics as a JSON object with one member per category. Each category is
+     * an object with one member per name, holding the number of measurements, the wall and
+     * CPU time in milliseconds, and the allocated bytes.
+     *
+     * @param file
+     *            the file to write. An existing file is replaced
+     * @throws IOException
+     *             if the file cannot be written
+     */
+    public synchronized void writeJson(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory()) {
+            parent.mkdirs();
+        }
+
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            writer.write('{');
+            Iterator<Map.Entry<String, Map<String, Metric>>> categoryIterator = categories.entrySet().iterator();
+            while (categoryIterator.hasNext()) {
+                Map.Entry<String, Map<String, Metric>> category = categoryIterator.next();
+                writer.write("\n  "); //$NON-NLS-1$
+                writeString(writer, category.getKey());
+                writer.write(": {"); //$NON-NLS-1$
+
+                Iterator<Map.Entry<String, Metric>> metricIterator = category.getValue().entrySet().iterator();
+                while (metricIterator.hasNext()) {
+                    Map.Entry<String, Metric> metric = metricIterator.next();
+                    writer.write("\n    "); //$NON-NLS-1$
+                    writeString(writer, metric.getKey());
+                    writer.write(": "); //$NON-NLS-1$
+                    metric.getValue().writeJson(writer);
+                    if (metricIterator.hasNext()) {
+                        writer.write(',');
+                    }
+                }
+
+                writer.write("\n  }"); //$NON-NLS-1$
+                if (categoryIterator.hasNext()) {
+                    writer.write(',');
+                }
+            }
+            writer.write("\n}\n"); //$NON-NLS-1$
+        }
+    }
+
+    private static void writeString(Writer writer, String s) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < ' ') {
+                writer.write(String.format(Locale.ROOT, "\\u%04x", (int) c)); //$NON-NLS-1$
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+    private static long getCpuTime() {
+        return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long getAllocatedBytes() {
+        if (!ALLOCATED_BYTES_SUPPORTED) {
+            return -1;
+        }
+
+        return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN)
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static boolean isAllocatedBytesSupported() {
+        try {
+            return THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemorySupported()
+                    && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemoryEnabled();
+        } catch (LinkageError e) {
+            // not a HotSpot based JVM
+            return false;
+        }
+    }
+
+    /**
+     * A measurement in progress. Closing the measurement records it.
+     */
+    @FunctionalInterface
+    public interface Measurement extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * The sum of the measurements with the same category and name.
+     */
+    public static class Metric {
+        private long count;
+        private long wallTime;
+        private long cpuTime;
+        private long allocatedBytes;
+
+        private synchronized void add(long wallTime, long cpuTime, long allocatedBytes) {
+            count++;
+            this.wallTime += wallTime;
+            this.cpuTime = cpuTime == -1 || this.cpuTime == -1 ? -1 : this.cpuTime + cpuTime;
+            this.allocatedBytes = allocatedBytes == -1 || this.allocatedBytes == -1
+                    ? -1 : this.allocatedBytes + allocatedBytes;
+        }
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the wall time in nanoseconds.
+         *
+         * @return the wall time
+         */
+        public synchronized long getWallTime() {
+            return wallTime;
+        }
+
+        /**
+         * Returns the CPU time in nanoseconds.
+         *
+         * @return the CPU time, or -1 if the JVM cannot measure it
+         */
+        public synchronized long getCpuTime() {
+            return cpuTime;
+        }
+
+        /**
+         * Returns the allocated bytes.
+         *
+         * @return the allocated bytes, or -1 if the JVM cannot measure them
+         */
+        public synchronized long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        private synchronized void writeJson(Writer writer) throws IOException {
+            writer.write(String.format(Locale.ROOT,
+                    "{\"count\": %d, \"wallMillis\": %.3f, \"cpuMillis\": %.3f, \"allocatedBytes\": %d}", //$NON-NLS-1$
+                    count, wallTime / 1e6, cpuTime == -1 ? -1.0 : cpuTime / 1e6, allocatedBytes));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.mybatis.generator.codegen.RootClassInfo;
+
+/**
+ * This class is for internal use only. It holds the state of one generation run - the class
+ * loaders for external classes (JDBC drivers, root classes, etc.), and the root class information
+ * calculated during the run.
+ *
+ * <p>MyBatisGenerator creates a new session for each run and sets it on the contexts that it runs.
+ * Nothing is shared with other sessions, so independent runs may execute concurrently in the same
+ * JVM. Class loaders added to {@link ObjectFactory} are shared by all sessions and are searched
+ * after the class loaders of the session.
+ */
+public class GenerationSession {
+
+    private final List<ClassLoader> externalClassLoaders = new CopyOnWriteArrayList<>();
+
+    private final Map<String, RootClassInfo> rootClassInfoMap =
+            Collections.synchronizedMap(new HashMap<String, RootClassInfo>());
+
+    /**
+     * Adds a class loader to the collection of class loaders searched for "external" classes in this
+     * session.
+     *
+     * @param classLoader
+     *            the class loader
+     */
+    public void addExternalClassLoader(ClassLoader classLoader) {
+        externalClassLoaders.add(classLoader);
+    }
+
+    /**
+     * Returns a class loaded from the class loaders of this session, or from the class loaders searched by
+     * {@link ObjectFactory#externalClassForName(String)}.
+     *
+     * @param type
+     *            the type
+     * @return the Class loaded from the external classloader
+     * @throws ClassNotFoundException
+     *             the class not found exception
+     */
+    public Class<?> externalClassForName(String type) throws ClassNotFoundException {
+        for (ClassLoader classLoader : externalClassLoaders) {
+            try {
+                return Class.forName(type, true, classLoader);
+            } catch (Throwable e) {
+                // ignore - fail safe below
+            }
+        }
+
+        return ObjectFactory.externalClassForName(type);
+    }
+
+    public URL getResource(String resource) {
+        for (ClassLoader classLoader : externalClassLoaders) {
+            URL url = classLoader.getResource(resource);
+            if (url != null) {
+                return url;
+            }
+        }
+
+        return ObjectFactory.getResource(resource);
+    }
+
+    /**
+     * Returns the root class information calculated in this session, keyed by class name.
+     *
+     * @return the root class information cache
+     * @see RootClassInfo#getInstance(String, List, GenerationSession)
+     */
+    public Map<String, RootClassInfo> getRootClassInfoMap() {
+        return rootClassInfoMap;
+    }
+}
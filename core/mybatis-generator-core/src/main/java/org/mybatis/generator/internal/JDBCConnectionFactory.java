@@ -41,6 +41,7 @@ public class JDBCConnectionFactory implements ConnectionFactory {
     private String connectionURL;
     private String driverClass;
     private Properties otherProperties;
+    private GenerationSession generationSession = new GenerationSession();
 
     /**
      * This constructor is called when there is a JDBCConnectionConfiguration
@@ -57,6 +58,18 @@ public class JDBCConnectionFactory implements ConnectionFactory {
         otherProperties = config.getProperties();
     }
 
+    /**
+     * This constructor is called when there is a JDBCConnectionConfiguration
+     * specified in the configuration.
+     *
+     * @param config the configuration
+     * @param generationSession the session used to load the JDBC driver
+     */
+    public JDBCConnectionFactory(JDBCConnectionConfiguration config, GenerationSession generationSession) {
+        this(config);
+        this.generationSession = generationSession;
+    }
+
     /**
      * This constructor is called when this connection factory is specified 
      * as the type in a ConnectionFactory configuration element. 
@@ -94,7 +107,7 @@ public class JDBCConnectionFactory implements ConnectionFactory {
         Driver driver;
 
         try {
-            Class<?> clazz = ObjectFactory.externalClassForName(driverClass);
+            Class<?> clazz = generationSession.externalClassForName(driverClass);
             driver = (Driver) clazz.newInstance();
         } catch (Exception e) {
             throw new RuntimeException(getString("RuntimeError.8"), e); //$NON-NLS-1$
@@ -103,6 +116,10 @@ public class JDBCConnectionFactory implements ConnectionFactory {
         return driver;
     }
 
+    void setGenerationSession(GenerationSession generationSession) {
+        this.generationSession = generationSession;
+    }
+
     @Override
     public void addConfigurationProperties(Properties properties) {
         // this should only be called when this connection factory is
@@ -19,14 +19,15 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.mybatis.generator.api.CommentGenerator;
 import org.mybatis.generator.api.ConnectionFactory;
 import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.IntrospectionStrategy;
 import org.mybatis.generator.api.JavaFormatter;
 import org.mybatis.generator.api.JavaTypeResolver;
 import org.mybatis.generator.api.Plugin;
@@ -42,6 +43,9 @@ import org.mybatis.generator.config.JavaTypeResolverConfiguration;
 import org.mybatis.generator.config.PluginConfiguration;
 import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.db.BulkIntrospectionStrategy;
+import org.mybatis.generator.internal.db.DefaultIntrospectionStrategy;
+import org.mybatis.generator.internal.db.InformationSchemaIntrospectionStrategy;
 import org.mybatis.generator.internal.types.JavaTypeResolverDefaultImpl;
 import org.mybatis.generator.runtime.dynamic.sql.IntrospectedTableMyBatis3DynamicSqlImpl;
 
@@ -52,10 +56,14 @@ import org.mybatis.generator.runtime.dynamic.sql.IntrospectedTableMyBatis3Dynami
  */
 public class ObjectFactory {
 
+    /**
+     * Class loaders shared by every generation run in the JVM. Class loaders that are only needed
+     * by one run should be added to the {@link GenerationSession} of the run instead.
+     */
     private static List<ClassLoader> externalClassLoaders;
 
     static {
-        externalClassLoaders = new ArrayList<>();
+        externalClassLoaders = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -66,10 +74,9 @@ public class ObjectFactory {
     }
 
     /**
-     * Clears the class loaders.  This method should be called at the beginning of
-     * a generation run so that and change to the classloading configuration
-     * will be reflected.  For example, if the eclipse launcher changes configuration
-     * it might not be updated if eclipse hasn't been restarted.
+     * Clears the shared class loaders. Generation runs no longer call this method - class
+     * loaders from the configuration belong to the generation session of each run, so
+     * clearing the shared class loaders would only affect other runs in the same JVM.
      * 
      */
     public static void reset() {
@@ -79,16 +86,27 @@ public class ObjectFactory {
     /**
      * Adds a custom classloader to the collection of classloaders searched for "external" classes. These are classes
      * that do not depend on any of the generator's classes or interfaces. Examples are JDBC drivers, root classes, root
-     * interfaces, etc.
+     * interfaces, etc. The class loader is shared by every generation run in the JVM until it is removed.
      *
      * @param classLoader
      *            the class loader
      */
-    public static synchronized void addExternalClassLoader(
+    public static void addExternalClassLoader(
             ClassLoader classLoader) {
         ObjectFactory.externalClassLoaders.add(classLoader);
     }
 
+    /**
+     * Removes a class loader added with {@link #addExternalClassLoader(ClassLoader)}.
+     *
+     * @param classLoader
+     *            the class loader
+     */
+    public static void removeExternalClassLoader(
+            ClassLoader classLoader) {
+        ObjectFactory.externalClassLoaders.remove(classLoader);
+    }
+
     /**
      * Returns a class loaded from the context classloader, or the classloader supplied by a client. This is
      * appropriate for JDBC drivers, model root classes, etc. It is not appropriate for any class that extends one of
@@ -258,6 +276,10 @@ public class ObjectFactory {
 
         answer = (ConnectionFactory) createInternalObject(type);
 
+        if (answer instanceof JDBCConnectionFactory) {
+            ((JDBCConnectionFactory) answer).setGenerationSession(context.getGenerationSession());
+        }
+
         if (config != null) {
             answer.addConfigurationProperties(config.getProperties());
         }
@@ -291,6 +313,23 @@ public class ObjectFactory {
         return answer;
     }
 
+    public static IntrospectionStrategy createIntrospectionStrategy(Context context) {
+        String type = context.getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_STRATEGY);
+        if (!stringHasValue(type) || "DEFAULT".equalsIgnoreCase(type)) { //$NON-NLS-1$
+            type = DefaultIntrospectionStrategy.class.getName();
+        } else if ("BULK".equalsIgnoreCase(type)) { //$NON-NLS-1$
+            type = BulkIntrospectionStrategy.class.getName();
+        } else if ("INFORMATION_SCHEMA".equalsIgnoreCase(type)) { //$NON-NLS-1$
+            type = InformationSchemaIntrospectionStrategy.class.getName();
+        }
+
+        IntrospectionStrategy answer = (IntrospectionStrategy) createInternalObject(type);
+
+        answer.setContext(context);
+
+        return answer;
+    }
+
     public static IntrospectedTable createIntrospectedTable(
             TableConfiguration tableConfiguration, FullyQualifiedTable table,
             Context context) {
@@ -0,0 +1,200 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+/**
+ * This class is for internal use only. It runs a list of independent tasks on a
+ * private fork/join pool and returns the results in the same order as the
+ * tasks, regardless of the order in which the tasks complete.
+ *
+ * <p>Worker threads use the context class loader of the calling thread so that
+ * JDBC drivers, root classes, and plugins supplied through a custom class loader
+ * remain visible to the tasks.
+ *
+ * <p>If any task fails, the remaining tasks are cancelled and the first failure
+ * (in task order) is rethrown to the caller.
+ */
+public class ParallelTaskRunner {
+
+    /**
+     * A unit of work that may throw a checked exception of type E, or may be
+     * cancelled through a progress callback.
+     *
+     * @param <T> the result type
+     * @param <E> the checked exception type thrown by the task
+     */
+    @FunctionalInterface
+    public interface Task<T, E extends Exception> {
+        T call() throws E, InterruptedException;
+    }
+
+    /**
+     * Receives the results of tasks, in task order, on the calling thread.
+     *
+     * @param <T> the result type
+     * @param <E> the checked exception type thrown by the handler
+     */
+    @FunctionalInterface
+    public interface ResultHandler<T, E extends Exception> {
+        void handle(T result) throws E, InterruptedException;
+    }
+
+    /**
+     * Utility class. No instances allowed.
+     */
+    private ParallelTaskRunner() {
+        super();
+    }
+
+    /**
+     * Runs the tasks and returns their results in task order.
+     *
+     * @param <T> the result type
+     * @param <E> the checked exception type thrown by the tasks
+     * @param tasks the tasks to run
+     * @param threads the maximum number of tasks to run concurrently. If this value
+     *     is less than 2, the tasks are run sequentially on the calling thread
+     * @return the task results, in task order
+     * @throws E if any task throws E
+     * @throws InterruptedException if any task is cancelled, or if the calling thread is interrupted
+     */
+    public static <T, E extends Exception> List<T> runAll(List<? extends Task<T, E>> tasks, int threads)
+            throws E, InterruptedException {
+        List<T> answer = new ArrayList<>(tasks.size());
+        runAll(tasks, threads, answer::add);
+        return answer;
+    }
+
+    /**
+     * Runs the tasks and passes each result to the handler as soon as it and all
+     * results before it are available. The handler is called on the calling thread,
+     * in task order, so it does not need to be thread safe.
+     *
+     * <p>At most twice as many tasks as threads are started before their results are
+     * handled, so the number of results waiting to be handled is bounded
+     * regardless of the number of tasks.
+     *
+     * @param <T> the result type
+     * @param <E> the checked exception type thrown by the tasks and the handler
+     * @param tasks the tasks to run
+     * @param threads the maximum number of tasks to run concurrently. If this value
+     *     is less than 2, the tasks are run sequentially on the calling thread
+     * @param handler receives the results in task order
+     * @throws E if any task or the handler throws E
+     * @throws InterruptedException if any task is cancelled, or if the calling thread is interrupted
+     */
+    public static <T, E extends Exception> void runAll(List<? extends Task<T, E>> tasks, int threads,
+            ResultHandler<T, E> handler) throws E, InterruptedException {
+        if (threads < 2 || tasks.size() < 2) {
+            for (Task<T, E> task : tasks) {
+                handler.handle(task.call());
+            }
+            return;
+        }
+
+        int maximumPending = threads * 2;
+        ForkJoinPool pool = createPool(Math.min(threads, tasks.size()));
+        try {
+            Deque<Future<Outcome<T>>> futures = new ArrayDeque<>(maximumPending);
+            Iterator<? extends Task<T, E>> iterator = tasks.iterator();
+            while (iterator.hasNext() || !futures.isEmpty()) {
+                while (iterator.hasNext() && futures.size() < maximumPending) {
+                    Task<T, E> task = iterator.next();
+                    futures.add(pool.submit(() -> call(task)));
+                }
+
+                handler.handle(ParallelTaskRunner.<T, E>getResult(futures.remove()));
+            }
+        } finally {
+            // cancels any outstanding tasks if a task or the handler failed
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a task on a worker thread. Fork/join pools wrap checked exceptions thrown by
+     * a callable in a RuntimeException, so failures are caught here and rethrown
+     * unchanged on the calling thread.
+     */
+    private static <T, E extends Exception> Outcome<T> call(Task<T, E> task) {
+        Outcome<T> outcome = new Outcome<>();
+        try {
+            outcome.result = task.call();
+        } catch (Exception e) {
+            outcome.failure = e;
+        }
+        return outcome;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E extends Exception> T getResult(Future<Outcome<T>> future)
+            throws E, InterruptedException {
+        Outcome<T> outcome;
+        try {
+            outcome = future.get();
+        } catch (ExecutionException e) {
+            // only errors escape from call(Task)
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        Exception failure = outcome.failure;
+        if (failure == null) {
+            return outcome.result;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof InterruptedException) {
+            throw (InterruptedException) failure;
+        } else {
+            // tasks may only throw E, InterruptedException, or unchecked exceptions
+            throw (E) failure;
+        }
+    }
+
+    private static ForkJoinPool createPool(int parallelism) {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        };
+
+        return new ForkJoinPool(parallelism, factory, null, false);
+    }
+
+    /**
+     * The result of a task, or the exception it failed with.
+     */
+    private static class Outcome<T> {
+        private T result;
+        private Exception failure;
+    }
+}
@@ -1,5 +1,5 @@
 /**
- *    Copyright 2006-2018 the original author or authors.
+ *    Copyright 2006-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.mybatis.generator.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 
@@ -24,6 +25,7 @@ import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.Plugin;
+import org.mybatis.generator.api.PluginAdapter;
 import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.Interface;
 import org.mybatis.generator.api.dom.java.Method;
@@ -40,19 +42,94 @@ import org.mybatis.generator.config.Context;
  * 
  * <p>This class does not follow the normal plugin lifecycle and should not be
  * subclassed by clients.
+ *
+ * <p>Plugins are only called for the hooks they implement. Most plugins extend
+ * {@link PluginAdapter} and override a few hooks, so most hooks have no plugins
+ * to call at all.
+ *
+ * <p>The list of plugins is not changed once generation starts, so the aggregator
+ * itself may be called from several threads when tables are generated in parallel.
+ * The aggregated plugins must follow the concurrency rules described in {@link Plugin}.
  * 
  * @author Jeff Butler
  * 
  */
 public final class PluginAggregator implements Plugin {
-    private List<Plugin> plugins;
+    private static final Plugin[] NO_PLUGINS = new Plugin[0];
+
+    private final boolean dispatchByHook;
+
+    /** The plugins to call for each hook, indexed by hook ordinal. */
+    private final Plugin[][] pluginsByHook;
 
+    private GenerationMetrics generationMetrics = GenerationMetrics.disabled();
+
+    /**
+     * Constructs an aggregator that calls each plugin only for the hooks the plugin implements.
+     */
     public PluginAggregator() {
-        plugins = new ArrayList<>();
+        this(true);
+    }
+
+    /**
+     * Constructs an aggregator.
+     *
+     * @param dispatchByHook
+     *            if true, plugins are only called for the hooks they implement. The methods in
+     *            {@link PluginAdapter}, and the default methods in {@link Plugin}, do nothing and
+     *            allow generation to continue, so skipping them does not change the result. If
+     *            false, every plugin is called for every hook.
+     */
+    public PluginAggregator(boolean dispatchByHook) {
+        this.dispatchByHook = dispatchByHook;
+        pluginsByHook = new Plugin[Hook.values().length][];
+        Arrays.fill(pluginsByHook, NO_PLUGINS);
+    }
+
+    /**
+     * Adds a plugin. The plugin is checked for overridden hooks once, here, rather than on
+     * every call.
+     *
+     * @param plugin
+     *            the plugin to add
+     */
+    public void addPlugin(Plugin plugin) {
+        Plugin pluginToCall = generationMetrics.measure(plugin);
+        for (Hook hook : Hook.values()) {
+            if (!dispatchByHook || hook.isImplementedBy(plugin)) {
+                Plugin[] plugins = pluginsByHook[hook.ordinal()];
+                plugins = Arrays.copyOf(plugins, plugins.length + 1);
+                plugins[plugins.length - 1] = pluginToCall;
+                pluginsByHook[hook.ordinal()] = plugins;
+            }
+        }
     }
 
-    public void addPlugin(Plugin plugin) {
-        plugins.add(plugin);
+    /**
+     * Sets the metrics that record the time spent in each hook of each plugin. Only plugins
+     * added after this method is called are measured.
+     *
+     * @param generationMetrics
+     *            the metrics of the run
+     */
+    public void setGenerationMetrics(GenerationMetrics generationMetrics) {
+        this.generationMetrics = generationMetrics;
+    }
+
+    /**
+     * Returns true if any plugin generates files for the context as a whole. Such plugins
+     * usually collect information from every table as the tables are generated, so no table
+     * may be skipped when they are present.
+     *
+     * @return true if a plugin implements one of the context level hooks
+     */
+    public boolean hasContextFilePlugins() {
+        return pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES_FOR_CONTEXT).length > 0
+                || pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_XML_FILES_FOR_CONTEXT).length > 0;
+    }
+
+    private Plugin[] pluginsFor(Hook hook) {
+        return pluginsByHook[hook.ordinal()];
     }
 
     @Override
@@ -75,7 +152,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_BASE_RECORD_CLASS_GENERATED)) {
             if (!plugin.modelBaseRecordClassGenerated(tlc, introspectedTable)) {
                 rc = false;
                 break;
@@ -90,7 +167,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_RECORD_WITH_BLOBS_CLASS_GENERATED)) {
             if (!plugin.modelRecordWithBLOBsClassGenerated(tlc,
                     introspectedTable)) {
                 rc = false;
@@ -106,7 +183,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable table) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_COUNT_BY_EXAMPLE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapCountByExampleElementGenerated(element, table)) {
                 rc = false;
                 break;
@@ -121,7 +198,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable table) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_DELETE_BY_EXAMPLE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapDeleteByExampleElementGenerated(element, table)) {
                 rc = false;
                 break;
@@ -136,7 +213,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable table) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_DELETE_BY_PRIMARY_KEY_ELEMENT_GENERATED)) {
             if (!plugin
                     .sqlMapDeleteByPrimaryKeyElementGenerated(element, table)) {
                 rc = false;
@@ -152,7 +229,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_EXAMPLE_CLASS_GENERATED)) {
             if (!plugin.modelExampleClassGenerated(tlc, introspectedTable)) {
                 rc = false;
                 break;
@@ -166,7 +243,7 @@ public final class PluginAggregator implements Plugin {
     public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles(
             IntrospectedTable introspectedTable) {
         List<GeneratedJavaFile> answer = new ArrayList<>();
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES)) {
             List<GeneratedJavaFile> temp = plugin
                     .contextGenerateAdditionalJavaFiles(introspectedTable);
             if (temp != null) {
@@ -179,7 +256,7 @@ public final class PluginAggregator implements Plugin {
     @Override
     public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles() {
         List<GeneratedJavaFile> answer = new ArrayList<>();
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES_FOR_CONTEXT)) {
             List<GeneratedJavaFile> temp = plugin
                     .contextGenerateAdditionalJavaFiles();
             if (temp != null) {
@@ -193,7 +270,7 @@ public final class PluginAggregator implements Plugin {
     public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles(
             IntrospectedTable introspectedTable) {
         List<GeneratedXmlFile> answer = new ArrayList<>();
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_XML_FILES)) {
             List<GeneratedXmlFile> temp = plugin
                     .contextGenerateAdditionalXmlFiles(introspectedTable);
             if (temp != null) {
@@ -206,7 +283,7 @@ public final class PluginAggregator implements Plugin {
     @Override
     public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles() {
         List<GeneratedXmlFile> answer = new ArrayList<>();
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_XML_FILES_FOR_CONTEXT)) {
             List<GeneratedXmlFile> temp = plugin
                     .contextGenerateAdditionalXmlFiles();
             if (temp != null) {
@@ -221,7 +298,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_PRIMARY_KEY_CLASS_GENERATED)) {
             if (!plugin.modelPrimaryKeyClassGenerated(tlc, introspectedTable)) {
                 rc = false;
                 break;
@@ -236,7 +313,7 @@ public final class PluginAggregator implements Plugin {
             XmlElement element, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_RESULT_MAP_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapResultMapWithoutBLOBsElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -252,7 +329,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_EXAMPLE_WHERE_CLAUSE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapExampleWhereClauseElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -268,7 +345,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_INSERT_ELEMENT_GENERATED)) {
             if (!plugin
                     .sqlMapInsertElementGenerated(element, introspectedTable)) {
                 rc = false;
@@ -284,7 +361,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_RESULT_MAP_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapResultMapWithBLOBsElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -300,7 +377,7 @@ public final class PluginAggregator implements Plugin {
             XmlElement element, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByExampleWithoutBLOBsElementGenerated(
                     element, introspectedTable)) {
                 rc = false;
@@ -316,7 +393,7 @@ public final class PluginAggregator implements Plugin {
             XmlElement element, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByExampleWithBLOBsElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -332,7 +409,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_BY_PRIMARY_KEY_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByPrimaryKeyElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -348,7 +425,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_GENERATED)) {
             if (!plugin.sqlMapGenerated(sqlMap, introspectedTable)) {
                 rc = false;
                 break;
@@ -363,7 +440,7 @@ public final class PluginAggregator implements Plugin {
             XmlElement element, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_EXAMPLE_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleSelectiveElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -379,7 +456,7 @@ public final class PluginAggregator implements Plugin {
             XmlElement element, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleWithBLOBsElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -395,7 +472,7 @@ public final class PluginAggregator implements Plugin {
             XmlElement element, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleWithoutBLOBsElementGenerated(
                     element, introspectedTable)) {
                 rc = false;
@@ -411,7 +488,7 @@ public final class PluginAggregator implements Plugin {
             XmlElement element, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_PRIMARY_KEY_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeySelectiveElementGenerated(
                     element, introspectedTable)) {
                 rc = false;
@@ -427,7 +504,7 @@ public final class PluginAggregator implements Plugin {
             XmlElement element, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated(
                     element, introspectedTable)) {
                 rc = false;
@@ -443,7 +520,7 @@ public final class PluginAggregator implements Plugin {
             XmlElement element, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated(
                     element, introspectedTable)) {
                 rc = false;
@@ -459,7 +536,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_COUNT_METHOD_GENERATED)) {
             if (!plugin.clientBasicCountMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -474,7 +551,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_DELETE_METHOD_GENERATED)) {
             if (!plugin.clientBasicDeleteMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -489,7 +566,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_INSERT_METHOD_GENERATED)) {
             if (!plugin.clientBasicInsertMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -504,7 +581,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_SELECT_MANY_METHOD_GENERATED)) {
             if (!plugin.clientBasicSelectManyMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -519,7 +596,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_SELECT_ONE_METHOD_GENERATED)) {
             if (!plugin.clientBasicSelectOneMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -534,7 +611,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_UPDATE_METHOD_GENERATED)) {
             if (!plugin.clientBasicUpdateMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -549,7 +626,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_COUNT_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.clientCountByExampleMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -565,7 +642,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_DELETE_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.clientDeleteByExampleMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -581,7 +658,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED)) {
             if (!plugin.clientDeleteByPrimaryKeyMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -597,7 +674,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_METHOD_GENERATED)) {
             if (!plugin.clientInsertMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -613,7 +690,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERATED)) {
             if (!plugin.clientGenerated(interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -628,7 +705,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_ALL_METHOD_GENERATED)) {
             if (!plugin.clientSelectAllMethodGenerated(method,
                     interfaze, introspectedTable)) {
                 rc = false;
@@ -644,7 +721,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientSelectByExampleWithBLOBsMethodGenerated(method,
                     interfaze, introspectedTable)) {
                 rc = false;
@@ -660,7 +737,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientSelectByExampleWithoutBLOBsMethodGenerated(method,
                     interfaze, introspectedTable)) {
                 rc = false;
@@ -676,7 +753,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED)) {
             if (!plugin.clientSelectByPrimaryKeyMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -692,7 +769,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByExampleSelectiveMethodGenerated(method,
                     interfaze, introspectedTable)) {
                 rc = false;
@@ -708,7 +785,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByExampleWithBLOBsMethodGenerated(method,
                     interfaze, introspectedTable)) {
                 rc = false;
@@ -724,7 +801,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByExampleWithoutBLOBsMethodGenerated(method,
                     interfaze, introspectedTable)) {
                 rc = false;
@@ -740,7 +817,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeySelectiveMethodGenerated(method,
                     interfaze, introspectedTable)) {
                 rc = false;
@@ -756,7 +833,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeyWithBLOBsMethodGenerated(method,
                     interfaze, introspectedTable)) {
                 rc = false;
@@ -773,7 +850,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 rc = false;
@@ -789,7 +866,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_DOCUMENT_GENERATED)) {
             if (!plugin.sqlMapDocumentGenerated(document, introspectedTable)) {
                 rc = false;
                 break;
@@ -806,7 +883,7 @@ public final class PluginAggregator implements Plugin {
             Plugin.ModelClassType modelClassType) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_FIELD_GENERATED)) {
             if (!plugin.modelFieldGenerated(field, topLevelClass,
                     introspectedColumn, introspectedTable, modelClassType)) {
                 rc = false;
@@ -824,7 +901,7 @@ public final class PluginAggregator implements Plugin {
             Plugin.ModelClassType modelClassType) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_GETTER_METHOD_GENERATED)) {
             if (!plugin.modelGetterMethodGenerated(method, topLevelClass,
                     introspectedColumn, introspectedTable, modelClassType)) {
                 rc = false;
@@ -842,7 +919,7 @@ public final class PluginAggregator implements Plugin {
             Plugin.ModelClassType modelClassType) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_SETTER_METHOD_GENERATED)) {
             if (!plugin.modelSetterMethodGenerated(method, topLevelClass,
                     introspectedColumn, introspectedTable, modelClassType)) {
                 rc = false;
@@ -858,7 +935,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_INSERT_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapInsertSelectiveElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -874,7 +951,7 @@ public final class PluginAggregator implements Plugin {
             Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.clientInsertSelectiveMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -885,9 +962,23 @@ public final class PluginAggregator implements Plugin {
         return rc;
     }
 
+    @Override
+    public void tableGenerationStarted(IntrospectedTable introspectedTable) {
+        for (Plugin plugin : pluginsFor(Hook.TABLE_GENERATION_STARTED)) {
+            plugin.tableGenerationStarted(introspectedTable);
+        }
+    }
+
+    @Override
+    public void tableGenerationFinished(IntrospectedTable introspectedTable) {
+        for (Plugin plugin : pluginsFor(Hook.TABLE_GENERATION_FINISHED)) {
+            plugin.tableGenerationFinished(introspectedTable);
+        }
+    }
+
     @Override
     public void initialized(IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.INITIALIZED)) {
             plugin.initialized(introspectedTable);
         }
     }
@@ -897,7 +988,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_BASE_COLUMN_LIST_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapBaseColumnListElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -913,7 +1004,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_BLOB_COLUMN_LIST_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapBlobColumnListElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -929,7 +1020,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_GENERATED)) {
             if (!plugin.providerGenerated(topLevelClass, introspectedTable)) {
                 rc = false;
                 break;
@@ -944,7 +1035,7 @@ public final class PluginAggregator implements Plugin {
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_APPLY_WHERE_METHOD_GENERATED)) {
             if (!plugin.providerApplyWhereMethodGenerated(method,
                     topLevelClass, introspectedTable)) {
                 rc = false;
@@ -960,7 +1051,7 @@ public final class PluginAggregator implements Plugin {
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_COUNT_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.providerCountByExampleMethodGenerated(method,
                     topLevelClass, introspectedTable)) {
                 rc = false;
@@ -976,7 +1067,7 @@ public final class PluginAggregator implements Plugin {
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_DELETE_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.providerDeleteByExampleMethodGenerated(method,
                     topLevelClass, introspectedTable)) {
                 rc = false;
@@ -992,7 +1083,7 @@ public final class PluginAggregator implements Plugin {
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_INSERT_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerInsertSelectiveMethodGenerated(method,
                     topLevelClass, introspectedTable)) {
                 rc = false;
@@ -1009,7 +1100,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerSelectByExampleWithBLOBsMethodGenerated(method,
                     topLevelClass, introspectedTable)) {
                 rc = false;
@@ -1026,7 +1117,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerSelectByExampleWithoutBLOBsMethodGenerated(method,
                     topLevelClass, introspectedTable)) {
                 rc = false;
@@ -1043,7 +1134,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleSelectiveMethodGenerated(method,
                     topLevelClass, introspectedTable)) {
                 rc = false;
@@ -1060,7 +1151,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleWithBLOBsMethodGenerated(method,
                     topLevelClass, introspectedTable)) {
                 rc = false;
@@ -1077,7 +1168,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleWithoutBLOBsMethodGenerated(method,
                     topLevelClass, introspectedTable)) {
                 rc = false;
@@ -1094,7 +1185,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByPrimaryKeySelectiveMethodGenerated(method,
                     topLevelClass, introspectedTable)) {
                 rc = false;
@@ -1110,7 +1201,7 @@ public final class PluginAggregator implements Plugin {
             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_ALL_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectAllElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -1119,4 +1210,174 @@ public final class PluginAggregator implements Plugin {
 
         return rc;
     }
+
+    /**
+     * The plugin methods that are called for every configured plugin.
+     */
+    private enum Hook {
+        MODEL_BASE_RECORD_CLASS_GENERATED("modelBaseRecordClassGenerated",
+                TopLevelClass.class, IntrospectedTable.class),
+        MODEL_RECORD_WITH_BLOBS_CLASS_GENERATED("modelRecordWithBLOBsClassGenerated",
+                TopLevelClass.class, IntrospectedTable.class),
+        SQL_MAP_COUNT_BY_EXAMPLE_ELEMENT_GENERATED("sqlMapCountByExampleElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_DELETE_BY_EXAMPLE_ELEMENT_GENERATED("sqlMapDeleteByExampleElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_DELETE_BY_PRIMARY_KEY_ELEMENT_GENERATED("sqlMapDeleteByPrimaryKeyElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        MODEL_EXAMPLE_CLASS_GENERATED("modelExampleClassGenerated",
+                TopLevelClass.class, IntrospectedTable.class),
+        CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES("contextGenerateAdditionalJavaFiles",
+                IntrospectedTable.class),
+        CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES_FOR_CONTEXT("contextGenerateAdditionalJavaFiles"),
+        CONTEXT_GENERATE_ADDITIONAL_XML_FILES("contextGenerateAdditionalXmlFiles",
+                IntrospectedTable.class),
+        CONTEXT_GENERATE_ADDITIONAL_XML_FILES_FOR_CONTEXT("contextGenerateAdditionalXmlFiles"),
+        MODEL_PRIMARY_KEY_CLASS_GENERATED("modelPrimaryKeyClassGenerated",
+                TopLevelClass.class, IntrospectedTable.class),
+        SQL_MAP_RESULT_MAP_WITHOUT_BLOBS_ELEMENT_GENERATED("sqlMapResultMapWithoutBLOBsElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_EXAMPLE_WHERE_CLAUSE_ELEMENT_GENERATED("sqlMapExampleWhereClauseElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_INSERT_ELEMENT_GENERATED("sqlMapInsertElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_RESULT_MAP_WITH_BLOBS_ELEMENT_GENERATED("sqlMapResultMapWithBLOBsElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED("sqlMapSelectByExampleWithoutBLOBsElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_SELECT_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED("sqlMapSelectByExampleWithBLOBsElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_SELECT_BY_PRIMARY_KEY_ELEMENT_GENERATED("sqlMapSelectByPrimaryKeyElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_GENERATED("sqlMapGenerated",
+                GeneratedXmlFile.class, IntrospectedTable.class),
+        SQL_MAP_UPDATE_BY_EXAMPLE_SELECTIVE_ELEMENT_GENERATED("sqlMapUpdateByExampleSelectiveElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_UPDATE_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED("sqlMapUpdateByExampleWithBLOBsElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED("sqlMapUpdateByExampleWithoutBLOBsElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_UPDATE_BY_PRIMARY_KEY_SELECTIVE_ELEMENT_GENERATED("sqlMapUpdateByPrimaryKeySelectiveElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_ELEMENT_GENERATED("sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_ELEMENT_GENERATED("sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        CLIENT_BASIC_COUNT_METHOD_GENERATED("clientBasicCountMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_BASIC_DELETE_METHOD_GENERATED("clientBasicDeleteMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_BASIC_INSERT_METHOD_GENERATED("clientBasicInsertMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_BASIC_SELECT_MANY_METHOD_GENERATED("clientBasicSelectManyMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_BASIC_SELECT_ONE_METHOD_GENERATED("clientBasicSelectOneMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_BASIC_UPDATE_METHOD_GENERATED("clientBasicUpdateMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_COUNT_BY_EXAMPLE_METHOD_GENERATED("clientCountByExampleMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_DELETE_BY_EXAMPLE_METHOD_GENERATED("clientDeleteByExampleMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED("clientDeleteByPrimaryKeyMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_INSERT_METHOD_GENERATED("clientInsertMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_GENERATED("clientGenerated",
+                Interface.class, IntrospectedTable.class),
+        CLIENT_SELECT_ALL_METHOD_GENERATED("clientSelectAllMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED("clientSelectByExampleWithBLOBsMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED("clientSelectByExampleWithoutBLOBsMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED("clientSelectByPrimaryKeyMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED("clientUpdateByExampleSelectiveMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED("clientUpdateByExampleWithBLOBsMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED("clientUpdateByExampleWithoutBLOBsMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED("clientUpdateByPrimaryKeySelectiveMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_METHOD_GENERATED("clientUpdateByPrimaryKeyWithBLOBsMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        CLIENT_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_METHOD_GENERATED("clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        SQL_MAP_DOCUMENT_GENERATED("sqlMapDocumentGenerated",
+                Document.class, IntrospectedTable.class),
+        MODEL_FIELD_GENERATED("modelFieldGenerated",
+                Field.class, TopLevelClass.class, IntrospectedColumn.class, IntrospectedTable.class, Plugin.ModelClassType.class),
+        MODEL_GETTER_METHOD_GENERATED("modelGetterMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedColumn.class, IntrospectedTable.class, Plugin.ModelClassType.class),
+        MODEL_SETTER_METHOD_GENERATED("modelSetterMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedColumn.class, IntrospectedTable.class, Plugin.ModelClassType.class),
+        SQL_MAP_INSERT_SELECTIVE_ELEMENT_GENERATED("sqlMapInsertSelectiveElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        CLIENT_INSERT_SELECTIVE_METHOD_GENERATED("clientInsertSelectiveMethodGenerated",
+                Method.class, Interface.class, IntrospectedTable.class),
+        TABLE_GENERATION_STARTED("tableGenerationStarted",
+                IntrospectedTable.class),
+        TABLE_GENERATION_FINISHED("tableGenerationFinished",
+                IntrospectedTable.class),
+        INITIALIZED("initialized",
+                IntrospectedTable.class),
+        SQL_MAP_BASE_COLUMN_LIST_ELEMENT_GENERATED("sqlMapBaseColumnListElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        SQL_MAP_BLOB_COLUMN_LIST_ELEMENT_GENERATED("sqlMapBlobColumnListElementGenerated",
+                XmlElement.class, IntrospectedTable.class),
+        PROVIDER_GENERATED("providerGenerated",
+                TopLevelClass.class, IntrospectedTable.class),
+        PROVIDER_APPLY_WHERE_METHOD_GENERATED("providerApplyWhereMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedTable.class),
+        PROVIDER_COUNT_BY_EXAMPLE_METHOD_GENERATED("providerCountByExampleMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedTable.class),
+        PROVIDER_DELETE_BY_EXAMPLE_METHOD_GENERATED("providerDeleteByExampleMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedTable.class),
+        PROVIDER_INSERT_SELECTIVE_METHOD_GENERATED("providerInsertSelectiveMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedTable.class),
+        PROVIDER_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED("providerSelectByExampleWithBLOBsMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedTable.class),
+        PROVIDER_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED("providerSelectByExampleWithoutBLOBsMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedTable.class),
+        PROVIDER_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED("providerUpdateByExampleSelectiveMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedTable.class),
+        PROVIDER_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED("providerUpdateByExampleWithBLOBsMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedTable.class),
+        PROVIDER_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED("providerUpdateByExampleWithoutBLOBsMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedTable.class),
+        PROVIDER_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED("providerUpdateByPrimaryKeySelectiveMethodGenerated",
+                Method.class, TopLevelClass.class, IntrospectedTable.class),
+        SQL_MAP_SELECT_ALL_ELEMENT_GENERATED("sqlMapSelectAllElementGenerated",
+                XmlElement.class, IntrospectedTable.class);
+
+        private final String methodName;
+        private final Class<?>[] parameterTypes;
+
+        Hook(String methodName, Class<?>... parameterTypes) {
+            this.methodName = methodName;
+            this.parameterTypes = parameterTypes;
+            try {
+                Plugin.class.getMethod(methodName, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Returns false if the plugin inherits the do nothing implementation of this hook from
+         * PluginAdapter, or the default implementation from Plugin.
+         */
+        boolean isImplementedBy(Plugin plugin) {
+            try {
+                Class<?> declaringClass = plugin.getClass().getMethod(methodName, parameterTypes)
+                        .getDeclaringClass();
+                return declaringClass != PluginAdapter.class && declaringClass != Plugin.class;
+            } catch (NoSuchMethodException | SecurityException e) {
+                // be safe and call the plugin
+                return true;
+            }
+        }
+    }
 }
@@ -0,0 +1,79 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import org.mybatis.generator.api.ProgressCallback;
+
+/**
+ * This class wraps a progress callback so that it can safely be called from
+ * several threads at once. It is used when tables or contexts are processed
+ * in parallel - client supplied callbacks are not required to be thread safe.
+ */
+public class SynchronizedProgressCallback implements ProgressCallback {
+
+    private final ProgressCallback delegate;
+
+    public SynchronizedProgressCallback(ProgressCallback delegate) {
+        super();
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns a thread safe view of the callback. The callback is returned
+     * unchanged if it is already synchronized.
+     *
+     * @param callback
+     *            the callback to wrap
+     * @return a thread safe callback
+     */
+    public static ProgressCallback of(ProgressCallback callback) {
+        if (callback instanceof SynchronizedProgressCallback) {
+            return callback;
+        }
+
+        return new SynchronizedProgressCallback(callback);
+    }
+
+    @Override
+    public synchronized void introspectionStarted(int totalTasks) {
+        delegate.introspectionStarted(totalTasks);
+    }
+
+    @Override
+    public synchronized void generationStarted(int totalTasks) {
+        delegate.generationStarted(totalTasks);
+    }
+
+    @Override
+    public synchronized void saveStarted(int totalTasks) {
+        delegate.saveStarted(totalTasks);
+    }
+
+    @Override
+    public synchronized void startTask(String taskName) {
+        delegate.startTask(taskName);
+    }
+
+    @Override
+    public synchronized void done() {
+        delegate.done();
+    }
+
+    @Override
+    public synchronized void checkCancel() throws InterruptedException {
+        delegate.checkCancel();
+    }
+}
@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +31,7 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
 import org.mybatis.generator.config.MergeConstants;
 import org.mybatis.generator.exception.ShellException;
 import org.w3c.dom.Comment;
@@ -50,6 +52,10 @@ import org.xml.sax.SAXException;
  * @author Jeff Butler
  */
 public class XmlFileMergerJaxp {
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = new ThreadLocal<>();
+
+    private static final DomSerializer DOM_SERIALIZER = new DomSerializer();
+
     private static class NullEntityResolver implements EntityResolver {
         /**
          * returns an empty reader. This is done so that the parser doesn't
@@ -73,13 +79,40 @@ public class XmlFileMergerJaxp {
         super();
     }
 
+    /**
+     * Merges a newly generated file into an existing file. If the generated file uses the
+     * default XML formatter, the new nodes are built directly from the generated document
+     * rather than by rendering and re-parsing it.
+     *
+     * @param generatedXmlFile the newly generated file
+     * @param existingFile the existing file
+     * @return the merged source
+     * @throws ShellException if the files cannot be merged
+     */
     public static String getMergedSource(GeneratedXmlFile generatedXmlFile,
             File existingFile) throws ShellException {
 
-        try {
-            return getMergedSource(new InputSource(new StringReader(generatedXmlFile.getFormattedContent())),
-                new InputSource(new InputStreamReader(new FileInputStream(existingFile), "UTF-8")), //$NON-NLS-1$
-                existingFile.getName());
+        try (Reader reader = new InputStreamReader(new FileInputStream(existingFile), "UTF-8")) { //$NON-NLS-1$
+            DocumentBuilder builder = getDocumentBuilder();
+            Document existingDocument = builder.parse(new InputSource(reader));
+
+            Element newRootElement = null;
+            if (generatedXmlFile.getXmlFormatter().getClass() == DefaultXmlFormatter.class) {
+                newRootElement = DomElementBuilder.buildRootElement(generatedXmlFile.getDocument(),
+                        existingDocument);
+            }
+
+            if (newRootElement == null) {
+                // the formatter, or markup in the document, can only be handled by a parser
+                Document newDocument = builder.parse(
+                        new InputSource(new StringReader(generatedXmlFile.getFormattedContent())));
+                return merge(existingDocument, newDocument.getDoctype().getName(),
+                        newDocument.getDocumentElement(), existingFile.getName());
+            }
+
+            // the default formatter always names the document type after the root element
+            return merge(existingDocument, newRootElement.getTagName(), newRootElement,
+                    existingFile.getName());
         } catch (IOException e) {
             throw new ShellException(getString("Warning.13", //$NON-NLS-1$
                     existingFile.getName()), e);
@@ -96,25 +129,53 @@ public class XmlFileMergerJaxp {
             InputSource existingFile, String existingFileName) throws IOException, SAXException,
             ParserConfigurationException, ShellException {
 
-        DocumentBuilderFactory factory = DocumentBuilderFactory
-                .newInstance();
-        factory.setExpandEntityReferences(false);
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        builder.setEntityResolver(new NullEntityResolver());
+        DocumentBuilder builder = getDocumentBuilder();
 
         Document existingDocument = builder.parse(existingFile);
         Document newDocument = builder.parse(newFile);
 
-        DocumentType newDocType = newDocument.getDoctype();
+        return merge(existingDocument, newDocument.getDoctype().getName(),
+                newDocument.getDocumentElement(), existingFileName);
+    }
+
+    /**
+     * Returns a document builder for the current thread. Builders are not thread safe,
+     * but creating one is expensive, so each thread reuses its own.
+     */
+    private static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder builder = DOCUMENT_BUILDER.get();
+        if (builder == null) {
+            DocumentBuilderFactory factory = DocumentBuilderFactory
+                    .newInstance();
+            factory.setExpandEntityReferences(false);
+            builder = factory.newDocumentBuilder();
+            builder.setEntityResolver(new NullEntityResolver());
+            DOCUMENT_BUILDER.set(builder);
+        }
+        return builder;
+    }
+
+    /**
+     * Merges the children of the new root element into the existing document.
+     *
+     * @param existingDocument the existing document
+     * @param newDocTypeName the document type name of the new document
+     * @param newRootElement the new root element. It may belong to the existing document,
+     *     in which case its children are moved rather than copied
+     * @param existingFileName the existing file name, for error messages
+     * @return the merged source
+     * @throws ShellException if the document types do not match
+     */
+    private static String merge(Document existingDocument, String newDocTypeName,
+            Element newRootElement, String existingFileName) throws ShellException {
         DocumentType existingDocType = existingDocument.getDoctype();
 
-        if (!newDocType.getName().equals(existingDocType.getName())) {
+        if (!newDocTypeName.equals(existingDocType.getName())) {
             throw new ShellException(getString("Warning.12", //$NON-NLS-1$
                     existingFileName));
         }
 
         Element existingRootElement = existingDocument.getDocumentElement();
-        Element newRootElement = newDocument.getDocumentElement();
 
         // reconcile the root element attributes -
         // take all attributes from the new element and add to the existing
@@ -157,17 +218,22 @@ public class XmlFileMergerJaxp {
         }
 
         // add the new generated elements
+        // (copy the list first - moving a node changes the live child list)
         children = newRootElement.getChildNodes();
         length = children.getLength();
-        Node firstChild = existingRootElement.getFirstChild();
+        List<Node> newNodes = new ArrayList<>(length);
         for (int i = 0; i < length; i++) {
-            Node node = children.item(i);
-            // don't add the last node if it is only white space
-            if (i == length - 1 && isWhiteSpace(node)) {
-                break;
-            }
+            newNodes.add(children.item(i));
+        }
+        // don't add the last node if it is only white space
+        if (length > 0 && isWhiteSpace(newNodes.get(length - 1))) {
+            newNodes.remove(length - 1);
+        }
 
-            Node newNode = existingDocument.importNode(node, true);
+        Node firstChild = existingRootElement.getFirstChild();
+        for (Node node : newNodes) {
+            Node newNode = node.getOwnerDocument() == existingDocument ? node
+                    : existingDocument.importNode(node, true);
             if (firstChild == null) {
                 existingRootElement.appendChild(newNode);
             } else {
@@ -180,9 +246,7 @@ public class XmlFileMergerJaxp {
     }
 
     private static String prettyPrint(Document document) throws ShellException {
-        DomWriter dw = new DomWriter();
-        String s = dw.toString(document);
-        return s;
+        return DOM_SERIALIZER.toString(document);
     }
 
     private static boolean isGeneratedNode(Node node) {
@@ -0,0 +1,358 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.config.MergeConstants;
+import org.mybatis.generator.exception.ShellException;
+
+/**
+ * This class merges changes into an existing XML file without building a DOM.
+ * The existing file is read with a StAX stream reader, and everything except the
+ * old generated elements is copied through exactly as it was written - formatting,
+ * comments, attribute order, and entity references are preserved. The new generated
+ * elements are copied from the rendered file and inserted after the root element
+ * start tag, as the {@link XmlFileMergerJaxp DOM based merger} does.
+ *
+ * <p>StAX implementations do not report exact source positions, so the positions of
+ * tags are found by a simple markup scanner that is kept in step with the reader.
+ */
+public class XmlFileMergerStax {
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Utility class - no instances allowed.
+     */
+    private XmlFileMergerStax() {
+        super();
+    }
+
+    public static String getMergedSource(GeneratedXmlFile generatedXmlFile,
+            File existingFile) throws ShellException {
+        try {
+            String existingSource = new String(Files.readAllBytes(existingFile.toPath()),
+                    StandardCharsets.UTF_8);
+            return getMergedSource(generatedXmlFile.getFormattedContent(), existingSource,
+                    existingFile.getName());
+        } catch (IOException e) {
+            throw new ShellException(getString("Warning.13", //$NON-NLS-1$
+                    existingFile.getName()), e);
+        }
+    }
+
+    public static String getMergedSource(String newSource, String existingSource,
+            String existingFileName) throws ShellException {
+        try {
+            return merge(newSource, existingSource, existingFileName);
+        } catch (XMLStreamException e) {
+            throw new ShellException(getString("Warning.13", //$NON-NLS-1$
+                    existingFileName), e);
+        }
+    }
+
+    private static String merge(String newSource, String existingSource, String existingFileName)
+            throws XMLStreamException, ShellException {
+        // locate the root element start tag and the generated elements in the new file
+        MarkupScanner newScanner = new MarkupScanner(newSource);
+        Tag newRootTag = newScanner.nextTag();
+        Tag tag = newRootTag;
+        Tag lastTag = newRootTag;
+        while (tag != null) {
+            lastTag = tag;
+            tag = newScanner.nextTag();
+        }
+        if (newRootTag == null || newRootTag.endTag
+                || !newRootTag.emptyElement && !(lastTag.endTag && lastTag.name.equals(newRootTag.name))) {
+            throw new ShellException(getString("Warning.13", existingFileName)); //$NON-NLS-1$
+        }
+
+        int newContentEnd = newRootTag.emptyElement ? newRootTag.end
+                : trimWhiteSpace(newSource, lastTag.previousMarkupEnd, lastTag.start);
+
+        StringBuilder sb = new StringBuilder(existingSource.length() + newSource.length());
+        MarkupScanner scanner = new MarkupScanner(existingSource);
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(existingSource));
+        try {
+            int depth = 0;
+            int copiedTo = 0;
+            Tag startTag = null;
+            Tag childStartTag = null;
+            // the start of the old generated element, including the white space before it
+            int generatedStart = -1;
+            boolean checkingFirstChild = false;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    startTag = nextTag(scanner, reader, false, existingFileName);
+                    if (depth == 1) {
+                        if (!reader.getLocalName().equals(newRootTag.name)) {
+                            throw new ShellException(getString("Warning.12", //$NON-NLS-1$
+                                    existingFileName));
+                        }
+
+                        // replace the root start tag, then add the new generated elements
+                        sb.append(existingSource, 0, startTag.start);
+                        sb.append(newSource, newRootTag.start, newRootTag.end);
+                        sb.append(newSource, newRootTag.end, newContentEnd);
+                        copiedTo = startTag.end;
+                        if (startTag.emptyElement && !newRootTag.emptyElement) {
+                            sb.append("</").append(newRootTag.name).append('>'); //$NON-NLS-1$
+                        }
+                    } else if (depth == 2) {
+                        childStartTag = startTag;
+                        if (isGeneratedId(reader.getAttributeValue(null, "id"))) { //$NON-NLS-1$
+                            generatedStart = trimWhiteSpace(existingSource, startTag.previousMarkupEnd,
+                                    startTag.start);
+                        } else {
+                            checkingFirstChild = true;
+                        }
+                    } else {
+                        checkingFirstChild = false;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    Tag endTag = startTag != null && startTag.emptyElement ? startTag
+                            : nextTag(scanner, reader, true, existingFileName);
+                    startTag = null;
+                    checkingFirstChild = false;
+                    if (depth == 2 && generatedStart != -1) {
+                        // remove the old generated element
+                        sb.append(existingSource, copiedTo, generatedStart);
+                        copiedTo = endTag.end;
+                        generatedStart = -1;
+                    }
+                    depth--;
+                } else if (checkingFirstChild) {
+                    // an element is generated if its first non white space child is
+                    // a comment containing one of the generated element tags
+                    if (event == XMLStreamConstants.COMMENT) {
+                        if (isGeneratedComment(reader.getText())) {
+                            generatedStart = trimWhiteSpace(existingSource,
+                                    childStartTag.previousMarkupEnd, childStartTag.start);
+                        }
+                        checkingFirstChild = false;
+                    } else if (event != XMLStreamConstants.CHARACTERS && event != XMLStreamConstants.SPACE
+                            || reader.getText().trim().length() > 0) {
+                        checkingFirstChild = false;
+                    }
+                }
+            }
+
+            sb.append(existingSource, copiedTo, existingSource.length());
+        } finally {
+            reader.close();
+        }
+
+        return sb.toString();
+    }
+
+    private static Tag nextTag(MarkupScanner scanner, XMLStreamReader reader, boolean endTag,
+            String existingFileName) throws ShellException {
+        Tag tag = scanner.nextTag();
+        String prefix = reader.getPrefix();
+        String name = prefix == null || prefix.isEmpty() ? reader.getLocalName()
+                : prefix + ':' + reader.getLocalName();
+        if (tag == null || tag.endTag != endTag || !tag.name.equals(name)) {
+            // the scanner and the reader disagree - should not happen for well formed XML
+            throw new ShellException(getString("Warning.13", existingFileName)); //$NON-NLS-1$
+        }
+        return tag;
+    }
+
+    /**
+     * Returns the start of the white space before an element, if the element is
+     * preceded by nothing but white space since the previous markup.
+     */
+    private static int trimWhiteSpace(String source, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) > ' ') {
+                return to;
+            }
+        }
+        return from;
+    }
+
+    private static boolean isGeneratedId(String id) {
+        if (id != null) {
+            for (String prefix : MergeConstants.OLD_XML_ELEMENT_PREFIXES) {
+                if (id.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGeneratedComment(String commentData) {
+        for (String tag : MergeConstants.OLD_ELEMENT_TAGS) {
+            if (commentData.contains(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // the DTD is not needed for the merge, and reading it can cause problems on
+        // systems that aren't Internet connected
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, Boolean.FALSE);
+        factory.setXMLResolver((publicId, systemId, baseUri, namespace) ->
+                new ByteArrayInputStream(new byte[0]));
+        return factory;
+    }
+
+    /**
+     * The position of a start, end, or empty element tag in the source.
+     */
+    private static class Tag {
+        private final String name;
+        private final boolean endTag;
+        private final boolean emptyElement;
+        private final int start;
+        private final int end;
+        // the end of the markup (tag, comment, CDATA section, ...) before this tag
+        private final int previousMarkupEnd;
+
+        Tag(String name, boolean endTag, boolean emptyElement, int start, int end, int previousMarkupEnd) {
+            this.name = name;
+            this.endTag = endTag;
+            this.emptyElement = emptyElement;
+            this.start = start;
+            this.end = end;
+            this.previousMarkupEnd = previousMarkupEnd;
+        }
+    }
+
+    /**
+     * Finds the tags in an XML source. Comments, CDATA sections, processing instructions,
+     * and the document type declaration are skipped. The source is assumed to be well
+     * formed - it is checked by the stream reader.
+     */
+    private static class MarkupScanner {
+        private final String source;
+        private int position;
+        private int previousMarkupEnd;
+
+        MarkupScanner(String source) {
+            this.source = source;
+        }
+
+        Tag nextTag() {
+            while (true) {
+                int start = source.indexOf('<', position);
+                if (start == -1) {
+                    return null;
+                }
+
+                if (source.startsWith("<!--", start)) { //$NON-NLS-1$
+                    skipTo("-->", start + 4); //$NON-NLS-1$
+                } else if (source.startsWith("<![CDATA[", start)) { //$NON-NLS-1$
+                    skipTo("]]>", start + 9); //$NON-NLS-1$
+                } else if (source.startsWith("<?", start)) { //$NON-NLS-1$
+                    skipTo("?>", start + 2); //$NON-NLS-1$
+                } else if (source.startsWith("<!", start)) { //$NON-NLS-1$
+                    skipDeclaration(start + 2);
+                } else {
+                    return readTag(start);
+                }
+            }
+        }
+
+        private void skipTo(String terminator, int from) {
+            int index = source.indexOf(terminator, from);
+            position = index == -1 ? source.length() : index + terminator.length();
+            previousMarkupEnd = position;
+        }
+
+        private void skipDeclaration(int from) {
+            // the document type declaration may have an internal subset in brackets
+            int brackets = 0;
+            char quote = 0;
+            int i = from;
+            while (i < source.length()) {
+                char c = source.charAt(i++);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (c == '[') {
+                    brackets++;
+                } else if (c == ']') {
+                    brackets--;
+                } else if (c == '>' && brackets == 0) {
+                    break;
+                }
+            }
+            position = i;
+            previousMarkupEnd = position;
+        }
+
+        private Tag readTag(int start) {
+            boolean endTag = start + 1 < source.length() && source.charAt(start + 1) == '/';
+            int nameStart = endTag ? start + 2 : start + 1;
+            int i = nameStart;
+            while (i < source.length() && !isNameEnd(source.charAt(i))) {
+                i++;
+            }
+            String name = source.substring(nameStart, i);
+
+            char quote = 0;
+            while (i < source.length()) {
+                char c = source.charAt(i++);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (c == '>') {
+                    break;
+                }
+            }
+
+            Tag tag = new Tag(name, endTag, !endTag && source.charAt(i - 2) == '/', start, i,
+                    previousMarkupEnd);
+            position = i;
+            previousMarkupEnd = i;
+            return tag;
+        }
+
+        private static boolean isNameEnd(char c) {
+            return c == '>' || c == '/' || Character.isWhitespace(c);
+        }
+    }
+}
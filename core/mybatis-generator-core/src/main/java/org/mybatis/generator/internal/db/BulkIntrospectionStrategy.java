@@ -0,0 +1,323 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.mybatis.generator.api.ActualTableName;
+import org.mybatis.generator.api.ColumnMetadata;
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.IntrospectionStrategy;
+import org.mybatis.generator.api.TableMetadata;
+import org.mybatis.generator.config.Context;
+
+/**
+ * This strategy is used for bulk introspection. Instead of asking the database for
+ * the columns, primary key, and remarks of every table, it asks once for all
+ * tables in a catalog/schema with wildcard metadata calls and then partitions the
+ * results by table in memory. Results are kept for the life of the strategy (a
+ * single introspection of a context) so that every table configuration in the
+ * same schema is answered from the cache.
+ *
+ * <p>Primary keys and table information are requested with a <code>null</code>
+ * table name, which some drivers do not support. If a bulk request fails (or
+ * returns nothing at all), this strategy falls back to per-table requests for
+ * that schema.
+ *
+ * <p>Subclasses can read the schema information from another source by
+ * overriding the load methods.
+ *
+ * <p>This class is thread safe.
+ */
+public class BulkIntrospectionStrategy implements IntrospectionStrategy {
+
+    private final IntrospectionStrategy fallbackStrategy = new DefaultIntrospectionStrategy();
+    private final Map<List<String>, SchemaColumns> columns = new HashMap<>();
+    private final Map<List<String>, Map<ActualTableName, List<String>>> primaryKeys = new HashMap<>();
+    private final Map<List<String>, Map<ActualTableName, TableMetadata>> tables = new HashMap<>();
+    private String searchStringEscape;
+
+    protected Context context;
+
+    public BulkIntrospectionStrategy() {
+        super();
+    }
+
+    @Override
+    public void setContext(Context context) {
+        this.context = context;
+    }
+
+    @Override
+    public synchronized List<ColumnMetadata> getColumns(DatabaseMetaData databaseMetaData,
+            String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
+        List<String> key = Arrays.asList(catalog, schemaPattern);
+        SchemaColumns schemaColumns = columns.get(key);
+        if (schemaColumns == null) {
+            schemaColumns = new SchemaColumns();
+            loadColumns(databaseMetaData, catalog, schemaPattern, schemaColumns::add);
+            columns.put(key, schemaColumns);
+        }
+
+        if (searchStringEscape == null) {
+            searchStringEscape = databaseMetaData.getSearchStringEscape();
+        }
+
+        return schemaColumns.getMatchingColumns(tableNamePattern, searchStringEscape);
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumns(DatabaseMetaData databaseMetaData,
+            FullyQualifiedTable table, ActualTableName actualTableName) throws SQLException {
+        Map<ActualTableName, List<String>> schemaKeys;
+        synchronized (this) {
+            List<String> key = Arrays.asList(actualTableName.getCatalog(), actualTableName.getSchema());
+            if (!primaryKeys.containsKey(key)) {
+                primaryKeys.put(key, loadPrimaryKeysOrNull(databaseMetaData,
+                        actualTableName.getCatalog(), actualTableName.getSchema()));
+            }
+            schemaKeys = primaryKeys.get(key);
+        }
+
+        if (schemaKeys == null) {
+            return fallbackStrategy.getPrimaryKeyColumns(databaseMetaData, table, actualTableName);
+        }
+
+        List<String> answer = schemaKeys.get(actualTableName);
+        return answer == null ? Collections.emptyList() : answer;
+    }
+
+    private Map<ActualTableName, List<String>> loadPrimaryKeysOrNull(DatabaseMetaData databaseMetaData,
+            String catalog, String schema) {
+        Map<ActualTableName, List<String>> answer;
+        try {
+            answer = loadPrimaryKeys(databaseMetaData, catalog, schema);
+        } catch (SQLException e) {
+            return null;
+        }
+
+        // the driver may have ignored the null table name - ask for each table
+        return answer.isEmpty() ? null : answer;
+    }
+
+    @Override
+    public TableMetadata getTableMetadata(DatabaseMetaData databaseMetaData,
+            FullyQualifiedTable table, ActualTableName actualTableName) throws SQLException {
+        Map<ActualTableName, TableMetadata> schemaTables;
+        synchronized (this) {
+            List<String> key = Arrays.asList(actualTableName.getCatalog(), actualTableName.getSchema());
+            if (!tables.containsKey(key)) {
+                tables.put(key, loadTablesOrNull(databaseMetaData,
+                        actualTableName.getCatalog(), actualTableName.getSchema()));
+            }
+            schemaTables = tables.get(key);
+        }
+
+        TableMetadata answer = schemaTables == null ? null : schemaTables.get(actualTableName);
+        if (answer == null) {
+            answer = fallbackStrategy.getTableMetadata(databaseMetaData, table, actualTableName);
+        }
+
+        return answer;
+    }
+
+    private Map<ActualTableName, TableMetadata> loadTablesOrNull(DatabaseMetaData databaseMetaData,
+            String catalog, String schema) {
+        Map<ActualTableName, TableMetadata> answer;
+        try {
+            answer = loadTables(databaseMetaData, catalog, schema);
+        } catch (SQLException e) {
+            return null;
+        }
+
+        return answer.isEmpty() ? null : answer;
+    }
+
+    /**
+     * Reads the columns of all tables in a catalog/schema, in the order
+     * specified by DatabaseMetaData.getColumns.
+     *
+     * @param databaseMetaData
+     *            the database metadata
+     * @param catalog
+     *            the catalog as it would be passed to DatabaseMetaData.getColumns
+     * @param schemaPattern
+     *            the schema pattern as it would be passed to DatabaseMetaData.getColumns
+     * @param consumer
+     *            called for each column
+     * @throws SQLException
+     *             if the columns cannot be read
+     */
+    protected void loadColumns(DatabaseMetaData databaseMetaData, String catalog, String schemaPattern,
+            Consumer<ColumnMetadata> consumer) throws SQLException {
+        try (ResultSet rs = databaseMetaData.getColumns(catalog, schemaPattern, "%", "%")) { //$NON-NLS-1$ //$NON-NLS-2$
+            ColumnMetadata.readAll(rs, consumer);
+        }
+    }
+
+    /**
+     * Reads the primary keys of all tables in a catalog/schema.
+     *
+     * @param databaseMetaData
+     *            the database metadata
+     * @param catalog
+     *            the actual catalog of the tables
+     * @param schema
+     *            the actual schema of the tables
+     * @return the primary key columns of each table, in key sequence order
+     * @throws SQLException
+     *             if the primary keys cannot be read
+     */
+    protected Map<ActualTableName, List<String>> loadPrimaryKeys(DatabaseMetaData databaseMetaData,
+            String catalog, String schema) throws SQLException {
+        // keep primary columns in key sequence order
+        Map<ActualTableName, Map<Short, String>> keyColumns = new HashMap<>();
+        try (ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, null)) {
+            while (rs.next()) {
+                ActualTableName atn = new ActualTableName(
+                        rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                        rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                        rs.getString("TABLE_NAME")); //$NON-NLS-1$
+                keyColumns.computeIfAbsent(atn, k -> new TreeMap<>())
+                        .put(rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME")); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+
+        Map<ActualTableName, List<String>> answer = new HashMap<>();
+        for (Map.Entry<ActualTableName, Map<Short, String>> entry : keyColumns.entrySet()) {
+            answer.put(entry.getKey(), new ArrayList<>(entry.getValue().values()));
+        }
+
+        return answer;
+    }
+
+    /**
+     * Reads the remarks and type of all tables in a catalog/schema.
+     *
+     * @param databaseMetaData
+     *            the database metadata
+     * @param catalog
+     *            the actual catalog of the tables
+     * @param schema
+     *            the actual schema of the tables
+     * @return the information for each table
+     * @throws SQLException
+     *             if the tables cannot be read
+     */
+    protected Map<ActualTableName, TableMetadata> loadTables(DatabaseMetaData databaseMetaData,
+            String catalog, String schema) throws SQLException {
+        Map<ActualTableName, TableMetadata> answer = new HashMap<>();
+        try (ResultSet rs = databaseMetaData.getTables(catalog, schema, "%", null)) { //$NON-NLS-1$
+            while (rs.next()) {
+                ActualTableName atn = new ActualTableName(
+                        rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                        rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                        rs.getString("TABLE_NAME")); //$NON-NLS-1$
+                answer.putIfAbsent(atn, new TableMetadata(
+                        rs.getString("REMARKS"), //$NON-NLS-1$
+                        rs.getString("TABLE_TYPE"))); //$NON-NLS-1$
+            }
+        }
+
+        return answer;
+    }
+
+    /**
+     * Converts a metadata search pattern to a regular expression. "%" matches any
+     * sequence of characters, "_" matches any single character, and the search
+     * string escape makes the next character literal.
+     */
+    private static Pattern toRegex(String pattern, String escape) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            if (stringHasValue(escape) && pattern.startsWith(escape, i)
+                    && i + escape.length() < pattern.length()) {
+                i += escape.length();
+                sb.append(Pattern.quote(pattern.substring(i, i + 1)));
+            } else {
+                char c = pattern.charAt(i);
+                if (c == '%') {
+                    sb.append(".*"); //$NON-NLS-1$
+                } else if (c == '_') {
+                    sb.append('.');
+                } else {
+                    sb.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            i++;
+        }
+
+        return Pattern.compile(sb.toString(), Pattern.DOTALL);
+    }
+
+    private static boolean isLiteral(String pattern, String escape) {
+        return pattern.indexOf('%') == -1 && pattern.indexOf('_') == -1
+                && (!stringHasValue(escape) || !pattern.contains(escape));
+    }
+
+    /**
+     * The columns of all tables in a catalog/schema, indexed by table name.
+     */
+    private static class SchemaColumns {
+        private final Map<ActualTableName, List<ColumnMetadata>> columnsByTable = new LinkedHashMap<>();
+        private final Map<String, List<ActualTableName>> tablesByName = new HashMap<>();
+
+        void add(ColumnMetadata columnMetadata) {
+            ActualTableName atn = columnMetadata.getActualTableName();
+            List<ColumnMetadata> tableColumns = columnsByTable.get(atn);
+            if (tableColumns == null) {
+                tableColumns = new ArrayList<>();
+                columnsByTable.put(atn, tableColumns);
+                tablesByName.computeIfAbsent(atn.getTableName(), k -> new ArrayList<>()).add(atn);
+            }
+            tableColumns.add(columnMetadata);
+        }
+
+        List<ColumnMetadata> getMatchingColumns(String tableNamePattern, String escape) {
+            List<ColumnMetadata> answer = new ArrayList<>();
+            if (tableNamePattern != null && isLiteral(tableNamePattern, escape)) {
+                for (ActualTableName atn : tablesByName.getOrDefault(tableNamePattern,
+                        Collections.emptyList())) {
+                    answer.addAll(columnsByTable.get(atn));
+                }
+            } else {
+                Pattern regex = tableNamePattern == null ? null : toRegex(tableNamePattern, escape);
+                for (Map.Entry<ActualTableName, List<ColumnMetadata>> entry : columnsByTable.entrySet()) {
+                    if (regex == null || regex.matcher(entry.getKey().getTableName()).matches()) {
+                        answer.addAll(entry.getValue());
+                    }
+                }
+            }
+
+            return answer;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import org.mybatis.generator.api.ConnectionFactory;
+
+/**
+ * This class is for internal use only. It is a very small connection pool used
+ * for parallel introspection. Connections are opened lazily through a
+ * ConnectionFactory and are reused until the pool is closed. The number of
+ * connections that can be in use at the same time is bounded.
+ *
+ * <p>This is not a general purpose pool - there is no validation of idle
+ * connections and no timeout. Connections are only held for the duration of a
+ * single generator run.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private final ConnectionFactory connectionFactory;
+    private final Semaphore permits;
+    private final Object connectionFactoryLock = new Object();
+    private final Deque<Connection> idleConnections = new ArrayDeque<>();
+    private final List<Connection> allConnections = new ArrayList<>();
+    private int maxConnections;
+    private boolean closed;
+
+    public ConnectionPool(ConnectionFactory connectionFactory, int maxConnections) {
+        super();
+        this.connectionFactory = connectionFactory;
+        this.maxConnections = Math.max(1, maxConnections);
+        permits = new Semaphore(this.maxConnections, true);
+    }
+
+    /**
+     * Obtains a connection from the pool, waiting if the maximum number of
+     * connections are in use. The connection must be returned with
+     * {@link #release(Connection)}.
+     *
+     * @return a connection
+     * @throws SQLException
+     *             if a new connection cannot be opened
+     * @throws InterruptedException
+     *             if the thread is interrupted while waiting for a connection
+     */
+    public Connection acquire() throws SQLException, InterruptedException {
+        permits.acquire();
+        try {
+            Connection connection;
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("Connection pool is closed"); //$NON-NLS-1$
+                }
+                connection = idleConnections.pollFirst();
+            }
+
+            if (connection == null) {
+                // connection factories supplied by users are not required to be thread safe
+                synchronized (connectionFactoryLock) {
+                    connection = connectionFactory.getConnection();
+                }
+                synchronized (this) {
+                    if (closed) {
+                        // the pool was closed while the connection was opened
+                        closeConnection(connection);
+                        throw new IllegalStateException("Connection pool is closed"); //$NON-NLS-1$
+                    }
+                    allConnections.add(connection);
+                }
+            }
+
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a connection to the pool.
+     *
+     * @param connection
+     *            a connection obtained from {@link #acquire()}
+     */
+    public void release(Connection connection) {
+        synchronized (this) {
+            if (closed) {
+                closeConnection(connection);
+            } else {
+                idleConnections.addFirst(connection);
+            }
+        }
+        permits.release();
+    }
+
+    /**
+     * Raises the number of connections that may be in use at the same time.
+     * The limit is never lowered.
+     *
+     * @param connections
+     *            the requested limit
+     */
+    public synchronized void ensureCapacity(int connections) {
+        if (connections > maxConnections) {
+            permits.release(connections - maxConnections);
+            maxConnections = connections;
+        }
+    }
+
+    public synchronized int getMaxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        for (Connection connection : allConnections) {
+            closeConnection(connection);
+        }
+        allConnections.clear();
+        idleConnections.clear();
+    }
+
+    private static void closeConnection(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // ignore
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.mybatis.generator.api.ConnectionFactory;
+
+/**
+ * This class is for internal use only. It holds the connection pools used
+ * during a single generator run so that contexts connecting to the same
+ * database share connections. Pools are keyed by a hash of the connection
+ * configuration of the context (driver, URL, user, and so on).
+ *
+ * <p>All pools are closed when the registry is closed.
+ */
+public class ConnectionPoolRegistry implements AutoCloseable {
+
+    private final Map<Object, ConnectionPool> pools = new LinkedHashMap<>();
+
+    /**
+     * Returns the pool for the key, creating it if necessary. If the pool
+     * already exists, its capacity is raised to the requested number of
+     * connections.
+     *
+     * @param key
+     *            identifies the database connection
+     * @param connectionFactory
+     *            used to open connections if a new pool is created
+     * @param maxConnections
+     *            the number of connections that may be in use at the same time
+     * @return the pool
+     */
+    public synchronized ConnectionPool getPool(Object key, ConnectionFactory connectionFactory,
+            int maxConnections) {
+        ConnectionPool pool = pools.get(key);
+        if (pool == null) {
+            pool = new ConnectionPool(connectionFactory, maxConnections);
+            pools.put(key, pool);
+        } else {
+            pool.ensureCapacity(maxConnections);
+        }
+
+        return pool;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (ConnectionPool pool : pools.values()) {
+            pool.close();
+        }
+        pools.clear();
+    }
+}
@@ -25,8 +25,6 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -34,14 +32,17 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
-import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.mybatis.generator.api.ActualTableName;
+import org.mybatis.generator.api.ColumnMetadata;
 import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.IntrospectionStrategy;
 import org.mybatis.generator.api.JavaTypeResolver;
+import org.mybatis.generator.api.TableMetadata;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.api.dom.java.JavaReservedWords;
 import org.mybatis.generator.config.ColumnOverride;
@@ -49,6 +50,7 @@ import org.mybatis.generator.config.Context;
 import org.mybatis.generator.config.GeneratedKey;
 import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.GenerationEvents;
 import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.logging.Log;
 import org.mybatis.generator.logging.LogFactory;
@@ -68,58 +70,40 @@ public class DatabaseIntrospector {
 
     private Log logger;
 
+    private IntrospectionStrategy introspectionStrategy;
+
     public DatabaseIntrospector(Context context,
             DatabaseMetaData databaseMetaData,
             JavaTypeResolver javaTypeResolver, List<String> warnings) {
+        this(context, databaseMetaData, javaTypeResolver, warnings,
+                new DefaultIntrospectionStrategy());
+    }
+
+    public DatabaseIntrospector(Context context,
+            DatabaseMetaData databaseMetaData,
+            JavaTypeResolver javaTypeResolver, List<String> warnings,
+            IntrospectionStrategy introspectionStrategy) {
         super();
         this.context = context;
         this.databaseMetaData = databaseMetaData;
         this.javaTypeResolver = javaTypeResolver;
         this.warnings = warnings;
+        this.introspectionStrategy = introspectionStrategy;
         logger = LogFactory.getLog(getClass());
     }
 
-    private void calculatePrimaryKey(FullyQualifiedTable table,
+    private void calculatePrimaryKey(FullyQualifiedTable table, ActualTableName atn,
             IntrospectedTable introspectedTable) {
-        ResultSet rs = null;
-
+        List<String> keyColumns;
         try {
-            rs = databaseMetaData.getPrimaryKeys(
-                    table.getIntrospectedCatalog(), table
-                            .getIntrospectedSchema(), table
-                            .getIntrospectedTableName());
+            keyColumns = introspectionStrategy.getPrimaryKeyColumns(databaseMetaData, table, atn);
         } catch (SQLException e) {
-            closeResultSet(rs);
             warnings.add(getString("Warning.15")); //$NON-NLS-1$
             return;
         }
 
-        try {
-            // keep primary columns in key sequence order
-            Map<Short, String> keyColumns = new TreeMap<>();
-            while (rs.next()) {
-                String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
-                short keySeq = rs.getShort("KEY_SEQ"); //$NON-NLS-1$
-                keyColumns.put(keySeq, columnName);
-            }
-
-            for (String columnName : keyColumns.values()) {
-                introspectedTable.addPrimaryKeyColumn(columnName);
-            }
-        } catch (SQLException e) {
-            // ignore the primary key if there's any error
-        } finally {
-            closeResultSet(rs);
-        }
-    }
-
-    private void closeResultSet(ResultSet rs) {
-        if (rs != null) {
-            try {
-                rs.close();
-            } catch (SQLException e) {
-                // ignore
-            }
+        for (String columnName : keyColumns) {
+            introspectedTable.addPrimaryKeyColumn(columnName);
         }
     }
 
@@ -174,6 +158,13 @@ public class DatabaseIntrospector {
      */
     public List<IntrospectedTable> introspectTables(TableConfiguration tc)
             throws SQLException {
+        try (GenerationEvents.Event event = GenerationEvents.tableIntrospection(context.getId(), tc)) {
+            return introspectConfiguredTables(tc);
+        }
+    }
+
+    private List<IntrospectedTable> introspectConfiguredTables(TableConfiguration tc)
+            throws SQLException {
 
         // get the raw columns from the DB
         Map<ActualTableName, List<IntrospectedColumn>> columns = getColumns(tc);
@@ -504,50 +495,25 @@ public class DatabaseIntrospector {
             logger.debug(getString("Tracing.1", fullTableName)); //$NON-NLS-1$
         }
 
-        ResultSet rs = databaseMetaData.getColumns(localCatalog, localSchema,
-                localTableName, "%"); //$NON-NLS-1$
+        List<ColumnMetadata> columnMetadata = introspectionStrategy.getColumns(databaseMetaData,
+                localCatalog, localSchema, localTableName);
 
-        boolean supportsIsAutoIncrement = false;
-        boolean supportsIsGeneratedColumn = false;
-        ResultSetMetaData rsmd = rs.getMetaData();
-        int colCount = rsmd.getColumnCount();
-        for (int i = 1; i <= colCount; i++) {
-            if ("IS_AUTOINCREMENT".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
-                supportsIsAutoIncrement = true;
-            }
-            if ("IS_GENERATEDCOLUMN".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
-                supportsIsGeneratedColumn = true;
-            }
-        }
-
-        while (rs.next()) {
+        for (ColumnMetadata cm : columnMetadata) {
             IntrospectedColumn introspectedColumn = ObjectFactory
                     .createIntrospectedColumn(context);
 
             introspectedColumn.setTableAlias(tc.getAlias());
-            introspectedColumn.setJdbcType(rs.getInt("DATA_TYPE")); //$NON-NLS-1$
-            introspectedColumn.setLength(rs.getInt("COLUMN_SIZE")); //$NON-NLS-1$
-            introspectedColumn.setActualColumnName(rs.getString("COLUMN_NAME")); //$NON-NLS-1$
-            introspectedColumn
-                    .setNullable(rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable); //$NON-NLS-1$
-            introspectedColumn.setScale(rs.getInt("DECIMAL_DIGITS")); //$NON-NLS-1$
-            introspectedColumn.setRemarks(rs.getString("REMARKS")); //$NON-NLS-1$
-            introspectedColumn.setDefaultValue(rs.getString("COLUMN_DEF")); //$NON-NLS-1$
-
-            if (supportsIsAutoIncrement) {
-                introspectedColumn.setAutoIncrement(
-                        "YES".equals(rs.getString("IS_AUTOINCREMENT"))); //$NON-NLS-1$ //$NON-NLS-2$
-            }
-
-            if (supportsIsGeneratedColumn) {
-                introspectedColumn.setGeneratedColumn(
-                        "YES".equals(rs.getString("IS_GENERATEDCOLUMN"))); //$NON-NLS-1$ //$NON-NLS-2$
-            }
-
-            ActualTableName atn = new ActualTableName(
-                    rs.getString("TABLE_CAT"), //$NON-NLS-1$
-                    rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
-                    rs.getString("TABLE_NAME")); //$NON-NLS-1$
+            introspectedColumn.setJdbcType(cm.getJdbcType());
+            introspectedColumn.setLength(cm.getLength());
+            introspectedColumn.setActualColumnName(cm.getColumnName());
+            introspectedColumn.setNullable(cm.isNullable());
+            introspectedColumn.setScale(cm.getScale());
+            introspectedColumn.setRemarks(cm.getRemarks());
+            introspectedColumn.setDefaultValue(cm.getDefaultValue());
+            introspectedColumn.setAutoIncrement(cm.isAutoIncrement());
+            introspectedColumn.setGeneratedColumn(cm.isGeneratedColumn());
+
+            ActualTableName atn = cm.getActualTableName();
 
             List<IntrospectedColumn> columns = answer.get(atn);
             if (columns == null) {
@@ -566,8 +532,6 @@ public class DatabaseIntrospector {
             }
         }
 
-        closeResultSet(rs);
-
         if (answer.size() > 1
                 && !stringContainsSQLWildcard(localSchema)
                 && !stringContainsSQLWildcard(localTableName)) {
@@ -597,11 +561,6 @@ public class DatabaseIntrospector {
     private List<IntrospectedTable> calculateIntrospectedTables(
             TableConfiguration tc,
             Map<ActualTableName, List<IntrospectedColumn>> columns) {
-        boolean delimitIdentifiers = tc.isDelimitIdentifiers()
-                || stringContainsSpace(tc.getCatalog())
-                || stringContainsSpace(tc.getSchema())
-                || stringContainsSpace(tc.getTableName());
-
         List<IntrospectedTable> answer = new ArrayList<>();
 
         for (Map.Entry<ActualTableName, List<IntrospectedColumn>> entry : columns
@@ -615,19 +574,10 @@ public class DatabaseIntrospector {
             // table
             // configuration, then some sort of DB default is being returned
             // and we don't want that in our SQL
-            FullyQualifiedTable table = new FullyQualifiedTable(
+            FullyQualifiedTable table = createFullyQualifiedTable(tc,
                     stringHasValue(tc.getCatalog()) ? atn.getCatalog() : null,
                     stringHasValue(tc.getSchema()) ? atn.getSchema() : null,
-                    atn.getTableName(),
-                    tc.getDomainObjectName(),
-                    tc.getAlias(),
-                    isTrue(tc.getProperty(PropertyRegistry.TABLE_IGNORE_QUALIFIERS_AT_RUNTIME)),
-                    tc.getProperty(PropertyRegistry.TABLE_RUNTIME_CATALOG),
-                    tc.getProperty(PropertyRegistry.TABLE_RUNTIME_SCHEMA),
-                    tc.getProperty(PropertyRegistry.TABLE_RUNTIME_TABLE_NAME),
-                    delimitIdentifiers,
-                    tc.getDomainObjectRenamingRule(),
-                    context);
+                    atn.getTableName(), context);
 
             IntrospectedTable introspectedTable = ObjectFactory
                     .createIntrospectedTable(tc, table, context);
@@ -636,9 +586,9 @@ public class DatabaseIntrospector {
                 introspectedTable.addColumn(introspectedColumn);
             }
 
-            calculatePrimaryKey(table, introspectedTable);
+            calculatePrimaryKey(table, atn, introspectedTable);
 
-            enhanceIntrospectedTable(introspectedTable);
+            enhanceIntrospectedTable(atn, introspectedTable);
 
             answer.add(introspectedTable);
         }
@@ -646,27 +596,57 @@ public class DatabaseIntrospector {
         return answer;
     }
 
+    /**
+     * Creates the fully qualified table for a table returned from the database.
+     * Everything except the introspected names comes from the table configuration.
+     *
+     * @param tc the table configuration
+     * @param introspectedCatalog the catalog to use in generated SQL, or null
+     * @param introspectedSchema the schema to use in generated SQL, or null
+     * @param introspectedTableName the table name as returned from the database
+     * @param context the context
+     * @return the fully qualified table
+     */
+    static FullyQualifiedTable createFullyQualifiedTable(TableConfiguration tc,
+            String introspectedCatalog, String introspectedSchema,
+            String introspectedTableName, Context context) {
+        boolean delimitIdentifiers = tc.isDelimitIdentifiers()
+                || stringContainsSpace(tc.getCatalog())
+                || stringContainsSpace(tc.getSchema())
+                || stringContainsSpace(tc.getTableName());
+
+        return new FullyQualifiedTable(
+                introspectedCatalog,
+                introspectedSchema,
+                introspectedTableName,
+                tc.getDomainObjectName(),
+                tc.getAlias(),
+                isTrue(tc.getProperty(PropertyRegistry.TABLE_IGNORE_QUALIFIERS_AT_RUNTIME)),
+                tc.getProperty(PropertyRegistry.TABLE_RUNTIME_CATALOG),
+                tc.getProperty(PropertyRegistry.TABLE_RUNTIME_SCHEMA),
+                tc.getProperty(PropertyRegistry.TABLE_RUNTIME_TABLE_NAME),
+                delimitIdentifiers,
+                tc.getDomainObjectRenamingRule(),
+                context);
+    }
+
     /**
      * Calls database metadata to retrieve extra information about the table
      * such as remarks associated with the table and the type.
      *
      * <p>If there is any error, we just add a warning and continue.
      *
+     * @param atn the table as returned from getColumns
      * @param introspectedTable the introspected table to enhance
      */
-    private void enhanceIntrospectedTable(IntrospectedTable introspectedTable) {
+    private void enhanceIntrospectedTable(ActualTableName atn, IntrospectedTable introspectedTable) {
         try {
-            FullyQualifiedTable fqt = introspectedTable.getFullyQualifiedTable();
-
-            ResultSet rs = databaseMetaData.getTables(fqt.getIntrospectedCatalog(), fqt.getIntrospectedSchema(),
-                    fqt.getIntrospectedTableName(), null);
-            if (rs.next()) {
-                String remarks = rs.getString("REMARKS"); //$NON-NLS-1$
-                String tableType = rs.getString("TABLE_TYPE"); //$NON-NLS-1$
-                introspectedTable.setRemarks(remarks);
-                introspectedTable.setTableType(tableType);
+            TableMetadata tableMetadata = introspectionStrategy.getTableMetadata(databaseMetaData,
+                    introspectedTable.getFullyQualifiedTable(), atn);
+            if (tableMetadata != null) {
+                introspectedTable.setRemarks(tableMetadata.getRemarks());
+                introspectedTable.setTableType(tableMetadata.getTableType());
             }
-            closeResultSet(rs);
         } catch (SQLException e) {
             warnings.add(getString("Warning.27", e.getMessage())); //$NON-NLS-1$
         }
@@ -0,0 +1,98 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.mybatis.generator.api.ActualTableName;
+import org.mybatis.generator.api.ColumnMetadata;
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.IntrospectionStrategy;
+import org.mybatis.generator.api.TableMetadata;
+import org.mybatis.generator.config.Context;
+
+/**
+ * This strategy reads table information with {@link DatabaseMetaData}, one
+ * table at a time. Each table costs three metadata calls (columns, primary key,
+ * and table information). This class is stateless and thread safe.
+ */
+public class DefaultIntrospectionStrategy implements IntrospectionStrategy {
+
+    public DefaultIntrospectionStrategy() {
+        super();
+    }
+
+    @Override
+    public void setContext(Context context) {
+        // nothing to configure
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(DatabaseMetaData databaseMetaData, String catalog,
+            String schemaPattern, String tableNamePattern) throws SQLException {
+        List<ColumnMetadata> answer = new ArrayList<>();
+        try (ResultSet rs = databaseMetaData.getColumns(catalog, schemaPattern,
+                tableNamePattern, "%")) { //$NON-NLS-1$
+            ColumnMetadata.readAll(rs, answer::add);
+        }
+
+        return answer;
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumns(DatabaseMetaData databaseMetaData,
+            FullyQualifiedTable table, ActualTableName actualTableName) throws SQLException {
+        try (ResultSet rs = databaseMetaData.getPrimaryKeys(
+                table.getIntrospectedCatalog(), table.getIntrospectedSchema(),
+                table.getIntrospectedTableName())) {
+            // keep primary columns in key sequence order
+            Map<Short, String> keyColumns = new TreeMap<>();
+            try {
+                while (rs.next()) {
+                    String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
+                    short keySeq = rs.getShort("KEY_SEQ"); //$NON-NLS-1$
+                    keyColumns.put(keySeq, columnName);
+                }
+            } catch (SQLException e) {
+                // ignore the primary key if there's any error
+                keyColumns.clear();
+            }
+
+            return new ArrayList<>(keyColumns.values());
+        }
+    }
+
+    @Override
+    public TableMetadata getTableMetadata(DatabaseMetaData databaseMetaData,
+            FullyQualifiedTable table, ActualTableName actualTableName) throws SQLException {
+        try (ResultSet rs = databaseMetaData.getTables(table.getIntrospectedCatalog(),
+                table.getIntrospectedSchema(), table.getIntrospectedTableName(), null)) {
+            if (rs.next()) {
+                return new TableMetadata(
+                        rs.getString("REMARKS"), //$NON-NLS-1$
+                        rs.getString("TABLE_TYPE")); //$NON-NLS-1$
+            }
+        }
+
+        return null;
+    }
+}
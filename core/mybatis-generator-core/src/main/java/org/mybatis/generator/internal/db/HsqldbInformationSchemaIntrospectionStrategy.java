@@ -0,0 +1,43 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+/**
+ * An INFORMATION_SCHEMA strategy for HSQLDB. HSQLDB does not report remarks in the
+ * standard views, so this strategy reads them from the SYSTEM_COLUMNS and
+ * SYSTEM_TABLES views.
+ */
+public class HsqldbInformationSchemaIntrospectionStrategy extends InformationSchemaIntrospectionStrategy {
+
+    public HsqldbInformationSchemaIntrospectionStrategy() {
+        super();
+    }
+
+    @Override
+    protected String getRemarksSelectList() {
+        return ", sc.REMARKS as COLUMN_REMARKS, st.REMARKS as TABLE_REMARKS"; //$NON-NLS-1$
+    }
+
+    @Override
+    protected String getRemarksJoins() {
+        return " left outer join INFORMATION_SCHEMA.SYSTEM_COLUMNS sc" //$NON-NLS-1$
+                + " on sc.TABLE_CAT = c.TABLE_CATALOG and sc.TABLE_SCHEM = c.TABLE_SCHEMA" //$NON-NLS-1$
+                + " and sc.TABLE_NAME = c.TABLE_NAME and sc.COLUMN_NAME = c.COLUMN_NAME" //$NON-NLS-1$
+                + " left outer join INFORMATION_SCHEMA.SYSTEM_TABLES st" //$NON-NLS-1$
+                + " on st.TABLE_CAT = c.TABLE_CATALOG and st.TABLE_SCHEM = c.TABLE_SCHEMA" //$NON-NLS-1$
+                + " and st.TABLE_NAME = c.TABLE_NAME"; //$NON-NLS-1$
+    }
+}
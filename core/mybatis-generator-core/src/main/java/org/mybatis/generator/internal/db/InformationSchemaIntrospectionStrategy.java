@@ -0,0 +1,386 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringContainsSQLWildcard;
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.mybatis.generator.api.ActualTableName;
+import org.mybatis.generator.api.ColumnMetadata;
+import org.mybatis.generator.api.TableMetadata;
+
+/**
+ * This strategy reads table information directly from the standard
+ * INFORMATION_SCHEMA views (COLUMNS, TABLES, TABLE_CONSTRAINTS, and
+ * KEY_COLUMN_USAGE) with one SQL query for each catalog/schema, bypassing the
+ * driver's DatabaseMetaData implementation. It is useful with drivers whose
+ * metadata calls are slow. The query joins the views, so the primary keys and
+ * table information are collected while the columns are read.
+ *
+ * <p>The values read from INFORMATION_SCHEMA are converted to the values that
+ * DatabaseMetaData.getColumns would return: standard SQL type names are mapped to
+ * {@link Types} constants, and column sizes follow the JDBC rules (for example,
+ * the size of a datetime column is the length of its string representation). Type
+ * names that are not recognized are reported as {@link Types#OTHER}.
+ *
+ * <p>Column and table remarks are not part of the SQL standard. They are read from
+ * the COLUMN_COMMENT and TABLE_COMMENT columns if the database provides them.
+ * Subclasses can read them from other views - see {@link #getRemarksSelectList()}.
+ *
+ * <p>Databases that do not support schemas (like MySQL) report databases as
+ * catalogs through JDBC, but as schemas in INFORMATION_SCHEMA. This strategy
+ * reports them as catalogs so that the results match DatabaseMetaData.
+ */
+public class InformationSchemaIntrospectionStrategy extends BulkIntrospectionStrategy {
+
+    private static final String COLUMN_REMARKS = "COLUMN_REMARKS"; //$NON-NLS-1$
+    private static final String TABLE_REMARKS = "TABLE_REMARKS"; //$NON-NLS-1$
+
+    private static final Map<String, Integer> JDBC_TYPES = new HashMap<>();
+
+    static {
+        JDBC_TYPES.put("ARRAY", Types.ARRAY); //$NON-NLS-1$
+        JDBC_TYPES.put("BIGINT", Types.BIGINT); //$NON-NLS-1$
+        JDBC_TYPES.put("BINARY", Types.BINARY); //$NON-NLS-1$
+        JDBC_TYPES.put("BINARY LARGE OBJECT", Types.BLOB); //$NON-NLS-1$
+        JDBC_TYPES.put("BINARY VARYING", Types.VARBINARY); //$NON-NLS-1$
+        JDBC_TYPES.put("BIT", Types.BIT); //$NON-NLS-1$
+        JDBC_TYPES.put("BIT VARYING", Types.BIT); //$NON-NLS-1$
+        JDBC_TYPES.put("BLOB", Types.BLOB); //$NON-NLS-1$
+        JDBC_TYPES.put("BOOLEAN", Types.BOOLEAN); //$NON-NLS-1$
+        JDBC_TYPES.put("CHAR", Types.CHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("CHARACTER", Types.CHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("CHARACTER LARGE OBJECT", Types.CLOB); //$NON-NLS-1$
+        JDBC_TYPES.put("CHARACTER VARYING", Types.VARCHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("CLOB", Types.CLOB); //$NON-NLS-1$
+        JDBC_TYPES.put("DATE", Types.DATE); //$NON-NLS-1$
+        JDBC_TYPES.put("DATETIME", Types.TIMESTAMP); //$NON-NLS-1$
+        JDBC_TYPES.put("DEC", Types.DECIMAL); //$NON-NLS-1$
+        JDBC_TYPES.put("DECIMAL", Types.DECIMAL); //$NON-NLS-1$
+        JDBC_TYPES.put("DOUBLE", Types.DOUBLE); //$NON-NLS-1$
+        JDBC_TYPES.put("DOUBLE PRECISION", Types.DOUBLE); //$NON-NLS-1$
+        JDBC_TYPES.put("FLOAT", Types.FLOAT); //$NON-NLS-1$
+        JDBC_TYPES.put("INT", Types.INTEGER); //$NON-NLS-1$
+        JDBC_TYPES.put("INTEGER", Types.INTEGER); //$NON-NLS-1$
+        JDBC_TYPES.put("LONGTEXT", Types.LONGVARCHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("LONGVARBINARY", Types.LONGVARBINARY); //$NON-NLS-1$
+        JDBC_TYPES.put("LONGVARCHAR", Types.LONGVARCHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("NATIONAL CHARACTER", Types.NCHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("NATIONAL CHARACTER LARGE OBJECT", Types.NCLOB); //$NON-NLS-1$
+        JDBC_TYPES.put("NATIONAL CHARACTER VARYING", Types.NVARCHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("NCHAR", Types.NCHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("NCLOB", Types.NCLOB); //$NON-NLS-1$
+        JDBC_TYPES.put("NUMERIC", Types.NUMERIC); //$NON-NLS-1$
+        JDBC_TYPES.put("NVARCHAR", Types.NVARCHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("REAL", Types.REAL); //$NON-NLS-1$
+        JDBC_TYPES.put("SMALLINT", Types.SMALLINT); //$NON-NLS-1$
+        JDBC_TYPES.put("TEXT", Types.LONGVARCHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("TIME", Types.TIME); //$NON-NLS-1$
+        JDBC_TYPES.put("TIME WITH TIME ZONE", Types.TIME_WITH_TIMEZONE); //$NON-NLS-1$
+        JDBC_TYPES.put("TIME WITHOUT TIME ZONE", Types.TIME); //$NON-NLS-1$
+        JDBC_TYPES.put("TIMESTAMP", Types.TIMESTAMP); //$NON-NLS-1$
+        JDBC_TYPES.put("TIMESTAMP WITH TIME ZONE", Types.TIMESTAMP_WITH_TIMEZONE); //$NON-NLS-1$
+        JDBC_TYPES.put("TIMESTAMP WITHOUT TIME ZONE", Types.TIMESTAMP); //$NON-NLS-1$
+        JDBC_TYPES.put("TINYINT", Types.TINYINT); //$NON-NLS-1$
+        JDBC_TYPES.put("VARBINARY", Types.VARBINARY); //$NON-NLS-1$
+        JDBC_TYPES.put("VARCHAR", Types.VARCHAR); //$NON-NLS-1$
+        JDBC_TYPES.put("XML", Types.SQLXML); //$NON-NLS-1$
+    }
+
+    // filled by loadColumns - guarded by this
+    private final Map<ActualTableName, Map<Integer, String>> primaryKeys = new HashMap<>();
+    private final Map<ActualTableName, TableMetadata> tables = new HashMap<>();
+
+    public InformationSchemaIntrospectionStrategy() {
+        super();
+    }
+
+    @Override
+    protected void loadColumns(DatabaseMetaData databaseMetaData, String catalog,
+            String schemaPattern, Consumer<ColumnMetadata> consumer) throws SQLException {
+        boolean catalogsAreSchemas = catalogsAreSchemas(databaseMetaData);
+        StringBuilder sql = new StringBuilder();
+        sql.append("select c.*, t.*, pk.KEY_POSITION"); //$NON-NLS-1$
+        sql.append(getRemarksSelectList());
+        sql.append(" from INFORMATION_SCHEMA.COLUMNS c"); //$NON-NLS-1$
+        sql.append(" join INFORMATION_SCHEMA.TABLES t"); //$NON-NLS-1$
+        sql.append(" on t.TABLE_CATALOG = c.TABLE_CATALOG and t.TABLE_SCHEMA = c.TABLE_SCHEMA"); //$NON-NLS-1$
+        sql.append(" and t.TABLE_NAME = c.TABLE_NAME"); //$NON-NLS-1$
+        sql.append(" left outer join (select k.TABLE_CATALOG, k.TABLE_SCHEMA, k.TABLE_NAME, k.COLUMN_NAME,"); //$NON-NLS-1$
+        sql.append(" k.ORDINAL_POSITION as KEY_POSITION"); //$NON-NLS-1$
+        sql.append(" from INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc"); //$NON-NLS-1$
+        sql.append(" join INFORMATION_SCHEMA.KEY_COLUMN_USAGE k"); //$NON-NLS-1$
+        sql.append(" on k.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA and k.CONSTRAINT_NAME = tc.CONSTRAINT_NAME"); //$NON-NLS-1$
+        sql.append(" and k.TABLE_SCHEMA = tc.TABLE_SCHEMA and k.TABLE_NAME = tc.TABLE_NAME"); //$NON-NLS-1$
+        sql.append(" where tc.CONSTRAINT_TYPE = 'PRIMARY KEY') pk"); //$NON-NLS-1$
+        sql.append(" on pk.TABLE_CATALOG = c.TABLE_CATALOG and pk.TABLE_SCHEMA = c.TABLE_SCHEMA"); //$NON-NLS-1$
+        sql.append(" and pk.TABLE_NAME = c.TABLE_NAME and pk.COLUMN_NAME = c.COLUMN_NAME"); //$NON-NLS-1$
+        sql.append(getRemarksJoins());
+
+        List<String> parameters = new ArrayList<>();
+        appendSchemaConditions(sql, parameters, "c", catalog, schemaPattern, catalogsAreSchemas); //$NON-NLS-1$
+        sql.append(" order by c.TABLE_CATALOG, c.TABLE_SCHEMA, c.TABLE_NAME, c.ORDINAL_POSITION"); //$NON-NLS-1$
+
+        try (PreparedStatement ps = prepare(databaseMetaData, sql.toString(), parameters);
+                ResultSet rs = ps.executeQuery()) {
+            Set<String> labels = getColumnLabels(rs);
+            while (rs.next()) {
+                ActualTableName atn = getActualTableName(rs, catalogsAreSchemas);
+                String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
+                String dataType = rs.getString("DATA_TYPE"); //$NON-NLS-1$
+                int jdbcType = getJdbcType(dataType);
+                String extra = getString(rs, labels, "EXTRA"); //$NON-NLS-1$
+                extra = extra == null ? "" : extra.toLowerCase(Locale.ENGLISH); //$NON-NLS-1$
+
+                consumer.accept(new ColumnMetadata(
+                        atn,
+                        columnName,
+                        jdbcType,
+                        getColumnSize(rs, jdbcType),
+                        rs.getInt("NUMERIC_SCALE"), //$NON-NLS-1$
+                        "YES".equals(rs.getString("IS_NULLABLE")), //$NON-NLS-1$ //$NON-NLS-2$
+                        getRemarks(rs, labels, COLUMN_REMARKS, "COLUMN_COMMENT"), //$NON-NLS-1$
+                        rs.getString("COLUMN_DEFAULT"), //$NON-NLS-1$
+                        "YES".equals(getString(rs, labels, "IS_IDENTITY")) //$NON-NLS-1$ //$NON-NLS-2$
+                                || extra.contains("auto_increment"), //$NON-NLS-1$
+                        "ALWAYS".equals(getString(rs, labels, "IS_GENERATED")) //$NON-NLS-1$ //$NON-NLS-2$
+                                || extra.contains("generated"))); //$NON-NLS-1$
+
+                if (!tables.containsKey(atn)) {
+                    String tableType = rs.getString("TABLE_TYPE"); //$NON-NLS-1$
+                    if ("BASE TABLE".equals(tableType)) { //$NON-NLS-1$
+                        tableType = "TABLE"; //$NON-NLS-1$
+                    }
+                    tables.put(atn, new TableMetadata(
+                            getRemarks(rs, labels, TABLE_REMARKS, "TABLE_COMMENT"), tableType)); //$NON-NLS-1$
+                }
+
+                int keyPosition = rs.getInt("KEY_POSITION"); //$NON-NLS-1$
+                if (!rs.wasNull()) {
+                    primaryKeys.computeIfAbsent(atn, k -> new TreeMap<>()).put(keyPosition, columnName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the primary keys found by {@link #loadColumns}. Columns are always
+     * read before the primary key of a table is requested.
+     */
+    @Override
+    protected Map<ActualTableName, List<String>> loadPrimaryKeys(DatabaseMetaData databaseMetaData,
+            String catalog, String schema) throws SQLException {
+        Map<ActualTableName, List<String>> answer = new HashMap<>();
+        for (Map.Entry<ActualTableName, Map<Integer, String>> entry : primaryKeys.entrySet()) {
+            if (isInSchema(entry.getKey(), catalog, schema)) {
+                answer.put(entry.getKey(), new ArrayList<>(entry.getValue().values()));
+            }
+        }
+
+        return answer;
+    }
+
+    /**
+     * Returns the table information found by {@link #loadColumns}. Columns are always
+     * read before the information of a table is requested.
+     */
+    @Override
+    protected Map<ActualTableName, TableMetadata> loadTables(DatabaseMetaData databaseMetaData,
+            String catalog, String schema) throws SQLException {
+        Map<ActualTableName, TableMetadata> answer = new HashMap<>();
+        for (Map.Entry<ActualTableName, TableMetadata> entry : tables.entrySet()) {
+            if (isInSchema(entry.getKey(), catalog, schema)) {
+                answer.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return answer;
+    }
+
+    /**
+     * Returns additional entries for the select list of the columns query. Column
+     * and table remarks are not part of the SQL standard - subclasses for databases
+     * that keep remarks outside of the COLUMNS and TABLES views can override this
+     * method and {@link #getRemarksJoins()} to read them. The remarks must be
+     * labeled COLUMN_REMARKS and TABLE_REMARKS.
+     *
+     * <p>In the query, the COLUMNS view has the alias "c" and the TABLES view has
+     * the alias "t".
+     *
+     * @return the select list entries, each starting with a comma. The default
+     *     implementation returns an empty string
+     */
+    protected String getRemarksSelectList() {
+        return ""; //$NON-NLS-1$
+    }
+
+    /**
+     * Returns additional joins for the columns query that make the entries returned
+     * from {@link #getRemarksSelectList()} available.
+     *
+     * @return the joins, each starting with a space. The default implementation
+     *     returns an empty string
+     */
+    protected String getRemarksJoins() {
+        return ""; //$NON-NLS-1$
+    }
+
+    private boolean isInSchema(ActualTableName atn, String catalog, String schema) {
+        return Objects.equals(atn.getCatalog(), catalog) && Objects.equals(atn.getSchema(), schema);
+    }
+
+    private void appendSchemaConditions(StringBuilder sql, List<String> parameters, String alias,
+            String catalog, String schemaPattern, boolean catalogsAreSchemas) {
+        List<String> conditions = new ArrayList<>();
+        if (stringHasValue(catalog)) {
+            conditions.add(alias + (catalogsAreSchemas ? ".TABLE_SCHEMA = ?" : ".TABLE_CATALOG = ?")); //$NON-NLS-1$ //$NON-NLS-2$
+            parameters.add(catalog);
+        }
+
+        if (!catalogsAreSchemas && schemaPattern != null) {
+            if (stringContainsSQLWildcard(schemaPattern)) {
+                conditions.add(alias + ".TABLE_SCHEMA like ?"); //$NON-NLS-1$
+            } else {
+                conditions.add(alias + ".TABLE_SCHEMA = ?"); //$NON-NLS-1$
+            }
+            parameters.add(schemaPattern);
+        }
+
+        boolean first = sql.indexOf(" where ") == -1; //$NON-NLS-1$
+        for (String condition : conditions) {
+            sql.append(first ? " where " : " and "); //$NON-NLS-1$ //$NON-NLS-2$
+            sql.append(condition);
+            first = false;
+        }
+    }
+
+    private PreparedStatement prepare(DatabaseMetaData databaseMetaData, String sql,
+            List<String> parameters) throws SQLException {
+        PreparedStatement ps = databaseMetaData.getConnection().prepareStatement(sql);
+        try {
+            for (int i = 0; i < parameters.size(); i++) {
+                ps.setString(i + 1, parameters.get(i));
+            }
+        } catch (SQLException e) {
+            ps.close();
+            throw e;
+        }
+
+        return ps;
+    }
+
+    private ActualTableName getActualTableName(ResultSet rs, boolean catalogsAreSchemas)
+            throws SQLException {
+        if (catalogsAreSchemas) {
+            return new ActualTableName(rs.getString("TABLE_SCHEMA"), null, //$NON-NLS-1$
+                    rs.getString("TABLE_NAME")); //$NON-NLS-1$
+        } else {
+            return new ActualTableName(rs.getString("TABLE_CATALOG"), //$NON-NLS-1$
+                    rs.getString("TABLE_SCHEMA"), //$NON-NLS-1$
+                    rs.getString("TABLE_NAME")); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Calculates the column size as DatabaseMetaData.getColumns would report it.
+     */
+    private int getColumnSize(ResultSet rs, int jdbcType) throws SQLException {
+        switch (jdbcType) {
+        case Types.DATE:
+            return 10; // yyyy-mm-dd
+        case Types.TIME:
+            return withFractionalSeconds(8, rs); // hh:mm:ss
+        case Types.TIME_WITH_TIMEZONE:
+            return withFractionalSeconds(14, rs); // hh:mm:ss+hh:mm
+        case Types.TIMESTAMP:
+            return withFractionalSeconds(19, rs); // yyyy-mm-dd hh:mm:ss
+        case Types.TIMESTAMP_WITH_TIMEZONE:
+            return withFractionalSeconds(25, rs); // yyyy-mm-dd hh:mm:ss+hh:mm
+        default:
+            int length = rs.getInt("CHARACTER_MAXIMUM_LENGTH"); //$NON-NLS-1$
+            if (rs.wasNull()) {
+                length = rs.getInt("NUMERIC_PRECISION"); //$NON-NLS-1$
+            }
+            return length;
+        }
+    }
+
+    private int withFractionalSeconds(int length, ResultSet rs) throws SQLException {
+        int precision = rs.getInt("DATETIME_PRECISION"); //$NON-NLS-1$
+        return precision > 0 ? length + precision + 1 : length;
+    }
+
+    private int getJdbcType(String dataType) {
+        if (dataType == null) {
+            return Types.OTHER;
+        }
+
+        String type = dataType.toUpperCase(Locale.ENGLISH);
+        if (type.endsWith(" ARRAY")) { //$NON-NLS-1$
+            return Types.ARRAY;
+        }
+
+        Integer answer = JDBC_TYPES.get(type);
+        return answer == null ? Types.OTHER : answer;
+    }
+
+    private String getRemarks(ResultSet rs, Set<String> labels, String remarksColumn,
+            String commentColumn) throws SQLException {
+        String answer = getString(rs, labels, remarksColumn);
+        if (answer == null) {
+            answer = getString(rs, labels, commentColumn);
+        }
+
+        return answer;
+    }
+
+    private String getString(ResultSet rs, Set<String> labels, String columnLabel)
+            throws SQLException {
+        return labels.contains(columnLabel) ? rs.getString(columnLabel) : null;
+    }
+
+    private Set<String> getColumnLabels(ResultSet rs) throws SQLException {
+        Set<String> answer = new HashSet<>();
+        ResultSetMetaData rsmd = rs.getMetaData();
+        for (int i = 1; i <= rsmd.getColumnCount(); i++) {
+            answer.add(rsmd.getColumnLabel(i).toUpperCase(Locale.ENGLISH));
+        }
+
+        return answer;
+    }
+
+    private boolean catalogsAreSchemas(DatabaseMetaData databaseMetaData) throws SQLException {
+        return !databaseMetaData.supportsSchemasInTableDefinitions()
+                && databaseMetaData.supportsCatalogsInTableDefinitions();
+    }
+}
@@ -0,0 +1,536 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.StringUtility.composeFullyQualifiedTableName;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.ObjectFactory;
+
+/**
+ * This class holds the result of introspecting the tables of a context so that
+ * a later run can generate code without connecting to the database.
+ *
+ * <p>For each table configuration the snapshot records the introspected tables
+ * (names, remarks, table type, primary key, and every column with its resolved
+ * Java type) and the warnings reported during introspection. Because column
+ * overrides, ignored columns, and type resolution are already applied, a snapshot
+ * must be recorded again if the table configuration or the Java type resolver
+ * changes.
+ *
+ * <p>The file format is a magic number and a version, followed by a table of
+ * the distinct strings in the snapshot, followed by the table configurations.
+ * Strings are written as references into the string table and integers as
+ * variable length quantities, so repeated names and small numbers take a
+ * single byte.
+ */
+public class IntrospectionSnapshot {
+
+    /** "MBGS". */
+    private static final int MAGIC = 0x4D424753;
+
+    public static final int VERSION = 1;
+
+    private static final int NULLABLE = 1;
+    private static final int IDENTITY = 1 << 1;
+    private static final int SEQUENCE_COLUMN = 1 << 2;
+    private static final int COLUMN_NAME_DELIMITED = 1 << 3;
+    private static final int AUTO_INCREMENT = 1 << 4;
+    private static final int GENERATED_COLUMN = 1 << 5;
+    private static final int GENERATED_ALWAYS = 1 << 6;
+
+    private final Map<String, TableConfigurationEntry> entries = new LinkedHashMap<>();
+
+    /**
+     * Records the result of introspecting a table configuration.
+     *
+     * @param tc the table configuration
+     * @param introspectedTables the tables returned from introspection. May be empty
+     *     if the table was not found
+     * @param warnings the warnings reported while introspecting the table configuration
+     */
+    public void addTableConfiguration(TableConfiguration tc,
+            List<IntrospectedTable> introspectedTables, List<String> warnings) {
+        TableConfigurationEntry entry = new TableConfigurationEntry();
+        for (IntrospectedTable introspectedTable : introspectedTables) {
+            entry.tables.add(TableRecord.of(introspectedTable));
+        }
+        entry.warnings.addAll(warnings);
+
+        entries.put(getKey(tc), entry);
+    }
+
+    public boolean contains(TableConfiguration tc) {
+        return entries.containsKey(getKey(tc));
+    }
+
+    /**
+     * Recreates the introspected tables recorded for a table configuration.
+     * The tables are built with the same implementation classes as a live
+     * introspection, so they may be generated normally.
+     *
+     * @param tc the table configuration
+     * @param context the context
+     * @return the introspected tables, or an empty list if the table configuration
+     *     is not in the snapshot
+     */
+    public List<IntrospectedTable> getIntrospectedTables(TableConfiguration tc, Context context) {
+        TableConfigurationEntry entry = entries.get(getKey(tc));
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+
+        List<IntrospectedTable> answer = new ArrayList<>();
+        for (TableRecord tableRecord : entry.tables) {
+            answer.add(tableRecord.toIntrospectedTable(tc, context));
+        }
+
+        return answer;
+    }
+
+    public List<String> getWarnings(TableConfiguration tc) {
+        TableConfigurationEntry entry = entries.get(getKey(tc));
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+
+        return Collections.unmodifiableList(entry.warnings);
+    }
+
+    private static String getKey(TableConfiguration tc) {
+        return composeFullyQualifiedTableName(tc.getCatalog(), tc.getSchema(),
+                tc.getTableName(), '.');
+    }
+
+    public void write(File file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    public void write(OutputStream out) throws IOException {
+        StringTable stringTable = new StringTable();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeEntries(new DataOutputStream(body), stringTable);
+
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.writeInt(MAGIC);
+        dos.writeShort(VERSION);
+        writeVarInt(dos, stringTable.strings.size());
+        for (String s : stringTable.strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(dos, bytes.length);
+            dos.write(bytes);
+        }
+        body.writeTo(dos);
+        dos.flush();
+    }
+
+    private void writeEntries(DataOutputStream dos, StringTable stringTable) throws IOException {
+        writeVarInt(dos, entries.size());
+        for (Map.Entry<String, TableConfigurationEntry> entry : entries.entrySet()) {
+            writeVarInt(dos, stringTable.ref(entry.getKey()));
+
+            List<String> warnings = entry.getValue().warnings;
+            writeVarInt(dos, warnings.size());
+            for (String warning : warnings) {
+                writeVarInt(dos, stringTable.ref(warning));
+            }
+
+            List<TableRecord> tables = entry.getValue().tables;
+            writeVarInt(dos, tables.size());
+            for (TableRecord tableRecord : tables) {
+                tableRecord.write(dos, stringTable);
+            }
+        }
+    }
+
+    public static IntrospectionSnapshot read(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return read(in, file.getPath());
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(OutputStream)}.
+     *
+     * @param in the stream to read
+     * @param sourceName the name of the stream, for error messages
+     * @return the snapshot
+     * @throws IOException if the stream cannot be read or is not a snapshot
+     *     of a supported version
+     */
+    public static IntrospectionSnapshot read(InputStream in, String sourceName) throws IOException {
+        DataInputStream dis = new DataInputStream(in);
+
+        if (dis.readInt() != MAGIC) {
+            throw new IOException(getString("RuntimeError.23", sourceName)); //$NON-NLS-1$
+        }
+
+        int version = dis.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException(getString("RuntimeError.24", //$NON-NLS-1$
+                    sourceName, Integer.toString(version)));
+        }
+
+        try {
+            return readEntries(dis);
+        } catch (IOException e) {
+            // truncated or corrupted file
+            throw new IOException(getString("RuntimeError.23", sourceName), e); //$NON-NLS-1$
+        }
+    }
+
+    private static IntrospectionSnapshot readEntries(DataInputStream dis) throws IOException {
+        int stringCount = readVarInt(dis);
+        // reference 0 is null
+        List<String> strings = new ArrayList<>(stringCount + 1);
+        strings.add(null);
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = new byte[readVarInt(dis)];
+            dis.readFully(bytes);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        IntrospectionSnapshot answer = new IntrospectionSnapshot();
+        int entryCount = readVarInt(dis);
+        for (int i = 0; i < entryCount; i++) {
+            String key = readString(dis, strings);
+            TableConfigurationEntry entry = new TableConfigurationEntry();
+
+            int warningCount = readVarInt(dis);
+            for (int j = 0; j < warningCount; j++) {
+                entry.warnings.add(readString(dis, strings));
+            }
+
+            int tableCount = readVarInt(dis);
+            for (int j = 0; j < tableCount; j++) {
+                entry.tables.add(TableRecord.read(dis, strings));
+            }
+
+            answer.entries.put(key, entry);
+        }
+
+        return answer;
+    }
+
+    private static void writeVarInt(DataOutputStream dos, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            dos.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        dos.writeByte(remaining);
+    }
+
+    private static int readVarInt(DataInputStream dis) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = dis.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException();
+    }
+
+    /**
+     * Writes a value that may be negative (JDBC type codes) using zig-zag
+     * encoding so that small negative values are also short.
+     */
+    private static void writeSignedVarInt(DataOutputStream dos, int value) throws IOException {
+        writeVarInt(dos, (value << 1) ^ (value >> 31));
+    }
+
+    private static int readSignedVarInt(DataInputStream dis) throws IOException {
+        int value = readVarInt(dis);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static String readString(DataInputStream dis, List<String> strings) throws IOException {
+        int ref = readVarInt(dis);
+        if (ref < 0 || ref >= strings.size()) {
+            throw new IOException();
+        }
+        return strings.get(ref);
+    }
+
+    /**
+     * Assigns each distinct string a reference number. Reference 0 is reserved for null.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> refs = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int ref(String s) {
+            if (s == null) {
+                return 0;
+            }
+
+            return refs.computeIfAbsent(s, k -> {
+                strings.add(k);
+                return strings.size();
+            });
+        }
+    }
+
+    private static class TableConfigurationEntry {
+        private final List<String> warnings = new ArrayList<>();
+        private final List<TableRecord> tables = new ArrayList<>();
+    }
+
+    private static class TableRecord {
+        private String introspectedCatalog;
+        private String introspectedSchema;
+        private String introspectedTableName;
+        private String remarks;
+        private String tableType;
+        private final List<String> primaryKeyColumns = new ArrayList<>();
+        private final List<ColumnRecord> columns = new ArrayList<>();
+
+        static TableRecord of(IntrospectedTable introspectedTable) {
+            TableRecord answer = new TableRecord();
+            FullyQualifiedTable table = introspectedTable.getFullyQualifiedTable();
+            answer.introspectedCatalog = table.getIntrospectedCatalog();
+            answer.introspectedSchema = table.getIntrospectedSchema();
+            answer.introspectedTableName = table.getIntrospectedTableName();
+            answer.remarks = introspectedTable.getRemarks();
+            answer.tableType = introspectedTable.getTableType();
+
+            // primary key columns are added to the table like any other column,
+            // then moved to the key - so the base and BLOB column order is preserved
+            for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
+                answer.columns.add(ColumnRecord.of(introspectedColumn));
+            }
+            for (IntrospectedColumn introspectedColumn : introspectedTable.getPrimaryKeyColumns()) {
+                answer.primaryKeyColumns.add(introspectedColumn.getActualColumnName());
+            }
+
+            return answer;
+        }
+
+        IntrospectedTable toIntrospectedTable(TableConfiguration tc, Context context) {
+            FullyQualifiedTable table = DatabaseIntrospector.createFullyQualifiedTable(tc,
+                    introspectedCatalog, introspectedSchema, introspectedTableName, context);
+
+            IntrospectedTable introspectedTable = ObjectFactory
+                    .createIntrospectedTable(tc, table, context);
+
+            for (ColumnRecord columnRecord : columns) {
+                introspectedTable.addColumn(columnRecord.toIntrospectedColumn(context));
+            }
+
+            for (String columnName : primaryKeyColumns) {
+                introspectedTable.addPrimaryKeyColumn(columnName);
+            }
+
+            introspectedTable.setRemarks(remarks);
+            introspectedTable.setTableType(tableType);
+
+            return introspectedTable;
+        }
+
+        void write(DataOutputStream dos, StringTable stringTable) throws IOException {
+            writeVarInt(dos, stringTable.ref(introspectedCatalog));
+            writeVarInt(dos, stringTable.ref(introspectedSchema));
+            writeVarInt(dos, stringTable.ref(introspectedTableName));
+            writeVarInt(dos, stringTable.ref(remarks));
+            writeVarInt(dos, stringTable.ref(tableType));
+
+            writeVarInt(dos, primaryKeyColumns.size());
+            for (String columnName : primaryKeyColumns) {
+                writeVarInt(dos, stringTable.ref(columnName));
+            }
+
+            writeVarInt(dos, columns.size());
+            for (ColumnRecord columnRecord : columns) {
+                columnRecord.write(dos, stringTable);
+            }
+        }
+
+        static TableRecord read(DataInputStream dis, List<String> strings) throws IOException {
+            TableRecord answer = new TableRecord();
+            answer.introspectedCatalog = readString(dis, strings);
+            answer.introspectedSchema = readString(dis, strings);
+            answer.introspectedTableName = readString(dis, strings);
+            answer.remarks = readString(dis, strings);
+            answer.tableType = readString(dis, strings);
+
+            int primaryKeyCount = readVarInt(dis);
+            for (int i = 0; i < primaryKeyCount; i++) {
+                answer.primaryKeyColumns.add(readString(dis, strings));
+            }
+
+            int columnCount = readVarInt(dis);
+            for (int i = 0; i < columnCount; i++) {
+                answer.columns.add(ColumnRecord.read(dis, strings));
+            }
+
+            return answer;
+        }
+    }
+
+    private static class ColumnRecord {
+        private String actualColumnName;
+        private int jdbcType;
+        private String jdbcTypeName;
+        private int length;
+        private int scale;
+        private int flags;
+        private String javaProperty;
+        private String fullyQualifiedJavaType;
+        private String tableAlias;
+        private String typeHandler;
+        private String remarks;
+        private String defaultValue;
+        private final Properties properties = new Properties();
+
+        static ColumnRecord of(IntrospectedColumn introspectedColumn) {
+            ColumnRecord answer = new ColumnRecord();
+            answer.actualColumnName = introspectedColumn.getActualColumnName();
+            answer.jdbcType = introspectedColumn.getJdbcType();
+            answer.jdbcTypeName = introspectedColumn.getJdbcTypeName();
+            answer.length = introspectedColumn.getLength();
+            answer.scale = introspectedColumn.getScale();
+            answer.javaProperty = introspectedColumn.getJavaProperty();
+            answer.fullyQualifiedJavaType = introspectedColumn.getFullyQualifiedJavaType() == null ? null
+                    : introspectedColumn.getFullyQualifiedJavaType().getFullyQualifiedName();
+            answer.tableAlias = introspectedColumn.getTableAlias();
+            answer.typeHandler = introspectedColumn.getTypeHandler();
+            answer.remarks = introspectedColumn.getRemarks();
+            answer.defaultValue = introspectedColumn.getDefaultValue();
+            answer.properties.putAll(introspectedColumn.getProperties());
+
+            answer.flags = (introspectedColumn.isNullable() ? NULLABLE : 0)
+                    | (introspectedColumn.isIdentity() ? IDENTITY : 0)
+                    | (introspectedColumn.isSequenceColumn() ? SEQUENCE_COLUMN : 0)
+                    | (introspectedColumn.isColumnNameDelimited() ? COLUMN_NAME_DELIMITED : 0)
+                    | (introspectedColumn.isAutoIncrement() ? AUTO_INCREMENT : 0)
+                    | (introspectedColumn.isGeneratedColumn() ? GENERATED_COLUMN : 0)
+                    | (introspectedColumn.isGeneratedAlways() ? GENERATED_ALWAYS : 0);
+
+            return answer;
+        }
+
+        IntrospectedColumn toIntrospectedColumn(Context context) {
+            IntrospectedColumn introspectedColumn = ObjectFactory.createIntrospectedColumn(context);
+            introspectedColumn.setActualColumnName(actualColumnName);
+            introspectedColumn.setJdbcType(jdbcType);
+            introspectedColumn.setJdbcTypeName(jdbcTypeName);
+            introspectedColumn.setLength(length);
+            introspectedColumn.setScale(scale);
+            introspectedColumn.setJavaProperty(javaProperty);
+            if (fullyQualifiedJavaType != null) {
+                introspectedColumn.setFullyQualifiedJavaType(
+                        new FullyQualifiedJavaType(fullyQualifiedJavaType));
+            }
+            introspectedColumn.setTableAlias(tableAlias);
+            introspectedColumn.setTypeHandler(typeHandler);
+            introspectedColumn.setRemarks(remarks);
+            introspectedColumn.setDefaultValue(defaultValue);
+            introspectedColumn.setProperties(properties);
+
+            introspectedColumn.setNullable((flags & NULLABLE) != 0);
+            introspectedColumn.setIdentity((flags & IDENTITY) != 0);
+            introspectedColumn.setSequenceColumn((flags & SEQUENCE_COLUMN) != 0);
+            introspectedColumn.setColumnNameDelimited((flags & COLUMN_NAME_DELIMITED) != 0);
+            introspectedColumn.setAutoIncrement((flags & AUTO_INCREMENT) != 0);
+            introspectedColumn.setGeneratedColumn((flags & GENERATED_COLUMN) != 0);
+            introspectedColumn.setGeneratedAlways((flags & GENERATED_ALWAYS) != 0);
+
+            return introspectedColumn;
+        }
+
+        void write(DataOutputStream dos, StringTable stringTable) throws IOException {
+            writeVarInt(dos, stringTable.ref(actualColumnName));
+            writeSignedVarInt(dos, jdbcType);
+            writeVarInt(dos, stringTable.ref(jdbcTypeName));
+            writeSignedVarInt(dos, length);
+            writeSignedVarInt(dos, scale);
+            dos.writeByte(flags);
+            writeVarInt(dos, stringTable.ref(javaProperty));
+            writeVarInt(dos, stringTable.ref(fullyQualifiedJavaType));
+            writeVarInt(dos, stringTable.ref(tableAlias));
+            writeVarInt(dos, stringTable.ref(typeHandler));
+            writeVarInt(dos, stringTable.ref(remarks));
+            writeVarInt(dos, stringTable.ref(defaultValue));
+
+            // sorted so that the same introspection always produces the same file
+            TreeSet<String> propertyNames = new TreeSet<>(properties.stringPropertyNames());
+            writeVarInt(dos, propertyNames.size());
+            for (String propertyName : propertyNames) {
+                writeVarInt(dos, stringTable.ref(propertyName));
+                writeVarInt(dos, stringTable.ref(properties.getProperty(propertyName)));
+            }
+        }
+
+        static ColumnRecord read(DataInputStream dis, List<String> strings) throws IOException {
+            ColumnRecord answer = new ColumnRecord();
+            answer.actualColumnName = readString(dis, strings);
+            answer.jdbcType = readSignedVarInt(dis);
+            answer.jdbcTypeName = readString(dis, strings);
+            answer.length = readSignedVarInt(dis);
+            answer.scale = readSignedVarInt(dis);
+            answer.flags = dis.readUnsignedByte();
+            answer.javaProperty = readString(dis, strings);
+            answer.fullyQualifiedJavaType = readString(dis, strings);
+            answer.tableAlias = readString(dis, strings);
+            answer.typeHandler = readString(dis, strings);
+            answer.remarks = readString(dis, strings);
+            answer.defaultValue = readString(dis, strings);
+
+            int propertyCount = readVarInt(dis);
+            for (int i = 0; i < propertyCount; i++) {
+                String name = readString(dis, strings);
+                String value = readString(dis, strings);
+                if (name != null && value != null) {
+                    answer.properties.setProperty(name, value);
+                }
+            }
+
+            return answer;
+        }
+    }
+}
@@ -57,79 +57,79 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
         typeMap = new HashMap<>();
 
         typeMap.put(Types.ARRAY, new JdbcTypeInformation("ARRAY", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Object.class.getName())));
         typeMap.put(Types.BIGINT, new JdbcTypeInformation("BIGINT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Long.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Long.class.getName())));
         typeMap.put(Types.BINARY, new JdbcTypeInformation("BINARY", //$NON-NLS-1$
-                new FullyQualifiedJavaType("byte[]"))); //$NON-NLS-1$
+                FullyQualifiedJavaType.getSharedInstance("byte[]"))); //$NON-NLS-1$
         typeMap.put(Types.BIT, new JdbcTypeInformation("BIT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Boolean.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Boolean.class.getName())));
         typeMap.put(Types.BLOB, new JdbcTypeInformation("BLOB", //$NON-NLS-1$
-                new FullyQualifiedJavaType("byte[]"))); //$NON-NLS-1$
+                FullyQualifiedJavaType.getSharedInstance("byte[]"))); //$NON-NLS-1$
         typeMap.put(Types.BOOLEAN, new JdbcTypeInformation("BOOLEAN", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Boolean.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Boolean.class.getName())));
         typeMap.put(Types.CHAR, new JdbcTypeInformation("CHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(String.class.getName())));
         typeMap.put(Types.CLOB, new JdbcTypeInformation("CLOB", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(String.class.getName())));
         typeMap.put(Types.DATALINK, new JdbcTypeInformation("DATALINK", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Object.class.getName())));
         typeMap.put(Types.DATE, new JdbcTypeInformation("DATE", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Date.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Date.class.getName())));
         typeMap.put(Types.DECIMAL, new JdbcTypeInformation("DECIMAL", //$NON-NLS-1$
-                new FullyQualifiedJavaType(BigDecimal.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(BigDecimal.class.getName())));
         typeMap.put(Types.DISTINCT, new JdbcTypeInformation("DISTINCT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Object.class.getName())));
         typeMap.put(Types.DOUBLE, new JdbcTypeInformation("DOUBLE", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Double.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Double.class.getName())));
         typeMap.put(Types.FLOAT, new JdbcTypeInformation("FLOAT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Double.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Double.class.getName())));
         typeMap.put(Types.INTEGER, new JdbcTypeInformation("INTEGER", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Integer.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Integer.class.getName())));
         typeMap.put(Types.JAVA_OBJECT, new JdbcTypeInformation("JAVA_OBJECT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Object.class.getName())));
         typeMap.put(Types.LONGNVARCHAR, new JdbcTypeInformation("LONGNVARCHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(String.class.getName())));
         typeMap.put(Types.LONGVARBINARY, new JdbcTypeInformation(
                 "LONGVARBINARY", //$NON-NLS-1$
-                new FullyQualifiedJavaType("byte[]"))); //$NON-NLS-1$
+                FullyQualifiedJavaType.getSharedInstance("byte[]"))); //$NON-NLS-1$
         typeMap.put(Types.LONGVARCHAR, new JdbcTypeInformation("LONGVARCHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(String.class.getName())));
         typeMap.put(Types.NCHAR, new JdbcTypeInformation("NCHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(String.class.getName())));
         typeMap.put(Types.NCLOB, new JdbcTypeInformation("NCLOB", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(String.class.getName())));
         typeMap.put(Types.NVARCHAR, new JdbcTypeInformation("NVARCHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(String.class.getName())));
         typeMap.put(Types.NULL, new JdbcTypeInformation("NULL", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Object.class.getName())));
         typeMap.put(Types.NUMERIC, new JdbcTypeInformation("NUMERIC", //$NON-NLS-1$
-                new FullyQualifiedJavaType(BigDecimal.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(BigDecimal.class.getName())));
         typeMap.put(Types.OTHER, new JdbcTypeInformation("OTHER", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Object.class.getName())));
         typeMap.put(Types.REAL, new JdbcTypeInformation("REAL", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Float.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Float.class.getName())));
         typeMap.put(Types.REF, new JdbcTypeInformation("REF", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Object.class.getName())));
         typeMap.put(Types.SMALLINT, new JdbcTypeInformation("SMALLINT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Short.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Short.class.getName())));
         typeMap.put(Types.STRUCT, new JdbcTypeInformation("STRUCT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Object.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Object.class.getName())));
         typeMap.put(Types.TIME, new JdbcTypeInformation("TIME", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Date.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Date.class.getName())));
         typeMap.put(Types.TIMESTAMP, new JdbcTypeInformation("TIMESTAMP", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Date.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Date.class.getName())));
         typeMap.put(Types.TINYINT, new JdbcTypeInformation("TINYINT", //$NON-NLS-1$
-                new FullyQualifiedJavaType(Byte.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(Byte.class.getName())));
         typeMap.put(Types.VARBINARY, new JdbcTypeInformation("VARBINARY", //$NON-NLS-1$
-                new FullyQualifiedJavaType("byte[]"))); //$NON-NLS-1$
+                FullyQualifiedJavaType.getSharedInstance("byte[]"))); //$NON-NLS-1$
         typeMap.put(Types.VARCHAR, new JdbcTypeInformation("VARCHAR", //$NON-NLS-1$
-                new FullyQualifiedJavaType(String.class.getName())));
+                FullyQualifiedJavaType.getSharedInstance(String.class.getName())));
         // JDK 1.8 types
         typeMap.put(TIME_WITH_TIMEZONE, new JdbcTypeInformation("TIME_WITH_TIMEZONE", //$NON-NLS-1$
-                new FullyQualifiedJavaType("java.time.OffsetTime"))); //$NON-NLS-1$
+                FullyQualifiedJavaType.getSharedInstance("java.time.OffsetTime"))); //$NON-NLS-1$
         typeMap.put(TIMESTAMP_WITH_TIMEZONE, new JdbcTypeInformation("TIMESTAMP_WITH_TIMEZONE", //$NON-NLS-1$
-                new FullyQualifiedJavaType("java.time.OffsetDateTime"))); //$NON-NLS-1$
+                FullyQualifiedJavaType.getSharedInstance("java.time.OffsetDateTime"))); //$NON-NLS-1$
     }
 
     @Override
@@ -189,7 +189,7 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
         FullyQualifiedJavaType answer;
         
         if (useJSR310Types) {
-            answer = new FullyQualifiedJavaType("java.time.LocalDate"); //$NON-NLS-1$
+            answer = FullyQualifiedJavaType.getSharedInstance("java.time.LocalDate"); //$NON-NLS-1$
         } else {
             answer = defaultType;
         }
@@ -201,7 +201,7 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
         FullyQualifiedJavaType answer;
         
         if (useJSR310Types) {
-            answer = new FullyQualifiedJavaType("java.time.LocalTime"); //$NON-NLS-1$
+            answer = FullyQualifiedJavaType.getSharedInstance("java.time.LocalTime"); //$NON-NLS-1$
         } else {
             answer = defaultType;
         }
@@ -213,7 +213,7 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
         FullyQualifiedJavaType answer;
         
         if (useJSR310Types) {
-            answer = new FullyQualifiedJavaType("java.time.LocalDateTime"); //$NON-NLS-1$
+            answer = FullyQualifiedJavaType.getSharedInstance("java.time.LocalDateTime"); //$NON-NLS-1$
         } else {
             answer = defaultType;
         }
@@ -225,7 +225,7 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
         FullyQualifiedJavaType answer;
 
         if (column.getLength() > 1) {
-            answer = new FullyQualifiedJavaType("byte[]"); //$NON-NLS-1$
+            answer = FullyQualifiedJavaType.getSharedInstance("byte[]"); //$NON-NLS-1$
         } else {
             answer = defaultType;
         }
@@ -239,11 +239,11 @@ public class JavaTypeResolverDefaultImpl implements JavaTypeResolver {
         if (column.getScale() > 0 || column.getLength() > 18 || forceBigDecimals) {
             answer = defaultType;
         } else if (column.getLength() > 9) {
-            answer = new FullyQualifiedJavaType(Long.class.getName());
+            answer = FullyQualifiedJavaType.getSharedInstance(Long.class.getName());
         } else if (column.getLength() > 4) {
-            answer = new FullyQualifiedJavaType(Integer.class.getName());
+            answer = FullyQualifiedJavaType.getSharedInstance(Integer.class.getName());
         } else {
-            answer = new FullyQualifiedJavaType(Short.class.getName());
+            answer = FullyQualifiedJavaType.getSharedInstance(Short.class.getName());
         }
 
         return answer;
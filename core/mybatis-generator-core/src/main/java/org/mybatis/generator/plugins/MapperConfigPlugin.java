@@ -21,7 +21,9 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.IntrospectedTable;
@@ -57,7 +59,12 @@ import org.mybatis.generator.codegen.XmlConstants;
  */
 public class MapperConfigPlugin extends PluginAdapter {
 
-    private List<String> mapperFiles = new ArrayList<>();
+    /**
+     * Mapper files keyed by table. When tables are generated in parallel this
+     * method is called concurrently, so the files are written out in the
+     * order of the introspected tables rather than the order of the calls.
+     */
+    private Map<IntrospectedTable, String> mapperFiles = Collections.synchronizedMap(new LinkedHashMap<>());
 
     @Override
     public boolean validate(List<String> warnings) {
@@ -115,7 +122,7 @@ public class MapperConfigPlugin extends PluginAdapter {
         root.addElement(mappers);
 
         XmlElement mapper;
-        for (String mapperFile : mapperFiles) {
+        for (String mapperFile : getMapperFilesInTableOrder()) {
             mapper = new XmlElement("mapper"); //$NON-NLS-1$
             mapper.addAttribute(new Attribute("resource", mapperFile)); //$NON-NLS-1$
             mappers.addElement(mapper);
@@ -147,8 +154,26 @@ public class MapperConfigPlugin extends PluginAdapter {
         sb.setLength(0);
         sb.append(temp.replace('.', '/'));
         sb.append(sqlMap.getFileName());
-        mapperFiles.add(sb.toString());
+        mapperFiles.put(introspectedTable, sb.toString());
 
         return true;
     }
+
+    private List<String> getMapperFilesInTableOrder() {
+        List<String> answer = new ArrayList<>();
+        synchronized (mapperFiles) {
+            Map<IntrospectedTable, String> remaining = new LinkedHashMap<>(mapperFiles);
+            for (IntrospectedTable introspectedTable : context.getIntrospectedTables()) {
+                String mapperFile = remaining.remove(introspectedTable);
+                if (mapperFile != null) {
+                    answer.add(mapperFile);
+                }
+            }
+
+            // any files for tables that were not introspected by the context
+            answer.addAll(remaining.values());
+        }
+
+        return answer;
+    }
 }
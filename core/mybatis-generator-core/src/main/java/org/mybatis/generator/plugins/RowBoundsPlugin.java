@@ -16,11 +16,11 @@
 package org.mybatis.generator.plugins;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.IntrospectedTable;
@@ -45,7 +45,8 @@ public class RowBoundsPlugin extends PluginAdapter {
 
     private FullyQualifiedJavaType rowBounds =
             new FullyQualifiedJavaType("org.apache.ibatis.session.RowBounds"); //$NON-NLS-1$
-    private Map<FullyQualifiedTable, List<XmlElement>> elementsToAdd = new HashMap<>();
+    // each list is only used by the thread generating its table (see Plugin)
+    private Map<FullyQualifiedTable, List<XmlElement>> elementsToAdd = new ConcurrentHashMap<>();
 
     @Override
     public boolean validate(List<String> warnings) {
@@ -108,6 +109,15 @@ public class RowBoundsPlugin extends PluginAdapter {
         return true;
     }
 
+    /**
+     * The copied elements are added to the document of the table, so they are
+     * not needed once the table is finished.
+     */
+    @Override
+    public void tableGenerationFinished(IntrospectedTable introspectedTable) {
+        elementsToAdd.remove(introspectedTable.getFullyQualifiedTable());
+    }
+
     @Override
     public boolean clientBasicSelectManyMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
@@ -233,11 +243,7 @@ public class RowBoundsPlugin extends PluginAdapter {
 
         // save the new element locally.   We'll add it to the document
         // later
-        List<XmlElement> elements = elementsToAdd.get(fqt);
-        if (elements == null) {
-            elements = new ArrayList<>();
-            elementsToAdd.put(fqt, elements);
-        }
+        List<XmlElement> elements = elementsToAdd.computeIfAbsent(fqt, k -> new ArrayList<>());
         elements.add(newElement);
     }
 }
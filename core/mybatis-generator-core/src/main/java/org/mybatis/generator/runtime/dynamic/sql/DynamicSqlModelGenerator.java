@@ -86,7 +86,7 @@ public class DynamicSqlModelGenerator extends AbstractJavaGenerator {
 
         String rootClass = getRootClass();
         for (IntrospectedColumn introspectedColumn : introspectedColumns) {
-            if (RootClassInfo.getInstance(rootClass, warnings)
+            if (RootClassInfo.getInstance(rootClass, warnings, context.getGenerationSession())
                     .containsProperty(introspectedColumn)) {
                 continue;
             }
@@ -0,0 +1,232 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.mybatis.generator.internal.util.StringUtility.composeFullyQualifiedTableName;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.GeneratedFile;
+import org.mybatis.generator.config.TableConfiguration;
+
+/**
+ * The Flight Recorder events behind {@link GenerationEvents}. This is the only class
+ * that refers to the <code>jdk.jfr</code> API. It is compiled for Java 11 into the
+ * versioned part of the multi-release jar, and {@link GenerationEvents} loads it
+ * reflectively if the API is present.
+ */
+final class FlightRecorderEvents implements GenerationEvents.EventFactory {
+
+    private static final String CATEGORY = "MyBatis Generator"; //$NON-NLS-1$
+
+    FlightRecorderEvents() {
+        super();
+    }
+
+    @Override
+    public GenerationEvents.Event contextIntrospection(String contextId) {
+        ContextIntrospectionEvent event = new ContextIntrospectionEvent();
+        if (event.isEnabled()) {
+            event.context = contextId;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public GenerationEvents.Event tableIntrospection(String contextId, TableConfiguration tableConfiguration) {
+        TableIntrospectionEvent event = new TableIntrospectionEvent();
+        if (event.isEnabled()) {
+            event.context = contextId;
+            event.table = composeFullyQualifiedTableName(tableConfiguration.getCatalog(),
+                    tableConfiguration.getSchema(), tableConfiguration.getTableName(), '.');
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public GenerationEvents.Event generatorCalculation(String contextId, FullyQualifiedTable table) {
+        GeneratorCalculationEvent event = new GeneratorCalculationEvent();
+        if (event.isEnabled()) {
+            event.context = contextId;
+            event.table = table.toString();
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public GenerationEvents.Event generator(String contextId, FullyQualifiedTable table, Object generator) {
+        GeneratorEvent event = new GeneratorEvent();
+        if (event.isEnabled()) {
+            event.context = contextId;
+            event.table = table.toString();
+            event.generator = generator.getClass().getName();
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public GenerationEvents.Event formatting(GeneratedFile file) {
+        FormattingEvent event = new FormattingEvent();
+        if (event.isEnabled()) {
+            event.file = getFileName(file);
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public GenerationEvents.Event merging(GeneratedFile file) {
+        MergingEvent event = new MergingEvent();
+        if (event.isEnabled()) {
+            event.file = getFileName(file);
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public GenerationEvents.Event writing(GeneratedFile file) {
+        WritingEvent event = new WritingEvent();
+        if (event.isEnabled()) {
+            event.file = getFileName(file);
+        }
+        event.begin();
+        return event;
+    }
+
+    private static String getFileName(GeneratedFile file) {
+        return file.getTargetPackage().replace('.', '/') + '/' + file.getFileName();
+    }
+
+    /**
+     * Base class of the events - closing an event commits it, which also ends it.
+     */
+    private abstract static class GeneratorEventBase extends jdk.jfr.Event implements GenerationEvents.Event {
+        @Override
+        public void close() {
+            commit();
+        }
+    }
+
+    @Name("org.mybatis.generator.ContextIntrospection") //$NON-NLS-1$
+    @Label("Context Introspection") //$NON-NLS-1$
+    @Description("Introspection of all tables of a context") //$NON-NLS-1$
+    @Category(CATEGORY)
+    private static class ContextIntrospectionEvent extends GeneratorEventBase {
+        @Label("Context") //$NON-NLS-1$
+        private String context;
+    }
+
+    @Name("org.mybatis.generator.TableIntrospection") //$NON-NLS-1$
+    @Label("Table Introspection") //$NON-NLS-1$
+    @Description("Introspection of the tables matching a table configuration") //$NON-NLS-1$
+    @Category(CATEGORY)
+    private static class TableIntrospectionEvent extends GeneratorEventBase {
+        @Label("Context") //$NON-NLS-1$
+        private String context;
+
+        @Label("Table") //$NON-NLS-1$
+        private String table;
+    }
+
+    @Name("org.mybatis.generator.GeneratorCalculation") //$NON-NLS-1$
+    @Label("Generator Calculation") //$NON-NLS-1$
+    @Description("Calculation of the generators of a table") //$NON-NLS-1$
+    @Category(CATEGORY)
+    private static class GeneratorCalculationEvent extends GeneratorEventBase {
+        @Label("Context") //$NON-NLS-1$
+        private String context;
+
+        @Label("Table") //$NON-NLS-1$
+        private String table;
+    }
+
+    @Name("org.mybatis.generator.Generator") //$NON-NLS-1$
+    @Label("Generator") //$NON-NLS-1$
+    @Description("Construction of the Java or XML DOM of a table by a generator") //$NON-NLS-1$
+    @Category(CATEGORY)
+    private static class GeneratorEvent extends GeneratorEventBase {
+        @Label("Context") //$NON-NLS-1$
+        private String context;
+
+        @Label("Table") //$NON-NLS-1$
+        private String table;
+
+        @Label("Generator") //$NON-NLS-1$
+        private String generator;
+    }
+
+    @Name("org.mybatis.generator.Formatting") //$NON-NLS-1$
+    @Label("Formatting") //$NON-NLS-1$
+    @Description("Formatting of a generated file") //$NON-NLS-1$
+    @Category(CATEGORY)
+    private static class FormattingEvent extends GeneratorEventBase {
+        @Label("File") //$NON-NLS-1$
+        private String file;
+
+        @Label("Characters") //$NON-NLS-1$
+        private long characters;
+
+        @Override
+        public void setSize(long size) {
+            characters = size;
+        }
+    }
+
+    @Name("org.mybatis.generator.Merging") //$NON-NLS-1$
+    @Label("Merging") //$NON-NLS-1$
+    @Description("Merge of a generated file with an existing file") //$NON-NLS-1$
+    @Category(CATEGORY)
+    private static class MergingEvent extends GeneratorEventBase {
+        @Label("File") //$NON-NLS-1$
+        private String file;
+
+        @Label("Characters") //$NON-NLS-1$
+        private long characters;
+
+        @Override
+        public void setSize(long size) {
+            characters = size;
+        }
+    }
+
+    @Name("org.mybatis.generator.Writing") //$NON-NLS-1$
+    @Label("Writing") //$NON-NLS-1$
+    @Description("Writing of a generated file") //$NON-NLS-1$
+    @Category(CATEGORY)
+    private static class WritingEvent extends GeneratorEventBase {
+        @Label("File") //$NON-NLS-1$
+        private String file;
+
+        @Label("Bytes") //$NON-NLS-1$
+        @DataAmount
+        private long bytes;
+
+        @Override
+        public void setSize(long size) {
+            bytes = size;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.config.CommentGeneratorConfiguration;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PluginConfiguration;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.plugins.MapperConfigPlugin;
+
+/**
+ * Runs the generator with the test configuration in /scripts/generatorConfig.xml. The
+ * database must be created first with {@link JavaCodeGenerationTest#createDatabase()}.
+ *
+ * <p>Comment dates are suppressed in every context, so the output of two runs can be compared.
+ */
+public class GenerationFixture {
+
+    private GenerationFixture() {
+        super();
+    }
+
+    /**
+     * Generates all contexts of the test configuration without writing files, and returns
+     * the generated files as described by {@link #describeFiles(List, List)}.
+     */
+    public static List<String> generateFiles(int threads, String introspectionStrategy, List<String> warnings)
+            throws Exception {
+        return generateFiles(threads, introspectionStrategy, null, new Properties(), warnings);
+    }
+
+    /**
+     * Generates all contexts of the test configuration without writing files. If snapshotDirectory
+     * is not null, each context records or replays an introspection snapshot in that directory.
+     * A replaying context cannot connect to the database.
+     */
+    public static List<String> generateFiles(int threads, String introspectionStrategy, File snapshotDirectory,
+            Properties contextProperties, List<String> warnings) throws Exception {
+        Configuration config = createConfiguration(threads, introspectionStrategy, snapshotDirectory,
+                contextProperties, warnings);
+
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, new DefaultShellCallback(true), warnings);
+        myBatisGenerator.generate(null, null, null, false);
+
+        return describeFiles(myBatisGenerator.getGeneratedJavaFiles(), myBatisGenerator.getGeneratedXmlFiles());
+    }
+
+    public static Configuration createConfiguration(int threads, String introspectionStrategy,
+            File snapshotDirectory, Properties contextProperties, List<String> warnings) throws Exception {
+        Configuration config = parseConfiguration(warnings);
+
+        for (Context context : config.getContexts()) {
+            context.addProperty(PropertyRegistry.CONTEXT_GENERATION_THREADS, Integer.toString(threads));
+            context.addProperty(PropertyRegistry.CONTEXT_INTROSPECTION_THREADS, Integer.toString(threads));
+            context.addProperty(PropertyRegistry.CONTEXT_INTROSPECTION_STRATEGY, introspectionStrategy);
+            for (String name : contextProperties.stringPropertyNames()) {
+                context.addProperty(name, contextProperties.getProperty(name));
+            }
+            if (snapshotDirectory != null) {
+                context.addProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_FILE,
+                        new File(snapshotDirectory, context.getId() + ".snapshot").getPath());
+            }
+            if (context.isReplayingIntrospectionSnapshot()) {
+                if (context.getJdbcConnectionConfiguration() != null) {
+                    context.getJdbcConnectionConfiguration().setDriverClass("no.such.Driver");
+                } else {
+                    context.getConnectionFactoryConfiguration().addProperty("driverClass", "no.such.Driver");
+                }
+            }
+        }
+
+        return config;
+    }
+
+    /**
+     * Describes generated files by their package, name, and content.
+     */
+    public static List<String> describeFiles(List<GeneratedJavaFile> javaFiles, List<GeneratedXmlFile> xmlFiles) {
+        List<String> files = new ArrayList<>();
+        for (GeneratedJavaFile gjf : javaFiles) {
+            files.add(gjf.getTargetPackage() + '/' + gjf.getFileName() + '\n' + gjf.getFormattedContent());
+        }
+        for (GeneratedXmlFile gxf : xmlFiles) {
+            files.add(gxf.getTargetPackage() + '/' + gxf.getFileName() + '\n' + gxf.getFormattedContent());
+        }
+
+        return files;
+    }
+
+    /**
+     * Generates the FlatJava5 context into the directory, and returns the names of the
+     * generated files.
+     */
+    public static List<String> generateIntoDirectory(File directory, boolean incremental) throws Exception {
+        return generateIntoDirectory(directory, incremental, false, null);
+    }
+
+    /**
+     * Generates the FlatJava5 context into the directory, optionally with MapperConfigPlugin,
+     * and returns the names of the generated files. Existing Java and XML files are merged.
+     */
+    public static List<String> generateIntoDirectory(File directory, boolean incremental, boolean mapperConfig,
+            ProgressCallback callback) throws Exception {
+        List<String> warnings = new ArrayList<>();
+        Configuration config = parseConfiguration(warnings);
+
+        Context context = config.getContext("FlatJava5");
+        if (incremental) {
+            context.addProperty(PropertyRegistry.CONTEXT_GENERATION_MANIFEST_FILE,
+                    new File(directory, "FlatJava5.manifest").getPath());
+        }
+        setTargetProject(context, directory);
+        if (mapperConfig) {
+            PluginConfiguration pluginConfiguration = new PluginConfiguration();
+            pluginConfiguration.setConfigurationType(MapperConfigPlugin.class.getName());
+            pluginConfiguration.addProperty("targetProject", directory.getPath());
+            pluginConfiguration.addProperty("targetPackage", "config");
+            pluginConfiguration.addProperty("fileName", "MapperConfig.xml");
+            context.addPluginConfiguration(pluginConfiguration);
+        }
+
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, new MergingShellCallback(), warnings);
+        myBatisGenerator.generate(callback, Collections.singleton("FlatJava5"), null, true);
+
+        List<String> files = new ArrayList<>();
+        for (GeneratedJavaFile gjf : myBatisGenerator.getGeneratedJavaFiles()) {
+            files.add(gjf.getFileName());
+        }
+        for (GeneratedXmlFile gxf : myBatisGenerator.getGeneratedXmlFiles()) {
+            files.add(gxf.getFileName());
+        }
+
+        return files;
+    }
+
+    /**
+     * Generates and writes all contexts of the test configuration into the directory, and
+     * returns the warnings with the directory removed.
+     */
+    public static List<String> writeAllContexts(File directory, int outputThreads) throws Exception {
+        Files.createDirectories(directory.toPath());
+        Properties properties = new Properties();
+        properties.setProperty(PropertyRegistry.CONTEXT_OUTPUT_THREADS, Integer.toString(outputThreads));
+        List<String> warnings = new ArrayList<>();
+        Configuration config = createConfiguration(1, "DEFAULT", null, properties, warnings);
+
+        for (Context context : config.getContexts()) {
+            setTargetProject(context, directory);
+        }
+
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, new DefaultShellCallback(false), warnings);
+        myBatisGenerator.generate(null, null, null, true);
+
+        List<String> answer = new ArrayList<>();
+        for (String warning : warnings) {
+            answer.add(warning.replace(directory.getAbsolutePath(), ""));
+        }
+
+        return answer;
+    }
+
+    /**
+     * Reads all files below the directory, keyed by their path relative to the directory.
+     */
+    public static Map<String, String> readFiles(File directory) throws IOException {
+        Map<String, String> files = new TreeMap<>();
+        Path root = directory.toPath();
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                files.put(root.relativize(path).toString(),
+                        new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+            }
+        }
+
+        return files;
+    }
+
+    private static Configuration parseConfiguration(List<String> warnings) throws Exception {
+        ConfigurationParser cp = new ConfigurationParser(warnings);
+        Configuration config = cp.parseConfiguration(
+                GenerationFixture.class.getResourceAsStream("/scripts/generatorConfig.xml"));
+
+        for (Context context : config.getContexts()) {
+            // dates in comments would make two runs differ
+            if (context.getCommentGeneratorConfiguration() == null) {
+                context.setCommentGeneratorConfiguration(new CommentGeneratorConfiguration());
+            }
+            context.getCommentGeneratorConfiguration()
+                    .addProperty(PropertyRegistry.COMMENT_GENERATOR_SUPPRESS_DATE, "true");
+        }
+
+        return config;
+    }
+
+    private static void setTargetProject(Context context, File directory) {
+        context.getJavaModelGeneratorConfiguration().setTargetProject(directory.getPath());
+        if (context.getSqlMapGeneratorConfiguration() != null) {
+            context.getSqlMapGeneratorConfiguration().setTargetProject(directory.getPath());
+        }
+        if (context.getJavaClientGeneratorConfiguration() != null) {
+            context.getJavaClientGeneratorConfiguration().setTargetProject(directory.getPath());
+        }
+    }
+
+    /**
+     * Merges Java files by keeping the new content, so that merges happen but do not change
+     * the output.
+     */
+    private static class MergingShellCallback extends DefaultShellCallback {
+        MergingShellCallback() {
+            super(true);
+        }
+
+        @Override
+        public boolean isMergeSupported() {
+            return true;
+        }
+
+        @Override
+        public String mergeJavaFile(String newFileSource, File existingFile, String[] javadocTags,
+                String fileEncoding) {
+            return newFileSource;
+        }
+    }
+}
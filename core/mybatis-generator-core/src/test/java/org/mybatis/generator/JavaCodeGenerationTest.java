@@ -26,6 +26,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mybatis.generator.api.GeneratedJavaFile;
 import org.mybatis.generator.api.MyBatisGenerator;
 import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.api.dom.StreamingJavaFormatter;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.internal.DefaultShellCallback;
@@ -49,6 +50,14 @@ public class JavaCodeGenerationTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("generateJavaFiles")
+    public void testStreamingFormatterMatchesDefaultFormatter(GeneratedJavaFile generatedJavaFile) {
+        String expected = new DefaultJavaFormatter().getFormattedContent(generatedJavaFile.getCompilationUnit());
+        String actual = new StreamingJavaFormatter().getFormattedContent(generatedJavaFile.getCompilationUnit());
+        assertEquals(expected, actual, generatedJavaFile.getFileName());
+    }
+
     public static List<GeneratedJavaFile> generateJavaFiles() throws Exception {
         List<GeneratedJavaFile> generatedFiles = new ArrayList<>();
         generatedFiles.addAll(generateJavaFilesMybatis());
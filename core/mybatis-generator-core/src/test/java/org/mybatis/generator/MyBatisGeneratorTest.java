@@ -16,17 +16,30 @@
 package org.mybatis.generator;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mybatis.generator.GenerationFixture.*;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.GeneratedFileConsumer;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.MyBatisGenerator;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.ConnectionFactoryConfiguration;
 import org.mybatis.generator.config.Context;
 import org.mybatis.generator.config.JDBCConnectionConfiguration;
 import org.mybatis.generator.config.ModelType;
+import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.internal.DefaultShellCallback;
@@ -87,4 +100,125 @@ public class MyBatisGeneratorTest {
                 });
         assertEquals(3, e.getErrors().size());
     }
+
+    @Test
+    public void testBulkIntrospectionMatchesDefaultIntrospection() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        List<String> defaultWarnings = new ArrayList<>();
+        List<String> defaultFiles = generateFiles(1, "DEFAULT", defaultWarnings);
+
+        List<String> bulkWarnings = new ArrayList<>();
+        List<String> bulkFiles = generateFiles(1, "BULK", bulkWarnings);
+
+        assertFalse(defaultFiles.isEmpty());
+        assertEquals(defaultFiles, bulkFiles);
+        assertEquals(defaultWarnings, bulkWarnings);
+    }
+
+    @Test
+    public void testContextsCannotShareAnIntrospectionSnapshotFile(@TempDir Path tempDir) throws Exception {
+        List<String> warnings = new ArrayList<>();
+        Properties properties = new Properties();
+        properties.setProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE, "record");
+        properties.setProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_FILE,
+                tempDir.resolve("shared.snapshot").toString());
+        Configuration config = createConfiguration(1, "DEFAULT", null, properties, warnings);
+
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, config::validate);
+        assertEquals(config.getContexts().size() - 1, e.getErrors().size());
+    }
+
+    @Test
+    public void testReplayedIntrospectionSnapshotMatchesLiveIntrospection(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        List<String> liveWarnings = new ArrayList<>();
+        List<String> liveFiles = generateFiles(1, "DEFAULT", liveWarnings);
+
+        Properties recordProperties = new Properties();
+        recordProperties.setProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE, "record");
+        List<String> recordWarnings = new ArrayList<>();
+        List<String> recordedFiles = generateFiles(4, "DEFAULT", tempDir.toFile(), recordProperties, recordWarnings);
+
+        Properties replayProperties = new Properties();
+        replayProperties.setProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_MODE, "replay");
+        List<String> replayWarnings = new ArrayList<>();
+        List<String> replayedFiles = generateFiles(1, "DEFAULT", tempDir.toFile(), replayProperties, replayWarnings);
+
+        assertFalse(liveFiles.isEmpty());
+        assertEquals(liveFiles, recordedFiles);
+        assertEquals(liveFiles, replayedFiles);
+        assertEquals(liveWarnings, recordWarnings);
+        assertEquals(liveWarnings, replayWarnings);
+    }
+
+    @Test
+    public void testStreamingGenerationMatchesGeneration() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        List<String> warnings = new ArrayList<>();
+        List<String> files = generateFiles(1, "DEFAULT", warnings);
+
+        for (int threads : new int[] {1, 4}) {
+            List<String> streamingWarnings = new ArrayList<>();
+            Configuration config = createConfiguration(threads, "DEFAULT", null, new Properties(), streamingWarnings);
+            List<GeneratedJavaFile> javaFiles = new ArrayList<>();
+            List<GeneratedXmlFile> xmlFiles = new ArrayList<>();
+            MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, new DefaultShellCallback(true),
+                    streamingWarnings);
+            myBatisGenerator.generateStreaming(null, null, null, new GeneratedFileConsumer() {
+                @Override
+                public void javaFileGenerated(GeneratedJavaFile generatedJavaFile) {
+                    javaFiles.add(generatedJavaFile);
+                }
+
+                @Override
+                public void xmlFileGenerated(GeneratedXmlFile generatedXmlFile) {
+                    xmlFiles.add(generatedXmlFile);
+                }
+            });
+
+            assertTrue(myBatisGenerator.getGeneratedJavaFiles().isEmpty());
+            assertEquals(files, describeFiles(javaFiles, xmlFiles));
+            assertEquals(warnings, streamingWarnings);
+        }
+    }
+
+    @Test
+    public void testUnchangedFilesAreNotRewritten(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        List<String> fileNames = generateIntoDirectory(tempDir.toFile(), false);
+        assertFalse(fileNames.isEmpty());
+
+        List<File> files;
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            files = paths.filter(Files::isRegularFile).map(Path::toFile).collect(Collectors.toList());
+        }
+        assertFalse(files.isEmpty());
+        long lastModified = 1000000000000L;
+        for (File file : files) {
+            assertTrue(file.setLastModified(lastModified));
+        }
+
+        generateIntoDirectory(tempDir.toFile(), false);
+        for (File file : files) {
+            assertEquals(lastModified, file.lastModified(), file.getName());
+        }
+    }
+
+    @Test
+    public void testParallelOutputMatchesSequentialOutput(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        File sequentialDirectory = new File(tempDir.toFile(), "sequential");
+        File parallelDirectory = new File(tempDir.toFile(), "parallel");
+
+        // the second run merges XML files and writes Java files under unique names
+        for (int run = 0; run < 2; run++) {
+            List<String> sequentialWarnings = writeAllContexts(sequentialDirectory, 1);
+            List<String> parallelWarnings = writeAllContexts(parallelDirectory, 4);
+            assertEquals(sequentialWarnings, parallelWarnings);
+        }
+
+        Map<String, String> sequentialFiles = readFiles(sequentialDirectory);
+        assertFalse(sequentialFiles.isEmpty());
+        assertEquals(sequentialFiles, readFiles(parallelDirectory));
+    }
 }
@@ -0,0 +1,275 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mybatis.generator.api.GeneratedFileConsumer;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.CommentGeneratorConfiguration;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.JDBCConnectionConfiguration;
+import org.mybatis.generator.config.JavaClientGeneratorConfiguration;
+import org.mybatis.generator.config.JavaModelGeneratorConfiguration;
+import org.mybatis.generator.config.ModelType;
+import org.mybatis.generator.config.SqlMapGeneratorConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+/**
+ * Generates code for a large synthetic schema with every target runtime and model type, and fails if
+ * the run exceeds its time or memory budget. The schema has many narrow tables - some with composite
+ * keys, some made mostly of BLOB columns - and a few very wide tables.
+ *
+ * <p>These tests take more than a minute, so they only run with the "scale-tests" profile. The size of the
+ * schema and the budgets can be changed with system properties (see the constants below). The results
+ * of every run are appended to target/scale-test-results.csv.
+ */
+@Tag("scale")
+public class ScaleTest {
+
+    private static final int TABLES = Integer.getInteger("mbg.scale.tables", 2000);
+    private static final int COLUMNS = Integer.getInteger("mbg.scale.columns", 20);
+    private static final int WIDE_TABLES = Integer.getInteger("mbg.scale.wideTables", 5);
+    private static final int WIDE_COLUMNS = Integer.getInteger("mbg.scale.wideColumns", 500);
+
+    private static final long MAX_MICROS_PER_TABLE = Long.getLong("mbg.scale.maxMicrosPerTable", 20_000L);
+    private static final long MAX_ALLOCATED_BYTES_PER_TABLE =
+            Long.getLong("mbg.scale.maxAllocatedBytesPerTable", 10L * 1024 * 1024);
+    private static final long MAX_PEAK_HEAP_BYTES = Long.getLong("mbg.scale.maxPeakHeapBytes", 512L * 1024 * 1024);
+
+    private static final String URL = "jdbc:hsqldb:mem:scaletest";
+    private static final String[] COLUMN_TYPES = {
+        "VARCHAR(50)", "INTEGER", "DECIMAL(10,2)", "TIMESTAMP", "BIGINT", "CHAR(1)", "DATE", "BOOLEAN"
+    };
+    private static final String[] BLOB_TYPES = {"LONGVARCHAR", "LONGVARBINARY", "CLOB", "BLOB"};
+
+    @BeforeAll
+    public static void createSchema() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            for (int i = 0; i < TABLES; i++) {
+                statement.execute(createTableStatement("TABLE_" + i, COLUMNS, i % 10 == 3, i % 10 == 7));
+            }
+
+            for (int i = 0; i < WIDE_TABLES; i++) {
+                statement.execute(createTableStatement("WIDE_" + i, WIDE_COLUMNS, false, false));
+            }
+        }
+    }
+
+    static Stream<Arguments> runtimesAndModelTypes() {
+        return Stream.of(
+                Arguments.of("MyBatis3", ModelType.CONDITIONAL),
+                Arguments.of("MyBatis3", ModelType.FLAT),
+                Arguments.of("MyBatis3", ModelType.HIERARCHICAL),
+                Arguments.of("MyBatis3Simple", ModelType.FLAT),
+                Arguments.of("MyBatis3DynamicSql", ModelType.FLAT));
+    }
+
+    @ParameterizedTest
+    @MethodSource("runtimesAndModelTypes")
+    public void testGenerationStaysWithinBudget(String targetRuntime, ModelType modelType) throws Exception {
+        List<String> warnings = new ArrayList<>();
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(createConfiguration(targetRuntime, modelType),
+                new DefaultShellCallback(true), warnings);
+        RenderingConsumer consumer = new RenderingConsumer();
+
+        System.gc();
+        for (MemoryPoolMXBean memoryPool : getHeapMemoryPools()) {
+            memoryPool.resetPeakUsage();
+        }
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+
+        myBatisGenerator.generateStreaming(null, null, null, consumer);
+
+        long wallMicros = (System.nanoTime() - start) / 1000;
+        long allocatedBytes = getAllocatedBytes() - allocatedBefore;
+        long peakHeapBytes = 0;
+        for (MemoryPoolMXBean memoryPool : getHeapMemoryPools()) {
+            peakHeapBytes += memoryPool.getPeakUsage().getUsed();
+        }
+
+        int tables = TABLES + WIDE_TABLES;
+        long microsPerTable = wallMicros / tables;
+        long allocatedBytesPerTable = allocatedBytes / tables;
+        record(targetRuntime, modelType, wallMicros, microsPerTable, peakHeapBytes, allocatedBytesPerTable);
+
+        assertThat(warnings).isEmpty();
+        assertThat(consumer.javaFiles).isGreaterThanOrEqualTo(tables);
+        assertThat(microsPerTable).as("wall time per table (microseconds)")
+                .isLessThanOrEqualTo(MAX_MICROS_PER_TABLE);
+        assertThat(peakHeapBytes).as("peak heap (bytes)").isLessThanOrEqualTo(MAX_PEAK_HEAP_BYTES);
+        if (allocatedBytes >= 0) {
+            assertThat(allocatedBytesPerTable).as("allocation per table (bytes)")
+                    .isLessThanOrEqualTo(MAX_ALLOCATED_BYTES_PER_TABLE);
+        }
+    }
+
+    private static String createTableStatement(String tableName, int columns, boolean compositeKey,
+            boolean blobHeavy) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("create table ").append(tableName).append(" (ID1 INTEGER not null");
+        if (compositeKey) {
+            sb.append(", ID2 VARCHAR(20) not null");
+        }
+
+        for (int i = 0; i < columns; i++) {
+            sb.append(", COL_").append(i).append(' ');
+            if (blobHeavy && i % 2 == 0) {
+                sb.append(BLOB_TYPES[(i / 2) % BLOB_TYPES.length]);
+            } else {
+                sb.append(COLUMN_TYPES[i % COLUMN_TYPES.length]);
+            }
+        }
+
+        sb.append(compositeKey ? ", primary key (ID1, ID2))" : ", primary key (ID1))");
+        return sb.toString();
+    }
+
+    private static Configuration createConfiguration(String targetRuntime, ModelType modelType) {
+        Context context = new Context(modelType);
+        context.setId("scale");
+        context.setTargetRuntime(targetRuntime);
+
+        CommentGeneratorConfiguration commentGeneratorConfiguration = new CommentGeneratorConfiguration();
+        commentGeneratorConfiguration.addProperty("suppressDate", "true");
+        context.setCommentGeneratorConfiguration(commentGeneratorConfiguration);
+
+        JDBCConnectionConfiguration jdbcConnectionConfiguration = new JDBCConnectionConfiguration();
+        jdbcConnectionConfiguration.setDriverClass("org.hsqldb.jdbcDriver");
+        jdbcConnectionConfiguration.setConnectionURL(URL);
+        jdbcConnectionConfiguration.setUserId("sa");
+        context.setJdbcConnectionConfiguration(jdbcConnectionConfiguration);
+
+        JavaModelGeneratorConfiguration javaModelGeneratorConfiguration = new JavaModelGeneratorConfiguration();
+        javaModelGeneratorConfiguration.setTargetPackage("scale.model");
+        javaModelGeneratorConfiguration.setTargetProject("target");
+        context.setJavaModelGeneratorConfiguration(javaModelGeneratorConfiguration);
+
+        JavaClientGeneratorConfiguration javaClientGeneratorConfiguration = new JavaClientGeneratorConfiguration();
+        javaClientGeneratorConfiguration.setTargetPackage("scale.mapper");
+        javaClientGeneratorConfiguration.setTargetProject("target");
+        if ("MyBatis3DynamicSql".equals(targetRuntime)) {
+            javaClientGeneratorConfiguration.setConfigurationType("ANNOTATEDMAPPER");
+        } else {
+            javaClientGeneratorConfiguration.setConfigurationType("XMLMAPPER");
+
+            SqlMapGeneratorConfiguration sqlMapGeneratorConfiguration = new SqlMapGeneratorConfiguration();
+            sqlMapGeneratorConfiguration.setTargetPackage("scale.mapper");
+            sqlMapGeneratorConfiguration.setTargetProject("target");
+            context.setSqlMapGeneratorConfiguration(sqlMapGeneratorConfiguration);
+        }
+        context.setJavaClientGeneratorConfiguration(javaClientGeneratorConfiguration);
+
+        TableConfiguration tableConfiguration = new TableConfiguration(context);
+        tableConfiguration.setSchema("PUBLIC");
+        tableConfiguration.setTableName("%");
+        context.addTableConfiguration(tableConfiguration);
+
+        Configuration configuration = new Configuration();
+        configuration.addContext(context);
+        return configuration;
+    }
+
+    private static List<MemoryPoolMXBean> getHeapMemoryPools() {
+        List<MemoryPoolMXBean> answer = new ArrayList<>();
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                answer.add(memoryPool);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread, or -1 if the JVM cannot report it. Tables are
+     * generated on the calling thread unless the context enables parallel generation.
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (sunThreadMXBean.isThreadAllocatedMemorySupported()
+                    && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                return sunThreadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    private static void record(String targetRuntime, ModelType modelType, long wallMicros, long microsPerTable,
+            long peakHeapBytes, long allocatedBytesPerTable) throws IOException {
+        File results = new File("target", "scale-test-results.csv");
+        List<String> lines = new ArrayList<>();
+        if (!results.exists()) {
+            lines.add("targetRuntime,modelType,tables,columns,wideTables,wideColumns,"
+                    + "wallMillis,microsPerTable,peakHeapBytes,allocatedBytesPerTable");
+        }
+        lines.add(String.join(",", targetRuntime, modelType.getModelType(), String.valueOf(TABLES),
+                String.valueOf(COLUMNS), String.valueOf(WIDE_TABLES), String.valueOf(WIDE_COLUMNS),
+                String.valueOf(wallMicros / 1000), String.valueOf(microsPerTable), String.valueOf(peakHeapBytes),
+                String.valueOf(allocatedBytesPerTable)));
+
+        results.getParentFile().mkdirs();
+        Files.write(results.toPath(), lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Renders every generated file, like a run that writes files, but keeps nothing.
+     */
+    private static class RenderingConsumer implements GeneratedFileConsumer {
+        private int javaFiles;
+
+        @Override
+        public void javaFileGenerated(GeneratedJavaFile generatedJavaFile) {
+            javaFiles++;
+            generatedJavaFile.getFormattedContent();
+        }
+
+        @Override
+        public void xmlFileGenerated(GeneratedXmlFile generatedXmlFile) {
+            generatedXmlFile.getFormattedContent();
+        }
+    }
+}
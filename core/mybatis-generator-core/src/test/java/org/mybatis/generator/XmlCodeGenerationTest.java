@@ -19,19 +19,31 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.render.DocTypeRenderer;
+import org.mybatis.generator.api.dom.xml.render.DocumentRenderer;
+import org.mybatis.generator.api.dom.xml.render.ElementRenderer;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.XmlFileMergerJaxp;
+import org.mybatis.generator.internal.XmlFileMergerStax;
 import org.xml.sax.EntityResolver;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
@@ -57,6 +69,55 @@ public class XmlCodeGenerationTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("generateXmlFiles")
+    public void testDocumentRendererMatchesElementRenderer(GeneratedXmlFile generatedXmlFile) {
+        Document document = generatedXmlFile.getDocument();
+        String lineSeparator = System.getProperty("line.separator");
+        String expected = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + lineSeparator
+                + "<!DOCTYPE " + document.getRootElement().getName() + " "
+                + document.getDocType().get().accept(new DocTypeRenderer()) + ">" + lineSeparator
+                + document.getRootElement().accept(new ElementRenderer())
+                        .collect(Collectors.joining(lineSeparator));
+
+        assertEquals(expected, new DocumentRenderer().render(document), generatedXmlFile.getFileName());
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateXmlFiles")
+    public void testDomMergeMatchesParsedMerge(GeneratedXmlFile generatedXmlFile, @TempDir Path tempDir)
+            throws Exception {
+        String content = generatedXmlFile.getFormattedContent();
+        int index = content.lastIndexOf("</");
+        String existingContent = content.substring(0, index)
+                + "<select id=\"customSelect\" resultType=\"int\">select 1</select>\n"
+                + content.substring(index);
+        Path existingFile = tempDir.resolve(generatedXmlFile.getFileName());
+        Files.write(existingFile, existingContent.getBytes(StandardCharsets.UTF_8));
+
+        String expected = XmlFileMergerJaxp.getMergedSource(new InputSource(new StringReader(content)),
+                new InputSource(new StringReader(existingContent)), generatedXmlFile.getFileName());
+
+        assertEquals(expected, XmlFileMergerJaxp.getMergedSource(generatedXmlFile, existingFile.toFile()),
+                generatedXmlFile.getFileName());
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateXmlFiles")
+    public void testStreamingMergeMatchesDomMerge(GeneratedXmlFile generatedXmlFile) throws Exception {
+        String content = generatedXmlFile.getFormattedContent();
+        int index = content.lastIndexOf("</");
+        String existingContent = content.substring(0, index)
+                + "  <select id=\"customSelect\" resultType=\"int\">select 1</select>\n"
+                + content.substring(index);
+
+        String expected = XmlFileMergerJaxp.getMergedSource(new InputSource(new StringReader(content)),
+                new InputSource(new StringReader(existingContent)), generatedXmlFile.getFileName());
+
+        assertEquals(expected, XmlFileMergerStax.getMergedSource(content, existingContent,
+                generatedXmlFile.getFileName()), generatedXmlFile.getFileName());
+    }
+
     public static List<GeneratedXmlFile> generateXmlFiles() throws Exception {
         List<GeneratedXmlFile> generatedFiles = new ArrayList<>();
         generatedFiles.addAll(generateXmlFilesMybatis());
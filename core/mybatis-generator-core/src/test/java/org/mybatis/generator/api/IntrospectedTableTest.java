@@ -0,0 +1,115 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.codegen.mybatis3.IntrospectedTableMyBatis3Impl;
+
+public class IntrospectedTableTest {
+
+    @Test
+    public void testColumnLookup() {
+        IntrospectedTable introspectedTable = new IntrospectedTableMyBatis3Impl();
+        IntrospectedColumn id = createColumn("ID", "INTEGER");
+        IntrospectedColumn name = createColumn("Name", "VARCHAR");
+        IntrospectedColumn delimited = createColumn("Mixed", "VARCHAR");
+        delimited.setColumnNameDelimited(true);
+        introspectedTable.addColumn(id);
+        introspectedTable.addColumn(name);
+        introspectedTable.addColumn(delimited);
+
+        assertThat(introspectedTable.getColumn("id")).isSameAs(id);
+        assertThat(introspectedTable.getColumn("NAME")).isSameAs(name);
+        assertThat(introspectedTable.getColumn("Mixed")).isSameAs(delimited);
+        assertThat(introspectedTable.getColumn("mixed")).isNull();
+        assertThat(introspectedTable.getColumn("missing")).isNull();
+        assertThat(introspectedTable.getColumn(null)).isNull();
+    }
+
+    @Test
+    public void testColumnViewsFollowChanges() {
+        IntrospectedTable introspectedTable = new IntrospectedTableMyBatis3Impl();
+        IntrospectedColumn id = createColumn("ID", "INTEGER");
+        IntrospectedColumn description = createColumn("DESCRIPTION", "CLOB");
+        introspectedTable.addColumn(id);
+        introspectedTable.addColumn(description);
+
+        assertThat(introspectedTable.getAllColumns()).containsExactly(id, description);
+        assertThat(introspectedTable.getNonBLOBColumns()).containsExactly(id);
+        assertThat(introspectedTable.getNonPrimaryKeyColumns()).containsExactly(id, description);
+
+        introspectedTable.addPrimaryKeyColumn("ID");
+        IntrospectedColumn name = createColumn("NAME", "VARCHAR");
+        introspectedTable.getBaseColumns().add(name);
+
+        assertThat(introspectedTable.getAllColumns()).containsExactly(id, name, description);
+        assertThat(introspectedTable.getNonBLOBColumns()).containsExactly(id, name);
+        assertThat(introspectedTable.getNonPrimaryKeyColumns()).containsExactly(name, description);
+        assertThat(introspectedTable.getColumn("name")).isSameAs(name);
+        assertThrows(UnsupportedOperationException.class, () -> introspectedTable.getAllColumns().clear());
+    }
+
+    @Test
+    public void testColumnViewsFollowReplacedColumns() {
+        IntrospectedTable introspectedTable = new IntrospectedTableMyBatis3Impl();
+        IntrospectedColumn id = createColumn("ID", "INTEGER");
+        IntrospectedColumn name = createColumn("NAME", "VARCHAR");
+        IntrospectedColumn description = createColumn("DESCRIPTION", "VARCHAR");
+        introspectedTable.addColumn(id);
+        introspectedTable.addColumn(name);
+        assertThat(introspectedTable.getColumn("name")).isSameAs(name);
+
+        IntrospectedColumn newName = createColumn("NAME", "VARCHAR");
+        introspectedTable.getBaseColumns().set(1, newName);
+
+        assertThat(introspectedTable.getColumn("name")).isSameAs(newName);
+        assertThat(introspectedTable.getAllColumns()).containsExactly(id, newName);
+
+        introspectedTable.getBaseColumns().subList(1, 2).set(0, description);
+
+        assertThat(introspectedTable.getColumn("name")).isNull();
+        assertThat(introspectedTable.getColumn("description")).isSameAs(description);
+        assertThat(introspectedTable.getAllColumns()).containsExactly(id, description);
+
+        introspectedTable.getBaseColumns().sort((c1, c2) ->
+                c1.getActualColumnName().compareTo(c2.getActualColumnName()));
+
+        assertThat(introspectedTable.getAllColumns()).containsExactly(description, id);
+    }
+
+    @Test
+    public void testColumnLookupFollowsRenamedColumns() {
+        IntrospectedTable introspectedTable = new IntrospectedTableMyBatis3Impl();
+        IntrospectedColumn id = createColumn("ID", "INTEGER");
+        introspectedTable.addColumn(id);
+        assertThat(introspectedTable.getColumn("id")).isSameAs(id);
+
+        id.setActualColumnName("KEY_ID");
+
+        assertThat(introspectedTable.getColumn("id")).isNull();
+        assertThat(introspectedTable.getColumn("key_id")).isSameAs(id);
+    }
+
+    private static IntrospectedColumn createColumn(String columnName, String jdbcTypeName) {
+        IntrospectedColumn introspectedColumn = new IntrospectedColumn();
+        introspectedColumn.setActualColumnName(columnName);
+        introspectedColumn.setJdbcTypeName(jdbcTypeName);
+        return introspectedColumn;
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.JavaCodeGenerationTest;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.GenerationMetrics;
+
+public class MyBatisGeneratorMetricsTest {
+
+    @Test
+    public void testGenerationIsMeasured() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        List<String> warnings = new ArrayList<>();
+        ConfigurationParser cp = new ConfigurationParser(warnings);
+        Configuration config = cp.parseConfiguration(
+                this.getClass().getResourceAsStream("/scripts/generatorConfig.xml"));
+
+        GenerationMetrics metrics = new GenerationMetrics();
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, new DefaultShellCallback(true), warnings);
+        myBatisGenerator.setGenerationMetrics(metrics);
+        myBatisGenerator.generate(null, null, null, false);
+
+        assertThat(metrics.getMetrics(GenerationMetrics.PHASES))
+                .containsKeys("connection", "introspection", "generation");
+        assertThat(metrics.getMetrics(GenerationMetrics.INTROSPECTED_TABLES)).isNotEmpty();
+        assertThat(metrics.getMetrics(GenerationMetrics.GENERATED_TABLES)).isNotEmpty();
+        assertThat(metrics.getMetrics(GenerationMetrics.GENERATORS)).isNotEmpty();
+        assertThat(metrics.getMetrics(GenerationMetrics.PLUGIN_HOOKS)).isNotEmpty();
+    }
+
+    @Test
+    public void testRunWritesMetrics(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        File configurationFile = new File(this.getClass().getResource("/scripts/generatorConfig.xml").toURI());
+        File archiveFile = tempDir.resolve("generated.zip").toFile();
+        File metricsFile = tempDir.resolve("metrics.json").toFile();
+
+        List<String> warnings = new ArrayList<>();
+        MyBatisGenerator.run(configurationFile, null, warnings, new DefaultShellCallback(true), null,
+                Collections.singleton("FlatJava5"), null, archiveFile, metricsFile);
+
+        assertThat(archiveFile).exists();
+        String json = new String(Files.readAllBytes(metricsFile.toPath()), StandardCharsets.UTF_8);
+        assertThat(json).contains("\"configuration\"", "\"introspection\"", "\"generation\"");
+    }
+}
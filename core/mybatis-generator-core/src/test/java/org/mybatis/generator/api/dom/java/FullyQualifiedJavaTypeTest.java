@@ -17,6 +17,8 @@ package org.mybatis.generator.api.dom.java;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -260,4 +262,37 @@ public class FullyQualifiedJavaTypeTest {
         assertTrue(fqjt.getImportList().contains("java.util.List"));
         assertFalse(fqjt.getImportList().contains("java.util.List[]"));
     }
+
+    @Test
+    public void testSharedInstance() {
+        String spec = "java.util.Map<java.lang.String, ? extends com.foo.Bar.Inner>";
+        FullyQualifiedJavaType shared = FullyQualifiedJavaType.getSharedInstance(spec);
+        FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(spec);
+
+        assertSame(shared, FullyQualifiedJavaType.getSharedInstance(spec));
+        assertTrue(shared.isShared());
+        assertFalse(fqjt.isShared());
+        assertEquals(fqjt, shared);
+        assertEquals(fqjt.getFullyQualifiedName(), shared.getFullyQualifiedName());
+        assertEquals(fqjt.getShortName(), shared.getShortName());
+        assertEquals(fqjt.getImportList(), shared.getImportList());
+        assertTrue(shared.getTypeArguments().get(1).isShared());
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> shared.addTypeArgument(FullyQualifiedJavaType.getStringInstance()));
+        assertThrows(UnsupportedOperationException.class,
+                () -> shared.getTypeArguments().add(FullyQualifiedJavaType.getStringInstance()));
+        assertThrows(UnsupportedOperationException.class, () -> shared.getImportList().clear());
+    }
+
+    @Test
+    public void testNamesChangeWhenTypeArgumentsAreAdded() {
+        FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType("? super java.util.List");
+        assertEquals("? super java.util.List", fqjt.getFullyQualifiedName());
+        assertEquals("? super List", fqjt.getShortName());
+
+        fqjt.addTypeArgument(FullyQualifiedJavaType.getStringInstance());
+        assertEquals("? super java.util.List<java.lang.String>", fqjt.getFullyQualifiedName());
+        assertEquals("? super List<String>", fqjt.getShortName());
+    }
 }
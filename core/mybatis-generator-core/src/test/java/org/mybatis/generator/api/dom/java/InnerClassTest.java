@@ -21,6 +21,7 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.generator.api.dom.java.render.InnerClassRenderer;
+import org.mybatis.generator.api.dom.java.render.TopLevelClassRenderer;
 
 public class InnerClassTest {
 
@@ -193,4 +194,60 @@ public class InnerClassTest {
         String rendered = renderer.render(innerClass, null).stream().collect(Collectors.joining(LF));
         assertEquals(excepted, rendered);
     }
+
+    @Test
+    public void testStreamingRendererMatchesRenderer() throws Exception {
+        TopLevelClass topLevelClass = new TopLevelClass("com.foo.Outer");
+        topLevelClass.addFileCommentLine("// file comment");
+        topLevelClass.addImportedType(FullyQualifiedJavaType.getNewListInstance());
+        topLevelClass.addStaticImport("com.foo.Util.*");
+        topLevelClass.setVisibility(JavaVisibility.PUBLIC);
+
+        InitializationBlock initializationBlock = new InitializationBlock(true);
+        initializationBlock.addBodyLine("int i = 0;");
+        initializationBlock.addBodyLine("");
+        topLevelClass.addInitializationBlock(initializationBlock);
+
+        Method method = new Method("switchMethod");
+        method.addJavaDocLine("/**");
+        method.addJavaDocLine("");
+        method.addJavaDocLine(" */");
+        method.addBodyLine("switch (i) {");
+        method.addBodyLine("case 1:");
+        method.addBodyLine("doIt();");
+        method.addBodyLine("break;");
+        method.addBodyLine("default:");
+        method.addBodyLine("break;");
+        method.addBodyLine("}");
+        method.addBodyLine("");
+        method.addBodyLine("}");
+        method.addBodyLine("");
+
+        InnerClass innerClass = new InnerClass("Inner");
+        innerClass.setStatic(true);
+        innerClass.addField(new Field("name", FullyQualifiedJavaType.getStringInstance()));
+        innerClass.addMethod(method);
+
+        InnerEnum innerEnum = new InnerEnum("Color");
+        innerEnum.addEnumConstant("RED");
+        innerEnum.addEnumConstant("GREEN");
+        innerEnum.addMethod(new Method("Color"));
+        innerClass.addInnerEnum(innerEnum);
+        innerClass.addInnerEnum(new InnerEnum("Empty"));
+
+        InnerInterface innerInterface = new InnerInterface("Callback");
+        Method abstractMethod = new Method("call");
+        abstractMethod.setAbstract(true);
+        innerInterface.addMethod(abstractMethod);
+        innerInterface.addInnerClass(new InnerClass("Nested"));
+        innerClass.addInnerInterface(innerInterface);
+
+        topLevelClass.addInnerClass(innerClass);
+        topLevelClass.addInnerClass(new InnerClass("EmptyClass"));
+
+        StringBuilder sb = new StringBuilder();
+        TopLevelClassRenderer renderer = new TopLevelClassRenderer();
+        renderer.render(topLevelClass, sb);
+        assertEquals(renderer.render(topLevelClass), sb.toString());
+    }
 }
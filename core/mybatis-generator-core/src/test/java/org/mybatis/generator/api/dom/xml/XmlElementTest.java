@@ -0,0 +1,54 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom.xml;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.dom.xml.render.ElementRenderer;
+
+public class XmlElementTest {
+
+    @Test
+    public void testAttributesAreSortedOnInsertion() {
+        XmlElement element = new XmlElement("select");
+        element.addAttribute(new Attribute("resultMap", "BaseResultMap"));
+        element.addAttribute(new Attribute("id", "selectByPrimaryKey"));
+        element.addAttribute(new Attribute("parameterType", "java.lang.Integer"));
+        element.addAttribute(new Attribute("id", "duplicate"));
+
+        List<String> names = new ArrayList<>();
+        for (Attribute attribute : element.getAttributes()) {
+            names.add(attribute.getName() + "=" + attribute.getValue());
+        }
+
+        assertEquals("[id=selectByPrimaryKey, id=duplicate, parameterType=java.lang.Integer, resultMap=BaseResultMap]",
+                names.toString());
+    }
+
+    @Test
+    public void testAttributesAddedDirectlyAreRenderedSorted() {
+        XmlElement element = new XmlElement("select");
+        element.getAttributes().add(new Attribute("resultMap", "BaseResultMap"));
+        element.getAttributes().add(new Attribute("id", "selectByPrimaryKey"));
+
+        assertEquals("<select id=\"selectByPrimaryKey\" resultMap=\"BaseResultMap\" />",
+                element.accept(new ElementRenderer()).findFirst().get());
+    }
+}
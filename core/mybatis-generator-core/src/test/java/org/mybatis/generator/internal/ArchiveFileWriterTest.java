@@ -0,0 +1,119 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mybatis.generator.GenerationFixture.createConfiguration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.JavaCodeGenerationTest;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+public class ArchiveFileWriterTest {
+
+    @Test
+    public void testArchiveContainsGeneratedFiles(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        Set<String> contextIds = Collections.singleton("FlatJava5");
+        List<String> warnings = new ArrayList<>();
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(
+                createConfiguration(1, "DEFAULT", null, new Properties(), warnings), null, warnings);
+        myBatisGenerator.generate(null, contextIds, null, false);
+
+        Map<String, String> expectedEntries = new TreeMap<>();
+        for (GeneratedJavaFile gjf : myBatisGenerator.getGeneratedJavaFiles()) {
+            expectedEntries.put(gjf.getTargetPackage().replace('.', '/') + '/' + gjf.getFileName(),
+                    gjf.getFormattedContent());
+        }
+        for (GeneratedXmlFile gxf : myBatisGenerator.getGeneratedXmlFiles()) {
+            expectedEntries.put(gxf.getTargetPackage().replace('.', '/') + '/' + gxf.getFileName(),
+                    gxf.getFormattedContent());
+        }
+        assertFalse(expectedEntries.isEmpty());
+
+        File firstArchive = new File(tempDir.toFile(), "first/generated.jar");
+        File secondArchive = new File(tempDir.toFile(), "second/generated.jar");
+        myBatisGenerator.generateArchive(null, contextIds, null, firstArchive);
+        myBatisGenerator.generateArchive(null, contextIds, null, secondArchive);
+        assertTrue(myBatisGenerator.getGeneratedJavaFiles().isEmpty());
+
+        assertEquals(expectedEntries, readEntries(firstArchive));
+        assertArrayEquals(Files.readAllBytes(firstArchive.toPath()), Files.readAllBytes(secondArchive.toPath()));
+    }
+
+    @Test
+    public void testDuplicateEntriesAreNotWritten(@TempDir Path tempDir) throws Exception {
+        File archive = new File(tempDir.toFile(), "generated.zip");
+        List<String> warnings = new ArrayList<>();
+        try (ArchiveFileWriter writer = new ArchiveFileWriter(archive, warnings)) {
+            writer.xmlFileGenerated(createXmlFile("first"));
+            writer.xmlFileGenerated(createXmlFile("second"));
+        }
+
+        assertEquals(1, warnings.size());
+        assertEquals(Collections.singletonMap("mapper/TestMapper.xml", createXmlFile("first").getFormattedContent()),
+                readEntries(archive));
+    }
+
+    private GeneratedXmlFile createXmlFile(String rootElementName) {
+        Document document = new Document();
+        document.setRootElement(new XmlElement(rootElementName));
+        return new GeneratedXmlFile(document, "TestMapper.xml", "mapper", "project", false,
+                new DefaultXmlFormatter());
+    }
+
+    private Map<String, String> readEntries(File archive) throws IOException {
+        Map<String, String> entries = new TreeMap<>();
+        try (ZipFile zipFile = new ZipFile(archive)) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                try (InputStream is = zipFile.getInputStream(entry)) {
+                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[8192];
+                    int length;
+                    while ((length = is.read(buffer)) != -1) {
+                        baos.write(buffer, 0, length);
+                    }
+                    entries.put(entry.getName(), new String(baos.toByteArray(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        return entries;
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+public class DomSerializerTest {
+
+    @Test
+    public void testSerializerMatchesDomWriter() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<!DOCTYPE mapper>\n"
+                + "<mapper namespace=\"a.b\" b=\"x &amp; &quot;y&quot; &lt;z&gt;\" a=\"tab&#9;here\">\n"
+                + "  <?target some data?>\n"
+                + "  <!-- comment with <markup> & \"quotes\" -->\n"
+                + "  <select id=\"s\">select 1 where a &lt; 2 &amp;&amp; b &gt; 3 \"q\" é \r\n"
+                + "    <![CDATA[ and c < 4\n    and d > 5 ]]>\n"
+                + "    <include refid=\"x\"/>\n"
+                + "  </select>\n"
+                + "</mapper>\n";
+
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        Document document = builder.parse(new InputSource(new StringReader(xml)));
+        Element root = document.getDocumentElement();
+        root.appendChild(document.createTextNode("text with\rcarriage return"));
+
+        String expected = new DomWriter().toString(document);
+        assertEquals(expected, new DomSerializer().toString(document));
+
+        StringWriter sw = new StringWriter();
+        new DomSerializer("\r\n").write(document, sw);
+        assertEquals(expected.replace(System.getProperty("line.separator"), "\r\n"), sw.toString());
+    }
+}
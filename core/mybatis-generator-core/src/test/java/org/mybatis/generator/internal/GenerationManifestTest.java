@@ -0,0 +1,154 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mybatis.generator.GenerationFixture.generateIntoDirectory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.JavaCodeGenerationTest;
+
+public class GenerationManifestTest {
+
+    @Test
+    public void testUnchangedTablesAreNotRegenerated(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        try {
+            List<String> firstRunFiles = generateIntoDirectory(tempDir.toFile(), true);
+            assertFalse(firstRunFiles.isEmpty());
+            assertTrue(new File(tempDir.toFile(), "FlatJava5.manifest").isFile());
+
+            List<String> secondRunFiles = generateIntoDirectory(tempDir.toFile(), true);
+            assertTrue(secondRunFiles.isEmpty());
+
+            try (Connection connection = DriverManager.getConnection("jdbc:hsqldb:mem:aname", "sa", "");
+                    Statement statement = connection.createStatement()) {
+                statement.executeUpdate("alter table FieldsOnly add column NewColumn int");
+            }
+
+            List<String> thirdRunFiles = generateIntoDirectory(tempDir.toFile(), true);
+            assertFalse(thirdRunFiles.isEmpty());
+            for (String fileName : thirdRunFiles) {
+                assertTrue(fileName.startsWith("Fieldsonly"), fileName);
+            }
+        } finally {
+            JavaCodeGenerationTest.createDatabase();
+        }
+    }
+
+    @Test
+    public void testContextFilesCoverUnchangedTables(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        File mapperConfig = tempDir.resolve("config").resolve("MapperConfig.xml").toFile();
+
+        List<String> firstRunFiles = generateIntoDirectory(tempDir.toFile(), true, true, null);
+        assertTrue(firstRunFiles.contains("MapperConfig.xml"));
+        List<String> firstMappers = readMappers(mapperConfig);
+        assertFalse(firstMappers.isEmpty());
+
+        // MapperConfigPlugin lists the mappers of the generated tables, so every table is generated again
+        List<String> secondRunFiles = generateIntoDirectory(tempDir.toFile(), true, true, null);
+        assertEquals(firstRunFiles, secondRunFiles);
+        assertEquals(firstMappers, readMappers(mapperConfig));
+    }
+
+    @Test
+    public void testDeletedFilesAreRegenerated(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        List<String> firstRunFiles = generateIntoDirectory(tempDir.toFile(), true);
+        String deletedFileName = firstRunFiles.get(0);
+        File deletedFile;
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            deletedFile = paths.map(Path::toFile)
+                    .filter(file -> file.getName().equals(deletedFileName))
+                    .findFirst().get();
+        }
+        assertTrue(deletedFile.delete());
+
+        List<String> secondRunFiles = generateIntoDirectory(tempDir.toFile(), true);
+        assertTrue(secondRunFiles.contains(deletedFileName));
+        assertTrue(secondRunFiles.size() < firstRunFiles.size());
+        assertTrue(deletedFile.isFile());
+
+        assertTrue(generateIntoDirectory(tempDir.toFile(), true).isEmpty());
+
+        // a missing directory means missing files, and checking for it does not create it
+        File deletedDirectory = deletedFile.getParentFile();
+        try (Stream<Path> paths = Files.walk(deletedDirectory.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+        assertNull(new DefaultShellCallback(true).findDirectory(tempDir.toString(), "no.such.package"));
+        assertFalse(tempDir.resolve("no").toFile().exists());
+
+        assertTrue(generateIntoDirectory(tempDir.toFile(), true).contains(deletedFileName));
+        assertTrue(deletedFile.isFile());
+    }
+
+    @Test
+    public void testUpToDateFilesAreNotMerged(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        File manifestFile = new File(tempDir.toFile(), "FlatJava5.manifest");
+        SavedFiles savedFiles = new SavedFiles();
+        List<String> fileNames = generateIntoDirectory(tempDir.toFile(), true, false, savedFiles);
+        assertFalse(fileNames.isEmpty());
+        assertEquals(fileNames.size(), savedFiles.count);
+
+        // without table fingerprints, every table is generated again
+        List<String> manifest = Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8);
+        Files.write(manifestFile.toPath(), manifest.stream()
+                .filter(line -> !line.startsWith("table\t"))
+                .collect(Collectors.toList()), StandardCharsets.UTF_8);
+
+        // files are merged right before they are saved, so no file is merged if none is saved
+        savedFiles = new SavedFiles();
+        assertEquals(fileNames, generateIntoDirectory(tempDir.toFile(), true, false, savedFiles));
+        assertEquals(0, savedFiles.count);
+    }
+
+    private List<String> readMappers(File mapperConfig) throws IOException {
+        try (Stream<String> lines = Files.lines(mapperConfig.toPath(), StandardCharsets.UTF_8)) {
+            return lines.filter(line -> line.contains("<mapper ")).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Counts the files that are saved.
+     */
+    private static class SavedFiles extends NullProgressCallback {
+        private int count;
+
+        @Override
+        public synchronized void startTask(String taskName) {
+            if (taskName.startsWith("Saving file")) {
+                count++;
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.Plugin;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.internal.GenerationMetrics.Measurement;
+import org.mybatis.generator.internal.GenerationMetrics.Metric;
+
+public class GenerationMetricsTest {
+
+    @Test
+    public void testMeasurementsAreAggregatedByName() {
+        GenerationMetrics metrics = new GenerationMetrics();
+        for (int i = 0; i < 3; i++) {
+            try (Measurement measurement = metrics.start(GenerationMetrics.PHASES, "introspection")) {
+                assertThat(measurement).isNotNull();
+            }
+        }
+        try (Measurement measurement = metrics.start(GenerationMetrics.PHASES, "generation")) {
+            assertThat(measurement).isNotNull();
+        }
+
+        Map<String, Metric> phases = metrics.getMetrics(GenerationMetrics.PHASES);
+        assertThat(phases).containsOnlyKeys("introspection", "generation");
+        assertThat(phases.get("introspection").getCount()).isEqualTo(3);
+        assertThat(phases.get("introspection").getWallTime()).isGreaterThanOrEqualTo(0);
+        assertThat(phases.get("generation").getCount()).isEqualTo(1);
+        assertThat(metrics.getMetrics(GenerationMetrics.GENERATORS)).isEmpty();
+    }
+
+    @Test
+    public void testDisabledMetricsRecordNothing() {
+        GenerationMetrics metrics = GenerationMetrics.disabled();
+        Plugin plugin = new ModelPlugin();
+
+        try (Measurement measurement = metrics.start(GenerationMetrics.PHASES, "generation")) {
+            assertThat(measurement).isNotNull();
+        }
+
+        assertThat(metrics.isEnabled()).isFalse();
+        assertThat(metrics.measure(plugin)).isSameAs(plugin);
+        assertThat(metrics.getMetrics(GenerationMetrics.PHASES)).isEmpty();
+    }
+
+    @Test
+    public void testPluginHooksAreMeasured() {
+        GenerationMetrics metrics = new GenerationMetrics();
+        PluginAggregator aggregator = new PluginAggregator();
+        aggregator.setGenerationMetrics(metrics);
+        aggregator.addPlugin(new ModelPlugin());
+
+        assertThat(aggregator.modelBaseRecordClassGenerated(null, null)).isFalse();
+        assertThat(aggregator.modelBaseRecordClassGenerated(null, null)).isFalse();
+        aggregator.sqlMapInsertElementGenerated(null, null);
+
+        // hooks that are not overridden are never dispatched, so they are not measured
+        String hook = ModelPlugin.class.getName() + ".modelBaseRecordClassGenerated";
+        Map<String, Metric> hooks = metrics.getMetrics(GenerationMetrics.PLUGIN_HOOKS);
+        assertThat(hooks).containsOnlyKeys(hook);
+        assertThat(hooks.get(hook).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testObjectMethodsAreNotMeasured() {
+        GenerationMetrics metrics = new GenerationMetrics();
+        ModelPlugin plugin = new ModelPlugin();
+        Plugin measuredPlugin = metrics.measure(plugin);
+
+        assertThat(measuredPlugin.toString()).isEqualTo(plugin.toString());
+        assertThat(measuredPlugin.hashCode()).isEqualTo(plugin.hashCode());
+        assertThat(measuredPlugin.validate(null)).isTrue();
+
+        assertThat(metrics.getMetrics(GenerationMetrics.PLUGIN_HOOKS))
+                .containsOnlyKeys(ModelPlugin.class.getName() + ".validate");
+    }
+
+    @Test
+    public void testJsonIsWritten(@TempDir Path tempDir) throws Exception {
+        GenerationMetrics metrics = new GenerationMetrics();
+        try (Measurement measurement = metrics.start(GenerationMetrics.GENERATED_TABLES, "\"quoted\".table")) {
+            assertThat(measurement).isNotNull();
+        }
+
+        File file = tempDir.resolve("out/metrics.json").toFile();
+        metrics.writeJson(file);
+
+        String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertThat(json).startsWith("{").endsWith("}\n")
+                .contains("\"generatedTables\": {", "\"\\\"quoted\\\".table\": {", "\"count\": 1",
+                        "\"wallMillis\": ", "\"cpuMillis\": ", "\"allocatedBytes\": ");
+    }
+
+    private static class ModelPlugin extends PluginAdapter {
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+
+        @Override
+        public boolean modelBaseRecordClassGenerated(TopLevelClass topLevelClass,
+                IntrospectedTable introspectedTable) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.codegen.RootClassInfo;
+
+public class GenerationSessionTest {
+
+    @Test
+    public void testClassLoadersAreNotShared(@TempDir Path tempDir) throws IOException {
+        Files.write(tempDir.resolve("session.properties"), "a=b".getBytes(StandardCharsets.UTF_8));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {tempDir.toUri().toURL()})) {
+            GenerationSession session = new GenerationSession();
+            session.addExternalClassLoader(classLoader);
+
+            assertThat(session.getResource("session.properties")).isNotNull();
+            assertThat(new GenerationSession().getResource("session.properties")).isNull();
+        }
+    }
+
+    @Test
+    public void testRootClassInfoIsCachedPerSession() {
+        List<String> warnings = new ArrayList<>();
+        GenerationSession session = new GenerationSession();
+        RootClassInfo.getInstance("java.lang.Object", warnings, session);
+
+        assertThat(session.getRootClassInfoMap()).containsOnlyKeys("java.lang.Object");
+        assertThat(new GenerationSession().getRootClassInfoMap()).isEmpty();
+        assertThat(warnings).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mybatis.generator.GenerationFixture.generateFiles;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.JavaCodeGenerationTest;
+
+public class ParallelTaskRunnerTest {
+
+    @Test
+    public void testResultsAreInTaskOrder() throws Exception {
+        List<ParallelTaskRunner.Task<Integer, IOException>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int value = i;
+            tasks.add(() -> {
+                // later tasks finish first
+                Thread.sleep(20 - value);
+                return value;
+            });
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expected.add(i);
+        }
+        assertThat(ParallelTaskRunner.runAll(tasks, 4)).isEqualTo(expected);
+        assertThat(ParallelTaskRunner.runAll(tasks, 1)).isEqualTo(expected);
+    }
+
+    @Test
+    public void testFirstFailureIsRethrown() {
+        List<ParallelTaskRunner.Task<Integer, IOException>> tasks = new ArrayList<>();
+        tasks.add(() -> 1);
+        tasks.add(() -> {
+            throw new IOException("first");
+        });
+        tasks.add(() -> {
+            throw new IOException("second");
+        });
+
+        IOException e = assertThrows(IOException.class, () -> ParallelTaskRunner.runAll(tasks, 4));
+        assertThat(e).hasMessage("first");
+    }
+
+    @Test
+    public void testParallelGenerationMatchesSequentialGeneration() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        List<String> sequentialWarnings = new ArrayList<>();
+        List<String> sequentialFiles = generateFiles(1, "DEFAULT", sequentialWarnings);
+
+        List<String> parallelWarnings = new ArrayList<>();
+        List<String> parallelFiles = generateFiles(4, "DEFAULT", parallelWarnings);
+
+        assertThat(sequentialFiles).isNotEmpty();
+        assertThat(parallelFiles).isEqualTo(sequentialFiles);
+        assertThat(parallelWarnings).isEqualTo(sequentialWarnings);
+    }
+}
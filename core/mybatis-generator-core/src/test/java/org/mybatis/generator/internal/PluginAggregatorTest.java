@@ -0,0 +1,104 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+public class PluginAggregatorTest {
+
+    @Test
+    public void testPluginsAreCalledForImplementedHooks() {
+        for (boolean dispatchByHook : new boolean[] {true, false}) {
+            List<String> calls = new ArrayList<>();
+            PluginAggregator aggregator = new PluginAggregator(dispatchByHook);
+            aggregator.addPlugin(new ModelPlugin("first", true, calls));
+            aggregator.addPlugin(new ModelPlugin("second", false, calls));
+            aggregator.addPlugin(new ModelPlugin("third", true, calls));
+            aggregator.addPlugin(new NoOpPlugin());
+
+            assertThat(aggregator.modelBaseRecordClassGenerated(null, null)).isFalse();
+            assertThat(aggregator.sqlMapInsertElementGenerated(null, null)).isTrue();
+            assertThat(aggregator.contextGenerateAdditionalJavaFiles()).isEmpty();
+            assertThat(calls).containsExactly("first", "second");
+        }
+    }
+
+    @Test
+    public void testOverridesInSubclassesAreFound() {
+        List<String> calls = new ArrayList<>();
+        PluginAggregator aggregator = new PluginAggregator();
+        aggregator.addPlugin(new ModelPlugin("model", true, calls) {
+            @Override
+            public boolean sqlMapInsertElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+                calls.add("insert");
+                return true;
+            }
+        });
+
+        aggregator.addPlugin(new NoOpPlugin() {
+            @Override
+            public void tableGenerationFinished(IntrospectedTable introspectedTable) {
+                calls.add("finished");
+            }
+        });
+
+        aggregator.tableGenerationStarted(null);
+        aggregator.sqlMapInsertElementGenerated(null, null);
+        aggregator.modelBaseRecordClassGenerated(null, null);
+        aggregator.tableGenerationFinished(null);
+        assertThat(calls).containsExactly("insert", "model", "finished");
+    }
+
+    private static class ModelPlugin extends PluginAdapter {
+        private final String name;
+        private final boolean result;
+        private final List<String> calls;
+
+        ModelPlugin(String name, boolean result, List<String> calls) {
+            this.name = name;
+            this.result = result;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+
+        @Override
+        public boolean modelBaseRecordClassGenerated(TopLevelClass topLevelClass,
+                IntrospectedTable introspectedTable) {
+            calls.add(name);
+            return result;
+        }
+    }
+
+    private static class NoOpPlugin extends PluginAdapter {
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+    }
+}
@@ -18,9 +18,15 @@ package org.mybatis.generator.internal;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Properties;
 
+import javax.xml.parsers.DocumentBuilderFactory;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mybatis.generator.api.CommentGenerator;
 import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.dom.DefaultXmlFormatter;
@@ -67,6 +73,94 @@ public class XmlFileMergerTest {
         assertEquals(generatedFile1.getFormattedContent(), mergedSource);
     }
 
+    @Test
+    public void testThatDomMergeMatchesParsedMerge(@TempDir Path tempDir) throws Exception {
+        DefaultXmlFormatter xmlFormatter = new DefaultXmlFormatter();
+        Properties p = new Properties();
+        p.setProperty(PropertyRegistry.COMMENT_GENERATOR_SUPPRESS_DATE, "true");
+        CommentGenerator commentGenerator = new DefaultCommentGenerator();
+        commentGenerator.addConfigurationProperties(p);
+
+        XmlElement rootElement = getSqlMapElement(commentGenerator);
+        XmlElement select = new XmlElement("select");
+        select.addAttribute(new Attribute("id", "selectWithReferences"));
+        select.addAttribute(new Attribute("resultType", "java.util.Map&lt;String, &#x41;&gt;"));
+        select.addElement(new TextElement("select foo from bar where foo &lt; 22 &amp;&amp; baz &#62; 3"));
+        select.addElement(new TextElement("<!-- a comment on"));
+        select.addElement(new TextElement("  two lines -->"));
+        rootElement.addElement(select);
+
+        Document document = new Document(XmlConstants.MYBATIS3_MAPPER_PUBLIC_ID,
+                XmlConstants.MYBATIS3_MAPPER_SYSTEM_ID);
+        document.setRootElement(rootElement);
+        GeneratedXmlFile generatedFile = new GeneratedXmlFile(document, "TestMapper.xml", "org.mybatis.test", "src",
+                true, xmlFormatter);
+
+        // the generated document is built without a parser
+        assertNotNull(DomElementBuilder.buildRootElement(document,
+                DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument()));
+
+        String existingContent = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<!DOCTYPE mapper PUBLIC \"" + XmlConstants.MYBATIS3_MAPPER_PUBLIC_ID + "\" \""
+                + XmlConstants.MYBATIS3_MAPPER_SYSTEM_ID + "\">\n"
+                + "<mapper namespace=\"org.mybatis.test.OldMapper\">\n"
+                + "  <select id=\"selectWithCdata1\">\n"
+                + "    <!--\n      WARNING - @mbg.generated\n    -->\n"
+                + "    select 1\n"
+                + "  </select>\n"
+                + "  <select id=\"customSelect\">select 2</select>\n"
+                + "</mapper>\n";
+        Path existingFile = tempDir.resolve("TestMapper.xml");
+        Files.write(existingFile, existingContent.getBytes(StandardCharsets.UTF_8));
+
+        String expected = XmlFileMergerJaxp.getMergedSource(
+                new InputSource(new StringReader(generatedFile.getFormattedContent())),
+                new InputSource(new StringReader(existingContent)), "TestMapper.xml");
+
+        assertEquals(expected, XmlFileMergerJaxp.getMergedSource(generatedFile, existingFile.toFile()));
+        assertTrue(expected.contains("customSelect"));
+        assertFalse(expected.contains("select 1"));
+    }
+
+    @Test
+    public void testThatStreamingMergePreservesExistingFormatting() throws Exception {
+        String newSource = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<!DOCTYPE mapper PUBLIC \"" + XmlConstants.MYBATIS3_MAPPER_PUBLIC_ID + "\" \""
+                + XmlConstants.MYBATIS3_MAPPER_SYSTEM_ID + "\">\n"
+                + "<mapper namespace=\"org.mybatis.test.NewMapper\">\n"
+                + "  <select id=\"selectNew\">\n"
+                + "    <!--\n      WARNING - @mbg.generated\n    -->\n"
+                + "    select 1\n"
+                + "  </select>\n"
+                + "</mapper>\n";
+
+        String existingPrefix = "<?xml version='1.0' encoding='UTF-8'?>\n"
+                + "<!DOCTYPE mapper PUBLIC \"" + XmlConstants.MYBATIS3_MAPPER_PUBLIC_ID + "\" \""
+                + XmlConstants.MYBATIS3_MAPPER_SYSTEM_ID + "\">\n"
+                + "<!-- file comment -->\n";
+        String existingSource = existingPrefix
+                + "<mapper   namespace='org.mybatis.test.OldMapper' >\n"
+                + "  <select id=\"selectOld\"><!-- @mbggenerated --> select 2 </select>\n"
+                + "\t<select  resultType='int'   id=\"custom\">select 3 where a &lt; 4<![CDATA[ and <b> ]]></select>\n"
+                + "  <sql id=\"ibatorgenerated_columns\" />\n"
+                + "  <!-- hand written comment -->\n"
+                + "  <sql id='customColumns'><include refid=\"x\"/></sql>\n"
+                + "</mapper>\n";
+
+        String expected = existingPrefix
+                + "<mapper namespace=\"org.mybatis.test.NewMapper\">\n"
+                + "  <select id=\"selectNew\">\n"
+                + "    <!--\n      WARNING - @mbg.generated\n    -->\n"
+                + "    select 1\n"
+                + "  </select>\n"
+                + "\t<select  resultType='int'   id=\"custom\">select 3 where a &lt; 4<![CDATA[ and <b> ]]></select>\n"
+                + "  <!-- hand written comment -->\n"
+                + "  <sql id='customColumns'><include refid=\"x\"/></sql>\n"
+                + "</mapper>\n";
+
+        assertEquals(expected, XmlFileMergerStax.getMergedSource(newSource, existingSource, "TestMapper.xml"));
+    }
+
     private XmlElement getSqlMapElement(CommentGenerator commentGenerator) {
 
         XmlElement answer = new XmlElement("mapper");
@@ -0,0 +1,201 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.ConnectionFactory;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.JDBCConnectionConfiguration;
+import org.mybatis.generator.config.ModelType;
+
+public class ConnectionPoolTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testAcquireWaitsForRelease() throws Exception {
+        TestConnectionFactory connectionFactory = new TestConnectionFactory();
+        try (ConnectionPool pool = new ConnectionPool(connectionFactory, 1)) {
+            Connection connection = pool.acquire();
+            Future<Connection> second = executor.submit(pool::acquire);
+
+            assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+
+            pool.release(connection);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(connection);
+            assertThat(connectionFactory.connections).hasSize(1);
+        }
+    }
+
+    @Test
+    public void testPermitIsReleasedWhenConnectionFails() throws Exception {
+        TestConnectionFactory connectionFactory = new TestConnectionFactory();
+        connectionFactory.failures = 1;
+        try (ConnectionPool pool = new ConnectionPool(connectionFactory, 1)) {
+            assertThrows(SQLException.class, pool::acquire);
+
+            Connection connection = executor.submit(pool::acquire).get(5, TimeUnit.SECONDS);
+            assertThat(connection).isNotNull();
+        }
+    }
+
+    @Test
+    public void testEnsureCapacity() throws Exception {
+        TestConnectionFactory connectionFactory = new TestConnectionFactory();
+        try (ConnectionPool pool = new ConnectionPool(connectionFactory, 1)) {
+            Connection first = pool.acquire();
+
+            pool.ensureCapacity(2);
+            Connection second = executor.submit(pool::acquire).get(5, TimeUnit.SECONDS);
+            assertThat(second).isNotSameAs(first);
+            assertThat(pool.getMaxConnections()).isEqualTo(2);
+
+            pool.ensureCapacity(1);
+            assertThat(pool.getMaxConnections()).isEqualTo(2);
+            Future<Connection> third = executor.submit(pool::acquire);
+            assertThrows(TimeoutException.class, () -> third.get(200, TimeUnit.MILLISECONDS));
+
+            pool.release(first);
+            assertThat(third.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+    }
+
+    @Test
+    public void testReleaseAfterClose() throws Exception {
+        TestConnectionFactory connectionFactory = new TestConnectionFactory();
+        ConnectionPool pool = new ConnectionPool(connectionFactory, 2);
+        Connection idle = pool.acquire();
+        Connection inUse = pool.acquire();
+        pool.release(idle);
+
+        pool.close();
+        assertThat(idle.isClosed()).isTrue();
+
+        pool.release(inUse);
+        assertThat(inUse.isClosed()).isTrue();
+        assertThrows(IllegalStateException.class, pool::acquire);
+    }
+
+    @Test
+    public void testContextsConnectingToTheSameDatabaseSharePools() {
+        Context first = createContext("first", "jdbc:hsqldb:mem:aaa", "sa", "secret");
+        Context second = createContext("second", "jdbc:hsqldb:mem:aaa", "sa", "secret");
+        Context otherUser = createContext("otherUser", "jdbc:hsqldb:mem:aaa", "other", "secret");
+        Context otherUrl = createContext("otherUrl", "jdbc:hsqldb:mem:bbb", "sa", "secret");
+        Context otherPassword = createContext("otherPassword", "jdbc:hsqldb:mem:aaa", "sa", "other");
+        TestConnectionFactory connectionFactory = new TestConnectionFactory();
+
+        try (ConnectionPoolRegistry registry = new ConnectionPoolRegistry()) {
+            ConnectionPool pool = registry.getPool(first.getConnectionPoolKey(), connectionFactory, 2);
+
+            assertThat(registry.getPool(second.getConnectionPoolKey(), connectionFactory, 3)).isSameAs(pool);
+            assertThat(pool.getMaxConnections()).isEqualTo(3);
+            assertThat(registry.getPool(otherUser.getConnectionPoolKey(), connectionFactory, 2)).isNotSameAs(pool);
+            assertThat(registry.getPool(otherUrl.getConnectionPoolKey(), connectionFactory, 2)).isNotSameAs(pool);
+            assertThat(registry.getPool(otherPassword.getConnectionPoolKey(), connectionFactory, 2))
+                    .isNotSameAs(pool);
+        }
+    }
+
+    @Test
+    public void testPoolKeyDoesNotContainPassword() {
+        Context context = createContext("context", "jdbc:hsqldb:mem:aaa", "sa", "secret");
+
+        assertThat(context.getConnectionPoolKey().toString()).doesNotContain("secret");
+    }
+
+    private static Context createContext(String id, String url, String userId, String password) {
+        JDBCConnectionConfiguration jdbcConnectionConfiguration = new JDBCConnectionConfiguration();
+        jdbcConnectionConfiguration.setDriverClass("org.hsqldb.jdbcDriver");
+        jdbcConnectionConfiguration.setConnectionURL(url);
+        jdbcConnectionConfiguration.setUserId(userId);
+        jdbcConnectionConfiguration.setPassword(password);
+
+        Context context = new Context(ModelType.FLAT);
+        context.setId(id);
+        context.setJdbcConnectionConfiguration(jdbcConnectionConfiguration);
+        return context;
+    }
+
+    private static class TestConnectionFactory implements ConnectionFactory {
+        private final List<Connection> connections = new ArrayList<>();
+        private int failures;
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (failures > 0) {
+                failures--;
+                throw new SQLException("Connection refused");
+            }
+
+            Connection connection = createConnection();
+            connections.add(connection);
+            return connection;
+        }
+
+        @Override
+        public void addConfigurationProperties(Properties properties) {
+        }
+
+        private static Connection createConnection() {
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                        case "close":
+                            closed.set(true);
+                            return null;
+                        case "isClosed":
+                            return closed.get();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mybatis.generator.JavaCodeGenerationTest;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.internal.NullProgressCallback;
+
+/**
+ * Every introspection strategy must produce the same tables and columns as the
+ * default (DatabaseMetaData) strategy.
+ */
+public class IntrospectionStrategyTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"BULK", "org.mybatis.generator.internal.db.HsqldbInformationSchemaIntrospectionStrategy"})
+    public void testStrategyMatchesDefaultStrategy(String introspectionStrategy) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        List<String> defaultWarnings = new ArrayList<>();
+        List<String> defaultTables = introspect("DEFAULT", defaultWarnings);
+
+        List<String> warnings = new ArrayList<>();
+        List<String> tables = introspect(introspectionStrategy, warnings);
+
+        assertFalse(defaultTables.isEmpty());
+        assertEquals(defaultTables, tables);
+        assertEquals(defaultWarnings, warnings);
+    }
+
+    private List<String> introspect(String introspectionStrategy, List<String> warnings) throws Exception {
+        ConfigurationParser cp = new ConfigurationParser(warnings);
+        Configuration config = cp.parseConfiguration(
+                this.getClass().getResourceAsStream("/scripts/generatorConfig.xml"));
+
+        List<String> answer = new ArrayList<>();
+        for (Context context : config.getContexts()) {
+            context.addProperty(PropertyRegistry.CONTEXT_INTROSPECTION_STRATEGY, introspectionStrategy);
+            context.introspectTables(new NullProgressCallback(), warnings, null);
+
+            for (IntrospectedTable introspectedTable : context.getIntrospectedTables()) {
+                answer.add(describe(introspectedTable));
+            }
+        }
+
+        return answer;
+    }
+
+    private String describe(IntrospectedTable introspectedTable) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(introspectedTable.getFullyQualifiedTable());
+        sb.append(" remarks=").append(introspectedTable.getRemarks());
+        sb.append(" type=").append(introspectedTable.getTableType());
+
+        for (IntrospectedColumn column : introspectedTable.getPrimaryKeyColumns()) {
+            sb.append("\n  key ").append(column.getActualColumnName());
+        }
+
+        for (IntrospectedColumn column : introspectedTable.getAllColumns()) {
+            sb.append("\n  ").append(column.getActualColumnName());
+            sb.append(" jdbcType=").append(column.getJdbcType());
+            sb.append(" jdbcTypeName=").append(column.getJdbcTypeName());
+            sb.append(" javaType=").append(column.getFullyQualifiedJavaType());
+            sb.append(" property=").append(column.getJavaProperty());
+            sb.append(" length=").append(column.getLength());
+            sb.append(" scale=").append(column.getScale());
+            sb.append(" nullable=").append(column.isNullable());
+            sb.append(" remarks=").append(column.getRemarks());
+            sb.append(" default=").append(column.getDefaultValue());
+            sb.append(" autoIncrement=").append(column.isAutoIncrement());
+            sb.append(" generated=").append(column.isGeneratedColumn());
+            sb.append(" identity=").append(column.isIdentity());
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.IntrospectedTableMyBatis3Impl;
+
+public class RowBoundsPluginTest {
+
+    @Test
+    public void testElementsAreReleasedWhenTableIsFinished() {
+        RowBoundsPlugin plugin = new RowBoundsPlugin();
+        IntrospectedTable introspectedTable = new IntrospectedTableMyBatis3Impl();
+        introspectedTable.setFullyQualifiedTable(new FullyQualifiedTable(null, null, "mytable", null, null, false,
+                null, null, null, false, null, null));
+
+        plugin.tableGenerationStarted(introspectedTable);
+        XmlElement select = new XmlElement("select"); //$NON-NLS-1$
+        select.addAttribute(new Attribute("id", "selectByExample")); //$NON-NLS-1$ //$NON-NLS-2$
+        plugin.sqlMapSelectByExampleWithoutBLOBsElementGenerated(select, introspectedTable);
+
+        Document document = createDocument();
+        plugin.sqlMapDocumentGenerated(document, introspectedTable);
+        assertThat(document.getRootElement().getElements()).hasSize(1);
+
+        plugin.tableGenerationFinished(introspectedTable);
+
+        document = createDocument();
+        plugin.sqlMapDocumentGenerated(document, introspectedTable);
+        assertThat(document.getRootElement().getElements()).isEmpty();
+    }
+
+    private Document createDocument() {
+        Document document = new Document();
+        document.setRootElement(new XmlElement("mapper")); //$NON-NLS-1$
+        return document;
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.JavaCodeGenerationTest;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+
+public class GenerationEventsTest {
+
+    @Test
+    public void testFileEventsAreRecorded(@TempDir Path tempDir) throws Exception {
+        assumeFlightRecorderAvailable();
+        GeneratedXmlFile file = new GeneratedXmlFile(new Document(), "FooMapper.xml", "org.example.mapper", "src",
+                false, new DefaultXmlFormatter());
+
+        List<RecordedEvent> events;
+        try (Recording recording = startRecording()) {
+            try (GenerationEvents.Event event = GenerationEvents.writing(file)) {
+                event.setSize(1234);
+            }
+            events = stopRecording(recording, tempDir);
+        }
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getEventType().getName()).isEqualTo("org.mybatis.generator.Writing");
+        assertThat(event.getString("file")).isEqualTo("org/example/mapper/FooMapper.xml");
+        assertThat(event.getLong("bytes")).isEqualTo(1234);
+    }
+
+    @Test
+    public void testGenerationEventsAreRecorded(@TempDir Path tempDir) throws Exception {
+        assumeFlightRecorderAvailable();
+        JavaCodeGenerationTest.createDatabase();
+        List<String> warnings = new ArrayList<>();
+        Configuration config = new ConfigurationParser(warnings).parseConfiguration(
+                getClass().getResourceAsStream("/scripts/generatorConfig.xml"));
+
+        List<RecordedEvent> events;
+        try (Recording recording = startRecording()) {
+            new MyBatisGenerator(config, new DefaultShellCallback(true), warnings).generate(null, null, null, false);
+            events = stopRecording(recording, tempDir);
+        }
+
+        assertThat(events.stream().map(e -> e.getEventType().getName()).collect(Collectors.toSet()))
+                .containsExactlyInAnyOrder("org.mybatis.generator.ContextIntrospection",
+                        "org.mybatis.generator.TableIntrospection",
+                        "org.mybatis.generator.GeneratorCalculation",
+                        "org.mybatis.generator.Generator");
+        assertThat(events).filteredOn(e -> e.getEventType().getName().equals("org.mybatis.generator.Generator"))
+                .allSatisfy(e -> {
+                    assertThat(e.getString("context")).isNotEmpty();
+                    assertThat(e.getString("table")).isNotEmpty();
+                    assertThat(e.getString("generator")).isNotEmpty();
+                });
+    }
+
+    @Test
+    public void testArchiveEventsAreRecorded(@TempDir Path tempDir) throws Exception {
+        assumeFlightRecorderAvailable();
+        JavaCodeGenerationTest.createDatabase();
+        List<String> warnings = new ArrayList<>();
+        Configuration config = new ConfigurationParser(warnings).parseConfiguration(
+                getClass().getResourceAsStream("/scripts/generatorConfig.xml"));
+
+        List<RecordedEvent> events;
+        try (Recording recording = startRecording()) {
+            new MyBatisGenerator(config, new DefaultShellCallback(true), warnings).generateArchive(null,
+                    Collections.singleton("FlatJava5"), null, tempDir.resolve("generated.zip").toFile());
+            events = stopRecording(recording, tempDir);
+        }
+
+        assertThat(events).filteredOn(e -> e.getEventType().getName().equals("org.mybatis.generator.Formatting"))
+                .isNotEmpty()
+                .allSatisfy(e -> assertThat(e.getLong("characters")).isPositive());
+        assertThat(events).filteredOn(e -> e.getEventType().getName().equals("org.mybatis.generator.Writing"))
+                .isNotEmpty()
+                .allSatisfy(e -> assertThat(e.getLong("bytes")).isPositive());
+    }
+
+    private static void assumeFlightRecorderAvailable() {
+        assumeTrue(GenerationEvents.isFlightRecorderAvailable() && FlightRecorder.isAvailable());
+    }
+
+    private static Recording startRecording() {
+        Recording recording = new Recording();
+        for (String name : new String[] {"ContextIntrospection", "TableIntrospection", "GeneratorCalculation",
+                "Generator", "Formatting", "Merging", "Writing"}) {
+            recording.enable("org.mybatis.generator." + name).withoutStackTrace();
+        }
+        recording.start();
+        return recording;
+    }
+
+    private static List<RecordedEvent> stopRecording(Recording recording, Path tempDir) throws Exception {
+        recording.stop();
+        Path file = tempDir.resolve("generation.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("org.mybatis.generator."))
+                .collect(Collectors.toList());
+    }
+}
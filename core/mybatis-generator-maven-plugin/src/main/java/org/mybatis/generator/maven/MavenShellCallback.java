@@ -16,7 +16,6 @@
 package org.mybatis.generator.maven;
 
 import java.io.File;
-import java.util.StringTokenizer;
 
 import org.mybatis.generator.exception.ShellException;
 import org.mybatis.generator.internal.DefaultShellCallback;
@@ -59,14 +58,7 @@ public class MavenShellCallback extends DefaultShellCallback {
                     project.getAbsolutePath()));
         }
         
-        StringBuilder sb = new StringBuilder();
-        StringTokenizer st = new StringTokenizer(targetPackage, "."); //$NON-NLS-1$
-        while (st.hasMoreTokens()) {
-            sb.append(st.nextToken());
-            sb.append(File.separatorChar);
-        }
-        
-        File directory = new File(project, sb.toString());
+        File directory = getPackageDirectory(project, targetPackage);
         if (!directory.isDirectory()) {
             boolean rc = directory.mkdirs();
             if (!rc) {
@@ -77,4 +69,14 @@ public class MavenShellCallback extends DefaultShellCallback {
         
         return directory;
     }
+
+    @Override
+    public File findDirectory(String targetProject, String targetPackage) {
+        if (!"MAVEN".equals(targetProject)) {
+            return super.findDirectory(targetProject, targetPackage);
+        }
+
+        File directory = getPackageDirectory(mybatisGeneratorMojo.getOutputDirectory(), targetPackage);
+        return directory.isDirectory() ? directory : null;
+    }
 }
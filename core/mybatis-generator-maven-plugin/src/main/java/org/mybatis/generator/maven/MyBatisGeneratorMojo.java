@@ -35,11 +35,8 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 import org.mybatis.generator.api.MyBatisGenerator;
 import org.mybatis.generator.api.ShellCallback;
-import org.mybatis.generator.config.Configuration;
-import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.XMLParserException;
-import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.util.ClassloaderUtility;
 import org.mybatis.generator.internal.util.StringUtility;
 import org.mybatis.generator.internal.util.messages.Messages;
@@ -89,6 +86,21 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
     @Parameter(property = "mybatis.generator.overwrite", defaultValue = "false")
     private boolean overwrite;
 
+    /**
+     * If specified, then all generated files are written into this zip or jar file
+     * instead of the target projects, and existing files are never merged. The output
+     * directory is not added to the project when an archive is written.
+     */
+    @Parameter(property = "mybatis.generator.archive")
+    private File archive;
+
+    /**
+     * If specified, then the time and memory used by each phase, table, generator and
+     * plugin hook are written to this file as JSON.
+     */
+    @Parameter(property = "mybatis.generator.metrics")
+    private File metrics;
+
     /**
      * Location of a SQL script file to run before generating code. If null,
      * then no script will be run. If not null, then jdbcDriver, jdbcURL must be
@@ -171,14 +183,16 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
         // add resource directories to the classpath.  This is required to support
         // use of a properties file in the build.  Typically, the properties file
         // is in the project's source tree, but the plugin classpath does not
-        // include the project classpath.
+        // include the project classpath.  The class loader is set on this thread
+        // only, so that parallel builds in the same JVM do not see each other's
+        // resources.
         List<Resource> resources = project.getResources();
         List<String> resourceDirectories = new ArrayList<>();
         for (Resource resource: resources) {
             resourceDirectories.add(resource.getDirectory());
         }
         ClassLoader cl = ClassloaderUtility.getCustomClassloader(resourceDirectories);
-        ObjectFactory.addExternalClassLoader(cl);
+        Thread.currentThread().setContextClassLoader(cl);
 
         if (configurationFile == null) {
             throw new MojoExecutionException(
@@ -217,17 +231,11 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
         }
 
         try {
-            ConfigurationParser cp = new ConfigurationParser(
-                    project.getProperties(), warnings);
-            Configuration config = cp.parseConfiguration(configurationFile);
-
             ShellCallback callback = new MavenShellCallback(this, overwrite);
 
-            MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config,
-                    callback, warnings);
-
-            myBatisGenerator.generate(new MavenProgressCallback(getLog(),
-                    verbose), contextsToRun, fullyqualifiedTables);
+            MyBatisGenerator.run(configurationFile, project.getProperties(), warnings, callback,
+                    new MavenProgressCallback(getLog(), verbose), contextsToRun,
+                    fullyqualifiedTables, archive, metrics);
 
         } catch (XMLParserException e) {
             for (String error : e.getErrors()) {
@@ -253,7 +261,7 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
             getLog().warn(error);
         }
 
-        if (project != null && outputDirectory != null
+        if (project != null && archive == null && outputDirectory != null
                 && outputDirectory.exists()) {
             project.addCompileSourceRoot(outputDirectory.getAbsolutePath());
 